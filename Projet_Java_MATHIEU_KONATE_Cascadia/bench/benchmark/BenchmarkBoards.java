@@ -0,0 +1,104 @@
+package benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import board.Board;
+import board.FaunaToken;
+import board.PlacementResult;
+import board.Tile;
+import game.Game;
+import model.Animal;
+import player.ManagementPlayers;
+import player.Player;
+
+/**
+ * Builds the boards used by the benchmarks.
+ * <p>
+ * The boards are filled like in a game: the tiles come from the shuffled tiles of a game,
+ * each one is added on a random cell of the frontier, rotated randomly on hexagonal boards,
+ * then a random fauna token is placed on a tile accepting it when there is one.
+ * The same seed always gives the same boards.
+ * </p>
+ */
+final class BenchmarkBoards {
+
+  private static final Animal[] ANIMALS = Animal.values();
+
+  private BenchmarkBoards() {
+  }
+
+  /**
+   * Gets the shuffled tiles of a game.
+   *
+   * @param istilesquare true for square tiles, false for hexagonal tiles
+   * @param seed the seed of the game
+   * @return all the tiles of the game
+   * @throws IOException if the files of the tiles cannot be read
+   */
+  static List<Tile> tiles(boolean istilesquare, long seed) throws IOException {
+    var game = new Game(istilesquare, seed);
+    game.initializeGame(1);
+    return game.getAllTiles();
+  }
+
+  /**
+   * Builds a board.
+   *
+   * @param nbtiles the number of tiles of the board, including the three starting tiles
+   * @param istilesquare true for square tiles, false for hexagonal tiles
+   * @param seed the seed of the random choices
+   * @return a new board
+   * @throws IOException if the files of the tiles cannot be read
+   */
+  static Board board(int nbtiles, boolean istilesquare, long seed) throws IOException {
+    var tiles = tiles(istilesquare, seed);
+    var random = new SplittableRandom(seed);
+    var board = new Board(5);
+    for(int i = 0; board.getNbTiles() < nbtiles; i++) {
+      var tile = tiles.get(i % tiles.size()).copy();
+      if(!istilesquare) {
+        for(int rotation = random.nextInt(6); rotation > 0; rotation--) {
+          tile.hexagonalRotation();
+        }
+      }
+      var cell = random.nextInt(board.frontierSize(istilesquare));
+      placed(board.tilePlacement(tile, board.frontierX(cell, istilesquare), board.frontierY(cell, istilesquare), istilesquare));
+      var animal = ANIMALS[random.nextInt(ANIMALS.length)];
+      if(board.faunaTargetCount(animal) > 0) {
+        var target = random.nextInt(board.faunaTargetCount(animal));
+        placed(board.faunaTokenPlacement(new FaunaToken(animal), board.faunaTargetX(animal, target), board.faunaTargetY(animal, target)));
+      }
+    }
+    return board;
+  }
+
+  /**
+   * Checks that a placement on a free position of the board has been done.
+   */
+  private static void placed(PlacementResult result) {
+    if(!result.isPlaced()) {
+      throw new IllegalStateException("Placement impossible : " + result);
+    }
+  }
+
+  /**
+   * Creates four players with boards of the same number of tiles.
+   *
+   * @param nbtiles the number of tiles of each board
+   * @param istilesquare true for square tiles, false for hexagonal tiles
+   * @param seed the seed of the random choices
+   * @return the players
+   * @throws IOException if the files of the tiles cannot be read
+   */
+  static ManagementPlayers players(int nbtiles, boolean istilesquare, long seed) throws IOException {
+    var players = new ManagementPlayers();
+    for(int i = 0; i < 4; i++) {
+      var player = new Player("Joueur " + (i + 1), 5);
+      player.SetEnv(board(nbtiles, istilesquare, seed + i));
+      players.add(player);
+    }
+    return players;
+  }
+}
@@ -0,0 +1,115 @@
+package benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import board.Board;
+import board.FaunaToken;
+import board.Tile;
+import listener.EngineListener;
+import listener.EngineListeners;
+import model.Animal;
+
+/**
+ * Measures the placement of a tile and of a fauna token on boards of 20, 40 and 80 tiles.
+ * <p>
+ * Each invocation works on a fresh copy of the board, made before the measured call,
+ * so the board does not fill up during the benchmark.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+
+  private static final Animal[] ANIMALS = Animal.values();
+
+  @Param({"20", "40", "80"})
+  public int tiles;
+
+  @Param({"true", "false"})
+  public boolean square;
+
+  private Board base;
+  private List<Tile> pool;
+  private SplittableRandom random;
+
+  private Board board;
+  private Tile tile;
+  private int tilex;
+  private int tiley;
+  private FaunaToken token;
+  private int tokenx;
+  private int tokeny;
+
+  /**
+   * Builds the board of the benchmark.
+   *
+   * @throws IOException if the files of the tiles cannot be read
+   */
+  @Setup(Level.Trial)
+  public void setupTrial() throws IOException {
+    EngineListeners.set(EngineListener.NONE);
+    base = BenchmarkBoards.board(tiles, square, 1);
+    pool = BenchmarkBoards.tiles(square, 2);
+    random = new SplittableRandom(3);
+  }
+
+  /**
+   * Copies the board and chooses the next tile, token and positions.
+   */
+  @Setup(Level.Invocation)
+  public void setupInvocation() {
+    board = base.copy();
+    tile = pool.get(random.nextInt(pool.size())).copy();
+    var cell = random.nextInt(board.frontierSize(square));
+    tilex = board.frontierX(cell, square);
+    tiley = board.frontierY(cell, square);
+    var animal = ANIMALS[random.nextInt(ANIMALS.length)];
+    while(board.faunaTargetCount(animal) == 0) {
+      animal = ANIMALS[random.nextInt(ANIMALS.length)];
+    }
+    var target = random.nextInt(board.faunaTargetCount(animal));
+    token = new FaunaToken(animal);
+    tokenx = board.faunaTargetX(animal, target);
+    tokeny = board.faunaTargetY(animal, target);
+  }
+
+  /**
+   * Adds a tile on a free cell of the frontier.
+   *
+   * @return true if the tile was added
+   */
+  @Benchmark
+  public boolean addTile() {
+    return board.addTile(tile, tilex, tiley, square);
+  }
+
+  /**
+   * Places a fauna token on a tile accepting it.
+   *
+   * @return true if the token was placed
+   */
+  @Benchmark
+  public boolean placeFaunaToken() {
+    return board.placeFaunaToken(token, tokenx, tokeny);
+  }
+}
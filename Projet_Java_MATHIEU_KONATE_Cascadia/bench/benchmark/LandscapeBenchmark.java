@@ -0,0 +1,81 @@
+package benchmark;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import card.CartdScoreLandscape;
+import listener.EngineListener;
+import listener.EngineListeners;
+import model.Landscape;
+import player.ManagementPlayers;
+import player.Player;
+
+/**
+ * Measures the scoring of the corridors of the landscapes and the majority bonus of four players.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LandscapeBenchmark {
+
+  @Param({"20", "40", "80"})
+  public int tiles;
+
+  @Param({"true", "false"})
+  public boolean square;
+
+  private CartdScoreLandscape landscapes;
+  private ManagementPlayers players;
+  private Player player;
+
+  /**
+   * Builds the boards of the benchmark.
+   *
+   * @throws IOException if the files of the tiles cannot be read
+   */
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    EngineListeners.set(EngineListener.NONE);
+    landscapes = new CartdScoreLandscape(square);
+    players = BenchmarkBoards.players(tiles, square, 1);
+    player = players.getPlayerI(0);
+  }
+
+  /**
+   * Counts the largest corridor of each landscape for a player.
+   *
+   * @return the size of the corridors
+   */
+  @Benchmark
+  public Map<Landscape,Integer> compterScore() {
+    return landscapes.CompterScore(player);
+  }
+
+  /**
+   * Gives the majority bonus to four players.
+   *
+   * @return the score of the first player
+   */
+  @Benchmark
+  public int bonusMajorite() {
+    players.BonusMajorite(square);
+    return player.getScore();
+  }
+}
@@ -0,0 +1,106 @@
+package benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import card.CardOurs;
+import card.CardRenard;
+import card.CardSaumon;
+import card.ManagementCard;
+import game.Save;
+import listener.EngineListener;
+import listener.EngineListeners;
+import player.ManagementPlayers;
+
+/**
+ * Measures the save and the load of a game of four players, in the text and binary formats.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaveBenchmark {
+
+  @Param({"20", "40", "80"})
+  public int tiles;
+
+  @Param({"true", "false"})
+  public boolean square;
+
+  @Param({"text", "binary"})
+  public String format;
+
+  private Save save;
+  private Path file;
+  private Path loaded;
+
+  /**
+   * Builds the game and writes the file read by the load benchmark.
+   *
+   * @throws IOException if the files of the tiles cannot be read or the temporary files cannot be created
+   */
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    EngineListeners.set(EngineListener.NONE);
+    var cards = new ManagementCard();
+    cards.addCard(new CardOurs(1, square));
+    cards.addCard(new CardRenard(2, square));
+    cards.addCard(new CardSaumon(3, square));
+    save = new Save(10, cards, BenchmarkBoards.players(tiles, square, 1), square, 1);
+    file = Files.createTempFile("cascadia", ".sav");
+    loaded = Files.createTempFile("cascadia", ".sav");
+    save.saveInFile(loaded.toString(), format.equals("binary"));
+  }
+
+  /**
+   * Deletes the temporary files.
+   *
+   * @throws IOException if a temporary file cannot be deleted
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+    Files.deleteIfExists(loaded);
+  }
+
+  /**
+   * Saves the game.
+   *
+   * @return the saved game
+   */
+  @Benchmark
+  public Save save() {
+    save.saveInFile(file.toString(), format.equals("binary"));
+    return save;
+  }
+
+  /**
+   * Loads the game.
+   *
+   * @return the loaded players
+   */
+  @Benchmark
+  public ManagementPlayers load() {
+    var players = new ManagementPlayers();
+    new Save(0, new ManagementCard(), players, true, 0).load(loaded.toString());
+    return players;
+  }
+}
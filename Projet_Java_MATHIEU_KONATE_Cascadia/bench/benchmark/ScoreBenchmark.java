@@ -0,0 +1,89 @@
+package benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import card.Card;
+import card.CardAigle;
+import card.CardOurs;
+import card.CardRenard;
+import card.CardSaumon;
+import card.CardVariante;
+import card.CardWapiti;
+import listener.EngineListener;
+import listener.EngineListeners;
+import player.Player;
+
+/**
+ * Measures the scoring of a board with each scoring card.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreBenchmark {
+
+  @Param({"20", "40", "80"})
+  public int tiles;
+
+  @Param({"true", "false"})
+  public boolean square;
+
+  /**
+   * The card to measure, as the type of the card and its choice.
+   */
+  @Param({"ours:1", "ours:2", "ours:3", "aigle:1", "aigle:2", "aigle:3", "renard:1", "renard:2", "renard:3",
+          "saumon:1", "saumon:2", "saumon:3", "wapiti:1", "wapiti:2", "wapiti:3", "variante:1", "variante:2"})
+  public String card;
+
+  private Card scoringcard;
+  private Player player;
+
+  /**
+   * Builds the boards and the card of the benchmark.
+   *
+   * @throws IOException if the files of the tiles cannot be read
+   */
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    EngineListeners.set(EngineListener.NONE);
+    var fields = card.split(":");
+    var choice = Integer.parseInt(fields[1]);
+    scoringcard = switch(fields[0]) {
+      case "ours" -> new CardOurs(choice, square);
+      case "aigle" -> new CardAigle(choice, square);
+      case "renard" -> new CardRenard(choice, square);
+      case "saumon" -> new CardSaumon(choice, square);
+      case "wapiti" -> new CardWapiti(choice, square);
+      case "variante" -> new CardVariante(choice, square);
+      default -> throw new IllegalArgumentException("Carte inconnue : " + card);
+    };
+    player = BenchmarkBoards.players(tiles, square, 1).getPlayerI(0);
+  }
+
+  /**
+   * Counts the points of the card for a player.
+   *
+   * @return the score of the player, which grows at each call
+   */
+  @Benchmark
+  public int counterScore() {
+    scoringcard.counterScore(player);
+    return player.getScore();
+  }
+}
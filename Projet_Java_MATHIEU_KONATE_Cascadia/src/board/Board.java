@@ -1,11 +1,18 @@
 package board;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
 
+import listener.EngineListeners;
 import model.Angle;
 import model.Animal;
 import model.Landscape;
@@ -13,26 +20,128 @@ import model.Pos;
 
 /**
  * Represents the game board where tiles and fauna tokens are placed.
+ * <p>
+ * The cells are stored in a flat array in row-major order. The array covers the
+ * positions from ({@code minx},{@code miny}) to ({@code minx+size-1},{@code miny+size-1}),
+ * the cell (x,y) being at index {@code (x-minx) * size + (y-miny)}.
+ * When a tile is placed too close to an edge, the array doubles its size in all
+ * four directions and the origin is moved, so the coordinates of the tiles
+ * already placed never change.
+ * </p>
+ * <p>
+ * Every placed tile also gets a node number, in the order of placement, used to
+ * maintain the corridors of each landscape and the groups of fauna tokens
+ * incrementally for both square and hexagonal tiles. The board also maintains
+ * the empty cells next to the placed tiles and, for each animal, the tiles that
+ * can still receive a token, so the legal moves are enumerated without scanning
+ * the whole board.
+ * </p>
+ * <p>
+ * A 64-bit Zobrist hash of the tiles, their orientation and their fauna tokens is
+ * updated at each placement and rotation, so two boards holding the same tiles at the
+ * same positions have the same hash whatever the order in which they were placed.
+ * </p>
  */
-public class Board {
+public final class Board {
+  
+  /**
+   * Minimal number of empty rows and columns kept between a tile and the edges of the board.
+   */
+  private static final int MARGIN = 2;
  
-  private HashMap<Pos,Tile> env;
+  private Tile[] cells;
   private int size;
+  private int minx;
+  private int miny;
+  private int tileminx = Integer.MAX_VALUE;
+  private int tilemaxx = Integer.MIN_VALUE;
+  private int tileminy = Integer.MAX_VALUE;
+  private int tilemaxy = Integer.MIN_VALUE;
+  private final Map<Pos,Tile> env = new EnvView();
+  private int[] nodes;
+  private int nbnodes;
+  private int[] nodex = new int[16];
+  private int[] nodey = new int[16];
+  private final HabitatCorridors squarecorridors = new HabitatCorridors(true);
+  private final HabitatCorridors hexagonalcorridors = new HabitatCorridors(false);
+  private final FaunaGroups squaregroups = new FaunaGroups(true);
+  private final FaunaGroups hexagonalgroups = new FaunaGroups(false);
+  private final PlacementFrontier squarefrontier;
+  private final PlacementFrontier hexagonalfrontier;
+  private final FaunaTargets targets = new FaunaTargets();
+  private long hash;
   
   /**
    * Creates a new board with a specified size and initializes it.
    * 
-   * @param size the size of the board
+   * @param size the initial size of the board
    */
   public Board(int size) {
     this.size = size;
-    env = new HashMap<>();
-    initializeEnv();
+    cells = new Tile[size * size];
+    nodes = new int[size * size];
+    squarefrontier = new PlacementFrontier(true, size * size);
+    hexagonalfrontier = new PlacementFrontier(false, size * size);
     addHabitatIdeal();
   }
   
   /**
-   * Gets the size of the board.
+   * Creates a copy of a board. The tiles are copied in the order they were placed.
+   * 
+   * @param board the board to copy
+   */
+  private Board(Board board) {
+    size = board.size;
+    minx = board.minx;
+    miny = board.miny;
+    cells = new Tile[size * size];
+    nodes = new int[size * size];
+    squarefrontier = new PlacementFrontier(true, size * size);
+    hexagonalfrontier = new PlacementFrontier(false, size * size);
+    for(int node = 0; node < board.nbnodes; node++) {
+      var x = board.nodex[node];
+      var y = board.nodey[node];
+      put(x, y, board.tileAt(x, y).copy());
+    }
+  }
+  
+  /**
+   * Creates a deep copy of the board. The tiles of the copy can be modified
+   * without changing this board, so the copy can be used to try moves.
+   * 
+   * @return a new board equal to this board
+   */
+  public Board copy() {
+    return new Board(this);
+  }
+  
+  /**
+   * Gets the number of tiles placed on the board.
+   * 
+   * @return the number of tiles
+   */
+  public int getNbTiles() {
+    return nbnodes;
+  }
+  
+  /**
+   * Gets the Zobrist hash of the board.
+   * <p>
+   * The hash covers the landscapes, animals, orientation and fauna token of every tile
+   * and its position, and does not depend on the order of placement, so it can be used
+   * to recognize the same position reached by different moves. The tiles already placed
+   * must be rotated with {@link #rotateTile(int, int)} and receive their token through
+   * the board for the hash to stay up to date.
+   * </p>
+   * 
+   * @return the hash of the tiles of the board
+   */
+  public long zobristHash() {
+    return hash;
+  }
+  
+  /**
+   * Gets the size of the board, the number of rows and columns currently allocated.
    * 
    * @return the size of the board
    */
@@ -41,7 +150,44 @@ public class Board {
   }
   
   /**
-   * Gets the map of positions and tiles on the board.
+   * Gets the smallest x-coordinate inside the board.
+   * 
+   * @return the smallest x-coordinate
+   */
+  public int getMinX() {
+    return minx;
+  }
+  
+  /**
+   * Gets the smallest y-coordinate inside the board.
+   * 
+   * @return the smallest y-coordinate
+   */
+  public int getMinY() {
+    return miny;
+  }
+  
+  /**
+   * Gets the x-coordinate just after the last row of the board.
+   * 
+   * @return the exclusive upper bound of the x-coordinates
+   */
+  public int getMaxX() {
+    return minx + size;
+  }
+  
+  /**
+   * Gets the y-coordinate just after the last column of the board.
+   * 
+   * @return the exclusive upper bound of the y-coordinates
+   */
+  public int getMaxY() {
+    return miny + size;
+  }
+  
+  /**
+   * Gets a read-only view of the positions and tiles on the board.
+   * Every cell of the board is a key of the map, empty cells being mapped to null.
    * 
    * @return a map representing the environment of the board
    */
@@ -49,25 +195,360 @@ public class Board {
     return env;
   }
   
+  /**
+   * Gets the tile at a specific position without allocating anything.
+   * 
+   * @param x the x-coordinate
+   * @param y the y-coordinate
+   * @return the tile at this position, or null if the cell is empty or outside the board
+   */
+  public Tile tileAt(int x, int y) {
+    if(!isInside(x, y)) {
+      return null;
+    }
+    return cells[index(x, y)];
+  }
+  
+  /**
+   * Gets the node number of the tile at a specific position.
+   * 
+   * @param x the x-coordinate
+   * @param y the y-coordinate
+   * @return the node number of the tile, or -1 if there is no tile at this position
+   */
+  int nodeAt(int x, int y) {
+    if(!isInside(x, y)) {
+      return -1;
+    }
+    return nodes[index(x, y)] - 1;
+  }
+  
+  /**
+   * Gets the x-coordinate of the tile of a node.
+   * 
+   * @param node the node number
+   * @return the x-coordinate of the tile
+   */
+  int nodeX(int node) {
+    return nodex[node];
+  }
+  
+  /**
+   * Gets the y-coordinate of the tile of a node.
+   * 
+   * @param node the node number
+   * @return the y-coordinate of the tile
+   */
+  int nodeY(int node) {
+    return nodey[node];
+  }
+  
+  /**
+   * Checks if a position is inside the board.
+   * 
+   * @param x the x-coordinate
+   * @param y the y-coordinate
+   * @return true if the position is inside the board, false otherwise
+   */
+  public boolean isInside(int x, int y) {
+    return x >= minx && y >= miny && x < minx + size && y < miny + size;
+  }
+  
+  /**
+   * Computes the index of a position inside the array of cells.
+   * 
+   * @param x the x-coordinate
+   * @param y the y-coordinate
+   * @return the index of the cell
+   */
+  int index(int x, int y) {
+    return (x - minx) * size + (y - miny);
+  }
+  
   /**
    * Sets a new environment for the board.
+   * The cells keep their number and are centered on the tiles of the environment, so a board
+   * loaded with the size it was saved with does not grow. The board grows if the tiles do not fit.
    * 
    * @param env the new environment to set
    */
-  public void setPlateau(HashMap<Pos,Tile> env) {
+  public void setPlateau(Map<Pos,Tile> env) {
     Objects.requireNonNull(env);
-    this.env = env; 
+    var envminx = Integer.MAX_VALUE;
+    var envmaxx = Integer.MIN_VALUE;
+    var envminy = Integer.MAX_VALUE;
+    var envmaxy = Integer.MIN_VALUE;
+    for(var entry : env.entrySet()) {
+      if(entry.getValue() != null) {
+        envminx = Math.min(envminx, entry.getKey().x());
+        envmaxx = Math.max(envmaxx, entry.getKey().x());
+        envminy = Math.min(envminy, entry.getKey().y());
+        envmaxy = Math.max(envmaxy, entry.getKey().y());
+      }
+    }
+    if(envminx <= envmaxx) {
+      minx = envminx - Math.floorDiv(size - (envmaxx - envminx + 1), 2);
+      miny = envminy - Math.floorDiv(size - (envmaxy - envminy + 1), 2);
+    }
+    cells = new Tile[size * size];
+    nodes = new int[size * size];
+    nbnodes = 0;
+    squarecorridors.clear();
+    hexagonalcorridors.clear();
+    squaregroups.clear();
+    hexagonalgroups.clear();
+    squarefrontier.clear(size * size);
+    hexagonalfrontier.clear(size * size);
+    targets.clear();
+    hash = 0;
+    tileminx = Integer.MAX_VALUE;
+    tilemaxx = Integer.MIN_VALUE;
+    tileminy = Integer.MAX_VALUE;
+    tilemaxy = Integer.MIN_VALUE;
+    for(var entry : env.entrySet()) {
+      var pos = entry.getKey();
+      if(entry.getValue() != null) {
+        put(pos.x(), pos.y(), entry.getValue());
+      }
+    }
+  }
+  
+  /**
+   * Puts a tile on a cell, growing the board first if the tile would be too close to an edge.
+   * 
+   * @param x the x-coordinate
+   * @param y the y-coordinate
+   * @param tile the tile to put
+   */
+  private void put(int x, int y, Tile tile) {
+    while(x - minx < MARGIN || y - miny < MARGIN || minx + size - 1 - x < MARGIN || miny + size - 1 - y < MARGIN) {
+      grow();
+    }
+    cells[index(x, y)] = tile;
+    if(nbnodes == nodex.length) {
+      nodex = Arrays.copyOf(nodex, nbnodes * 2);
+      nodey = Arrays.copyOf(nodey, nbnodes * 2);
+    }
+    nodex[nbnodes] = x;
+    nodey[nbnodes] = y;
+    nodes[index(x, y)] = ++nbnodes;
+    hash ^= Zobrist.tile(x, y, tile);
+    squarefrontier.add(this, x, y);
+    hexagonalfrontier.add(this, x, y);
+    if(squarecorridors.isValid()) {
+      squarecorridors.add(this, nbnodes - 1, x, y);
+    }
+    if(hexagonalcorridors.isValid()) {
+      hexagonalcorridors.add(this, nbnodes - 1, x, y);
+    }
+    if(tile.getfaunatoken() != null) {
+      addToGroups(nbnodes - 1, x, y, tile.getfaunatoken().token());
+    }else {
+      targets.add(nbnodes - 1, tile);
+    }
+    tileminx = Math.min(tileminx, x);
+    tilemaxx = Math.max(tilemaxx, x);
+    tileminy = Math.min(tileminy, y);
+    tilemaxy = Math.max(tilemaxy, y);
+  }
+  
+  /**
+   * Doubles the size of the board, adding the same number of rows and columns on each side.
+   * Only the array is reallocated, the coordinates of the tiles do not change.
+   */
+  private void grow() {
+    var newsize = Math.max(1, size * 2);
+    var shift = (newsize - size) / 2;
+    var newcells = new Tile[newsize * newsize];
+    var newnodes = new int[newsize * newsize];
+    for(int i = 0; i < size; i++) {
+      System.arraycopy(cells, i * size, newcells, (i + shift) * newsize + shift, size);
+      System.arraycopy(nodes, i * size, newnodes, (i + shift) * newsize + shift, size);
+    }
+    squarefrontier.grow(size, newsize, shift);
+    hexagonalfrontier.grow(size, newsize, shift);
+    minx -= shift;
+    miny -= shift;
+    size = newsize;
+    cells = newcells;
+    nodes = newnodes;
+  }
+  
+  /**
+   * Gets the corridors of the board, rebuilding them first if a tile has been rotated.
+   * The rebuild holds the lock of the corridors, so several scoring tasks can read the same board.
+   * 
+   * @param istilesquare true if the game uses square tiles, false for hexagonal tiles
+   * @return the up to date corridors
+   */
+  private HabitatCorridors corridors(boolean istilesquare) {
+    var corridors = istilesquare ? squarecorridors : hexagonalcorridors;
+    synchronized(corridors) {
+      if(!corridors.isValid()) {
+        corridors.clear();
+        for(int node = 0; node < nbnodes; node++) {
+          corridors.add(this, node, nodex[node], nodey[node]);
+        }
+      }
+    }
+    return corridors;
+  }
+  
+  /**
+   * Gets the number of tiles of the largest corridor of a landscape.
+   * A corridor is a group of connected tiles sharing this landscape.
+   * 
+   * @param landscape the landscape
+   * @param istilesquare true if the game uses square tiles, false for hexagonal tiles
+   * @return the size of the largest corridor, 0 if the landscape is not on the board
+   */
+  public int largestCorridor(Landscape landscape, boolean istilesquare) {
+    Objects.requireNonNull(landscape);
+    return corridors(istilesquare).largest(landscape);
+  }
+  
+  /**
+   * Registers a fauna token in the groups of both kinds of tiles,
+   * and removes its tile from the tiles that can receive a token.
+   * 
+   * @param node the node of the tile holding the token
+   * @param x the x-coordinate of the tile
+   * @param y the y-coordinate of the tile
+   * @param animal the animal of the token
+   */
+  private void addToGroups(int node, int x, int y, Animal animal) {
+    squaregroups.add(this, node, x, y, animal);
+    hexagonalgroups.add(this, node, x, y, animal);
+    targets.remove(node);
+  }
+  
+  /**
+   * Gets the number of tokens of the group containing the fauna token at a specific position.
+   * A group is a set of connected tiles holding the same animal.
+   * 
+   * @param x the x-coordinate
+   * @param y the y-coordinate
+   * @param istilesquare true if the game uses square tiles, false for hexagonal tiles
+   * @return the size of the group, 0 if there is no fauna token at this position
+   */
+  public int faunaGroupSize(int x, int y, boolean istilesquare) {
+    return (istilesquare ? squaregroups : hexagonalgroups).groupSize(nodeAt(x, y));
+  }
+  
+  /**
+   * Gets the groups of fauna tokens of a kind of tiles, laid out if a token has been added since the last layout.
+   * The layout is checked without locking, and is rebuilt by a single thread when the cards are evaluated in parallel.
+   * 
+   * @param istilesquare true if the game uses square tiles, false for hexagonal tiles
+   * @return the up to date groups
+   */
+  private FaunaGroups groups(boolean istilesquare) {
+    var groups = istilesquare ? squaregroups : hexagonalgroups;
+    if(!groups.isLaidOut()) {
+      synchronized(groups) {
+        if(!groups.isLaidOut()) {
+          groups.layout(this);
+        }
+      }
+    }
+    return groups;
+  }
+  
+  /**
+   * Gets the number of groups of connected fauna tokens of an animal.
+   * With {@link #faunaGroupSize(Animal, int, boolean)}, {@link #faunaGroupX(Animal, int, int, boolean)} and
+   * {@link #faunaGroupY(Animal, int, int, boolean)}, the groups are read without allocating anything.
+   * The groups are sorted by their first member, the members of each group being sorted row by row.
+   * 
+   * @param animal the animal
+   * @param istilesquare true if the game uses square tiles, false for hexagonal tiles
+   * @return the number of groups of this animal
+   */
+  public int faunaGroupCount(Animal animal, boolean istilesquare) {
+    Objects.requireNonNull(animal);
+    return groups(istilesquare).groupCount(animal);
   }
   
   /**
-   * Initializes the board by creating empty positions.
+   * Gets the number of tokens of a group of connected fauna tokens.
+   * 
+   * @param animal the animal
+   * @param group the index of the group, between 0 and {@link #faunaGroupCount(Animal, boolean)} excluded
+   * @param istilesquare true if the game uses square tiles, false for hexagonal tiles
+   * @return the number of tokens of the group
    */
-  private void initializeEnv() {
-    for(int i =0;i<size;i++) {
-      for(int j=0;j<size;j++) {
-        env.put(new Pos(i,j), null);
+  public int faunaGroupSize(Animal animal, int group, boolean istilesquare) {
+    Objects.checkIndex(group, faunaGroupCount(animal, istilesquare));
+    return groups(istilesquare).groupSize(animal, group);
+  }
+  
+  /**
+   * Gets the x-coordinate of a member of a group of connected fauna tokens.
+   * 
+   * @param animal the animal
+   * @param group the index of the group, between 0 and {@link #faunaGroupCount(Animal, boolean)} excluded
+   * @param member the index of the member, between 0 and {@link #faunaGroupSize(Animal, int, boolean)} excluded
+   * @param istilesquare true if the game uses square tiles, false for hexagonal tiles
+   * @return the x-coordinate of the tile holding the member
+   */
+  public int faunaGroupX(Animal animal, int group, int member, boolean istilesquare) {
+    Objects.checkIndex(member, faunaGroupSize(animal, group, istilesquare));
+    return nodex[groups(istilesquare).member(animal, group, member)];
+  }
+  
+  /**
+   * Gets the y-coordinate of a member of a group of connected fauna tokens.
+   * 
+   * @param animal the animal
+   * @param group the index of the group, between 0 and {@link #faunaGroupCount(Animal, boolean)} excluded
+   * @param member the index of the member, between 0 and {@link #faunaGroupSize(Animal, int, boolean)} excluded
+   * @param istilesquare true if the game uses square tiles, false for hexagonal tiles
+   * @return the y-coordinate of the tile holding the member
+   */
+  public int faunaGroupY(Animal animal, int group, int member, boolean istilesquare) {
+    Objects.checkIndex(member, faunaGroupSize(animal, group, istilesquare));
+    return nodey[groups(istilesquare).member(animal, group, member)];
+  }
+  
+  /**
+   * Gets the groups of connected fauna tokens of an animal as lists of positions.
+   * The positions of each group are sorted row by row, and the groups are sorted by their first position.
+   * The lists are created at each call, the scoring cards read the groups by index instead.
+   * 
+   * @param animal the animal
+   * @param istilesquare true if the game uses square tiles, false for hexagonal tiles
+   * @return the list of the groups, each group being the list of its positions
+   */
+  public List<List<Pos>> faunaGroups(Animal animal, boolean istilesquare) {
+    var groups = new ArrayList<List<Pos>>(faunaGroupCount(animal, istilesquare));
+    for(int group = 0; group < faunaGroupCount(animal, istilesquare); group++) {
+      var members = new ArrayList<Pos>(faunaGroupSize(animal, group, istilesquare));
+      for(int member = 0; member < faunaGroupSize(animal, group, istilesquare); member++) {
+        members.add(new Pos(faunaGroupX(animal, group, member, istilesquare), faunaGroupY(animal, group, member, istilesquare)));
       }
+      groups.add(List.copyOf(members));
     }
+    return List.copyOf(groups);
+  }
+  
+  /**
+   * Rotates the hexagonal tile placed at a specific position.
+   * The tiles already placed must be rotated with this method so that the corridors stay up to date.
+   * 
+   * @param x the x-coordinate
+   * @param y the y-coordinate
+   * @return true if a tile was rotated, false if there is no tile at this position
+   */
+  public boolean rotateTile(int x, int y) {
+    var tile = tileAt(x, y);
+    if(tile == null) {
+      return false;
+    }
+    hash ^= Zobrist.orientation(x, y, tile);
+    tile.hexagonalRotation();
+    hash ^= Zobrist.orientation(x, y, tile);
+    hexagonalcorridors.invalidate();
+    return true;
   }
 
   /**
@@ -79,54 +560,110 @@ public class Board {
     landscapes1.put(Landscape.MONTAGNE, Angle.NULL); 
     var animaux1 = new ArrayList<Animal>();
     animaux1.add(Animal.OURS);
-    env.put(new Pos(mid-1, mid-1),new Tile(landscapes1, animaux1));
+    put(mid - 1, mid - 1, new Tile(landscapes1, animaux1));
     var landscapes2 = new LinkedHashMap<Landscape, Angle>();
     landscapes2.put(Landscape.MARAIS, Angle.NULL);
     var animaux2 = new ArrayList<Animal>();
     animaux2.add(Animal.AIGLE);
     animaux2.add(Animal.WAPITI);
     animaux2.add(Animal.RENARD);
-    env.put(new Pos(mid - 1, mid), new Tile(landscapes2, animaux2));
+    put(mid - 1, mid, new Tile(landscapes2, animaux2));
     var landscapes3 =  new LinkedHashMap<Landscape, Angle>();
     landscapes3.put(Landscape.RIVIERE, Angle.NULL); 
     var animaux3 = new ArrayList<Animal>();
     animaux3.add(Animal.SAUMON);
     animaux3.add(Animal.OURS);
-    env.put(new Pos(mid, mid - 1), new Tile(landscapes3, animaux3));
+    put(mid, mid - 1, new Tile(landscapes3, animaux3));
   }
 
 
   /**
-   * Checks if a position is contiguous to another tile on the board.
+   * Gets the frontier of the board for a kind of tiles.
    * 
-   * @param x the x-coordinate
-   * @param y the y-coordinate
    * @param istilesquare true if the game uses square tiles, false for hexagonal tiles
-   * @return true if the position is contiguous, false otherwise
-   */
-  private boolean isContiguous(int x, int y, boolean istilesquare) {
-    if(istilesquare) {
-      var poshigh = new Pos(x-1,y);
-      var posdown = new Pos(x+1,y);
-      var posleft = new Pos(x,y-1);
-      var posright = new Pos(x,y+1);
-      return(env.containsKey(poshigh) && env.get(poshigh) != null) || (env.containsKey(posdown) && env.get(posdown) != null) ||
-            (env.containsKey(posright) && env.get(posright) != null) || (env.containsKey(posleft) && env.get(posleft) != null);
-    }else{
-      var pos_e = new Pos(x, y + 2);
-      var pos_o = new Pos(x, y - 2);
-      var pos_ne = new Pos(x - 1, y + 1);
-      var pos_no = new Pos(x - 1, y - 1);
-      var pos_se = new Pos(x + 1, y + 1);
-      var pos_so = new Pos(x + 1, y - 1);
-      return(env.containsKey(pos_e) && env.get(pos_e) != null) || (env.containsKey(pos_o) && env.get(pos_o) != null) ||
-            (env.containsKey(pos_ne) && env.get(pos_ne) != null) || (env.containsKey(pos_no) && env.get(pos_no) != null) ||
-            (env.containsKey(pos_se) && env.get(pos_se) != null) || (env.containsKey(pos_so) && env.get(pos_se) != null);
-    }
+   * @return the empty cells next to a placed tile
+   */
+  private PlacementFrontier frontier(boolean istilesquare) {
+    return istilesquare ? squarefrontier : hexagonalfrontier;
+  }
+  
+  /**
+   * Gets the number of empty cells next to a placed tile, the cells where a tile can be added.
+   * With {@link #frontierX(int, boolean)} and {@link #frontierY(int, boolean)}, the legal
+   * positions of a tile can be enumerated without scanning the board nor allocating anything.
+   * The order of the cells depends on the order in which the tiles were placed.
+   * 
+   * @param istilesquare true if the game uses square tiles, false for hexagonal tiles
+   * @return the number of cells of the frontier
+   */
+  public int frontierSize(boolean istilesquare) {
+    return frontier(istilesquare).size();
+  }
+  
+  /**
+   * Gets the x-coordinate of a cell of the frontier.
+   * 
+   * @param index the index of the cell, between 0 and {@link #frontierSize(boolean)} excluded
+   * @param istilesquare true if the game uses square tiles, false for hexagonal tiles
+   * @return the x-coordinate of the cell
+   */
+  public int frontierX(int index, boolean istilesquare) {
+    Objects.checkIndex(index, frontierSize(istilesquare));
+    return frontier(istilesquare).x(index);
+  }
+  
+  /**
+   * Gets the y-coordinate of a cell of the frontier.
+   * 
+   * @param index the index of the cell, between 0 and {@link #frontierSize(boolean)} excluded
+   * @param istilesquare true if the game uses square tiles, false for hexagonal tiles
+   * @return the y-coordinate of the cell
+   */
+  public int frontierY(int index, boolean istilesquare) {
+    Objects.checkIndex(index, frontierSize(istilesquare));
+    return frontier(istilesquare).y(index);
+  }
+  
+  /**
+   * Gets the number of tiles without fauna token that can receive a token of an animal.
+   * With {@link #faunaTargetX(Animal, int)} and {@link #faunaTargetY(Animal, int)}, the legal
+   * positions of a token can be enumerated without scanning the board nor allocating anything.
+   * 
+   * @param animal the animal of the token
+   * @return the number of tiles accepting this token
+   */
+  public int faunaTargetCount(Animal animal) {
+    Objects.requireNonNull(animal);
+    return targets.size(animal);
+  }
+  
+  /**
+   * Gets the x-coordinate of a tile that can receive a token of an animal.
+   * 
+   * @param animal the animal of the token
+   * @param index the index of the tile, between 0 and {@link #faunaTargetCount(Animal)} excluded
+   * @return the x-coordinate of the tile
+   */
+  public int faunaTargetX(Animal animal, int index) {
+    Objects.checkIndex(index, faunaTargetCount(animal));
+    return nodex[targets.node(animal, index)];
+  }
+  
+  /**
+   * Gets the y-coordinate of a tile that can receive a token of an animal.
+   * 
+   * @param animal the animal of the token
+   * @param index the index of the tile, between 0 and {@link #faunaTargetCount(Animal)} excluded
+   * @return the y-coordinate of the tile
+   */
+  public int faunaTargetY(Animal animal, int index) {
+    Objects.checkIndex(index, faunaTargetCount(animal));
+    return nodey[targets.node(animal, index)];
   }
     
   /**
    * Places a fauna token on a specific position of the board.
+   * The outcome is sent to the {@linkplain EngineListeners listener} of the engine.
    * 
    * @param token the fauna token to place
    * @param x the x-coordinate
@@ -134,31 +671,54 @@ public class Board {
    * @return true if the token was successfully placed, false otherwise
    */
   public boolean placeFaunaToken(FaunaToken token, int x, int y) {
+    var result = faunaTokenPlacement(token, x, y);
+    EngineListeners.get().tokenPlacement(token.token(), x, y, result);
+    return result.isPlaced();
+  }
+  
+  /**
+   * Places a fauna token on a specific position of the board, without notifying anything.
+   * 
+   * @param token the fauna token to place
+   * @param x the x-coordinate
+   * @param y the y-coordinate
+   * @return {@link PlacementResult#PLACED} if the token was placed, otherwise the reason of the rejection
+   */
+  public PlacementResult faunaTokenPlacement(FaunaToken token, int x, int y) {
     Objects.requireNonNull(token);
-    if(x < 0 || y < 0 || x >= size || y>= size) {
-      System.out.println("cette position est en dehors du plateau\n");
-      return false;
+    if(!isInside(x, y)) {
+      return PlacementResult.OUTSIDE;
     }            
-    var tile = env.get(new Pos(x,y));
+    var tile = cells[index(x, y)];
     if(tile == null) {
-      System.out.println("il n'y a pas de tuile a cette emplacement\n");
-      return false;
+      return PlacementResult.NO_TILE;
     }
     if(tile.getfaunatoken() != null) {
-      System.out.println("la tuile contient déja un jeton faune\n");
-      return false;
+      return PlacementResult.TOKEN_PRESENT;
     }    
-    if(tile.placeFaunaToken(token)) {
-      System.out.println("Le jeton " + token.token() + " a ete place\n");
-      return true;
-    }else{
-      System.out.println("Le jeton " + token.token() + " n'est pas compatible avec cette tuile\n");
-      return false;
+    if(!tile.placeFaunaToken(token)) {
+      return PlacementResult.INCOMPATIBLE;
     }
+    hash ^= Zobrist.token(x, y, tile);
+    addToGroups(nodeAt(x, y), x, y, token.token());
+    return PlacementResult.PLACED;
+  }
+  
+  /**
+   * Checks if a tile can be added at a specific position, without printing anything.
+   * 
+   * @param x the x-coordinate
+   * @param y the y-coordinate
+   * @param istilesquare true if the game uses square tiles, false for hexagonal tiles
+   * @return true if the cell is empty and next to another tile, false otherwise
+   */
+  public boolean canAddTile(int x, int y, boolean istilesquare) {
+    return isInside(x, y) && frontier(istilesquare).contains(index(x, y));
   }
   
   /**
    * Adds a tile to the board at a specific position.
+   * The outcome is sent to the {@linkplain EngineListeners listener} of the engine.
    * 
    * @param tile the tile to add
    * @param x the x-coordinate
@@ -167,96 +727,59 @@ public class Board {
    * @return true if the tile was successfully added, false otherwise
    */
   public boolean addTile(Tile tile, int x, int y, boolean istilesquare) {
+    var result = tilePlacement(tile, x, y, istilesquare);
+    EngineListeners.get().tilePlacement(x, y, result);
+    return result.isPlaced();
+  }
+  
+  /**
+   * Adds a tile to the board at a specific position, without notifying anything.
+   * 
+   * @param tile the tile to add
+   * @param x the x-coordinate
+   * @param y the y-coordinate
+   * @param istilesquare true if the game uses square tiles, false for hexagonal tiles
+   * @return {@link PlacementResult#PLACED} if the tile was added, otherwise the reason of the rejection
+   */
+  public PlacementResult tilePlacement(Tile tile, int x, int y, boolean istilesquare) {
     Objects.requireNonNull(tile);
-    if(x < 0 || y < 0 || x >= size || y>= size) {
-      System.out.println("cette position est en dehors du plateau \n");
-      return false;
+    if(!isInside(x, y)) {
+      return PlacementResult.OUTSIDE;
     }
-    if(env.get(new Pos(x,y)) != null)  {
-      System.out.println("Une tuile est déja present sur cet emplacement\n");
-      return false;
+    if(cells[index(x, y)] != null)  {
+      return PlacementResult.OCCUPIED;
     } 
-    if(!isContiguous(x, y,istilesquare)) {
-      System.out.println("La tuile doit être placer à côté d'une autre tuile\n");
-      return false;
+    if(!frontier(istilesquare).contains(index(x, y))) {
+      return PlacementResult.NOT_ADJACENT;
     }
-    env.put(new Pos(x,y), tile);
-    System.out.println("La tuile a ete place\n");
-    return true;
+    put(x, y, tile);
+    return PlacementResult.PLACED;
   }
   
   /**
    * Checks if a fauna token can be placed on any tile in the board.
    * 
    * @param jeton the fauna token to check
-   * @return true if the token can be placed, false otherwise
+   * @return true if a tile without token accepts this token, false otherwise
    */
   public boolean possiblePlaceFTInEnv(FaunaToken jeton)  {
     Objects.requireNonNull(jeton);
-    for(var entry: env.entrySet()) {
-      var value = entry.getValue();
-      if(value != null) {
-        if(value.PossiblePlaceFT(jeton))  {
-          return true;
-        } 
-      }
-    }
-    return false;
+    return targets.size(jeton.token()) > 0;
   }
   
 
-  private boolean checkEnlargeEnv() {
-    for(var key: env.keySet()){
-      if( (key.y() == 1 || key.x() == 1 || key.x() == size-2 || key.y() == size-2) && env.get(key) != null) {
-        return true;
-      }
-    }
-    return false;
-  }
-  
-
-  private void recenterEnv() {
-    var envtmp = new HashMap<Pos,Tile>();
-    for(var entry : env.entrySet()) {
-      var pos = entry.getKey();
-      var tuile = entry.getValue();
-      if(tuile != null) {
-        var newpos = new Pos(pos.x()+1,pos.y()+1);
-        envtmp.put(newpos, tuile);
-        env.put(pos, null);
-      }
-    }
-    env.putAll(envtmp);
-  }
-  
-  /**
-   * Enlarges the board by increasing its size and recenters all tiles.
-   */
-  public void EnlargeEnv() {
-    if(checkEnlargeEnv()) {
-      size++;
-      for(int i = 0; i<size;i++) {
-        for(int j=0;j<size;j++) {
-          if(!env.containsKey(new Pos(i,j))) {
-            env.put(new Pos(i,j), null);  
-          }
-        }
-      }
-      recenterEnv();
-    }
-  }
-  
   /**
-   * Returns a string representation of the board.
+   * Returns a string representation of the board, limited to the placed tiles
+   * and the cells around them.
    * 
    * @return the string representation of the board
    */
   @Override
   public String toString() {
     var sb = new StringBuilder("Plateau de jeu :\n");
-    for(int i = 0; i < size; i++) {
-      for(int j = 0; j < size; j++) {
-        var tile = env.get(new Pos(i,j));
+    for(int i = tileminx - 1; i <= tilemaxx + 1; i++) {
+      for(int j = tileminy - 1; j <= tilemaxy + 1; j++) {
+        var tile = tileAt(i, j);
         if(tile != null) {
           var pos = tile.toString() +"(" + i+","+j + ")";
           sb.append(String.format("[%-20s]",pos));
@@ -269,7 +792,60 @@ public class Board {
     return sb.toString();
   }  
 
-  
-  
+  /**
+   * Read-only map view of the cells of the board, keyed by position.
+   */
+  private final class EnvView extends AbstractMap<Pos,Tile> {
+    
+    @Override
+    public Tile get(Object key) {
+      if(key instanceof Pos pos) {
+        return tileAt(pos.x(), pos.y());
+      }
+      return null;
+    }
+    
+    @Override
+    public boolean containsKey(Object key) {
+      return key instanceof Pos pos && isInside(pos.x(), pos.y());
+    }
+    
+    @Override
+    public int size() {
+      return size * size;
+    }
+    
+    @Override
+    public Set<Map.Entry<Pos,Tile>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public int size() {
+          return size * size;
+        }
+        
+        @Override
+        public Iterator<Map.Entry<Pos,Tile>> iterator() {
+          return new Iterator<>() {
+            private int index;
+            
+            @Override
+            public boolean hasNext() {
+              return index < size * size;
+            }
+            
+            @Override
+            public Map.Entry<Pos,Tile> next() {
+              if(!hasNext()) {
+                throw new NoSuchElementException();
+              }
+              var pos = new Pos(minx + index / size, miny + index % size);
+              var tile = cells[index++];
+              return new AbstractMap.SimpleImmutableEntry<>(pos, tile);
+            }
+          };
+        }
+      };
+    }
+  }
 
 }
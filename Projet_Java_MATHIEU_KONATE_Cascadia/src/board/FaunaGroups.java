@@ -0,0 +1,241 @@
+package board;
+
+import java.util.Arrays;
+
+import model.Animal;
+
+/**
+ * Disjoint-set structure tracking the groups of connected fauna tokens of a board.
+ * <p>
+ * The elements are the node numbers of the tiles holding a token. Two tokens are
+ * in the same group when they are the same animal and are linked by neighbor tiles
+ * holding this animal. The members of each group are also linked in a circular list,
+ * so a group can be enumerated without scanning the board.
+ * </p>
+ * <p>
+ * The groups of each animal are also laid out in arrays, the members of each group sorted
+ * row by row and the groups sorted by their first member, the order in which the board is scanned.
+ * The layout is rebuilt by {@link #layout(Board)} after a token has been added, in arrays kept
+ * from one layout to the next, so the groups are read by index without allocating anything.
+ * </p>
+ */
+final class FaunaGroups {
+
+  private static final Animal[] ANIMALS = Animal.values();
+
+  private final Topology topology;
+  private int[] parent = new int[16];
+  private int[] size = new int[16];
+  private int[] next = new int[16];
+  private int[] animal = new int[16];
+  private int[][] tokens = new int[ANIMALS.length][16];
+  private final int[] nbtokens = new int[ANIMALS.length];
+  private int[][] members = new int[ANIMALS.length][16];
+  private int[][] starts = new int[ANIMALS.length][17];
+  private int[][] order = new int[ANIMALS.length][16];
+  private final int[] nbgroups = new int[ANIMALS.length];
+  private volatile boolean laidout = true;
+
+  /**
+   * Creates an empty structure.
+   *
+   * @param istilesquare true to connect the tokens as on square tiles, false as on hexagonal tiles
+   */
+  FaunaGroups(boolean istilesquare) {
+    topology = Topology.of(istilesquare);
+    Arrays.fill(animal, -1);
+  }
+
+  /**
+   * Removes every token from the structure.
+   */
+  void clear() {
+    Arrays.fill(animal, -1);
+    Arrays.fill(nbtokens, 0);
+    Arrays.fill(nbgroups, 0);
+    laidout = true;
+  }
+
+  /**
+   * Adds the token placed on the tile of a node and merges it with the groups of the neighbor tiles.
+   *
+   * @param board the board containing the tile
+   * @param node the node of the tile
+   * @param x the x-coordinate of the tile
+   * @param y the y-coordinate of the tile
+   * @param type the animal of the token
+   */
+  void add(Board board, int node, int x, int y, Animal type) {
+    ensureCapacity(node);
+    var ordinal = type.ordinal();
+    parent[node] = node;
+    size[node] = 1;
+    next[node] = node;
+    animal[node] = ordinal;
+    if(nbtokens[ordinal] == tokens[ordinal].length) {
+      var length = nbtokens[ordinal] * 2;
+      tokens[ordinal] = Arrays.copyOf(tokens[ordinal], length);
+      members[ordinal] = new int[length];
+      starts[ordinal] = new int[length + 1];
+      order[ordinal] = new int[length];
+    }
+    tokens[ordinal][nbtokens[ordinal]++] = node;
+    laidout = false;
+    for(int direction = 0; direction < topology.degree(); direction++) {
+      var other = board.nodeAt(x + topology.dx(direction), y + topology.dy(direction));
+      if(other >= 0 && other < animal.length && animal[other] == ordinal) {
+        union(node, other);
+      }
+    }
+  }
+
+  /**
+   * Gets the size of the group containing the token of a node.
+   *
+   * @param node the node of the tile
+   * @return the number of tokens of the group, 0 if the tile has no token
+   */
+  int groupSize(int node) {
+    if(node < 0 || node >= animal.length || animal[node] == -1) {
+      return 0;
+    }
+    return size[root(node)];
+  }
+
+  /**
+   * Checks if the layout of the groups is up to date with the tokens.
+   *
+   * @return false if the layout must be rebuilt with {@link #layout(Board)}
+   */
+  boolean isLaidOut() {
+    return laidout;
+  }
+
+  /**
+   * Lays out the groups of every animal, the members of each group sorted row by row
+   * and the groups sorted by their first member.
+   *
+   * @param board the board containing the tokens
+   */
+  void layout(Board board) {
+    for(int ordinal = 0; ordinal < ANIMALS.length; ordinal++) {
+      var tokens = this.tokens[ordinal];
+      var members = this.members[ordinal];
+      var starts = this.starts[ordinal];
+      var order = this.order[ordinal];
+      var groups = 0;
+      var end = 0;
+      for(int i = 0; i < nbtokens[ordinal]; i++) {
+        var node = tokens[i];
+        if(parent[node] != node) {
+          continue;
+        }
+        starts[groups] = end;
+        var member = node;
+        do {
+          var slot = end++;
+          while(slot > starts[groups] && before(board, member, members[slot - 1])) {
+            members[slot] = members[slot - 1];
+            slot--;
+          }
+          members[slot] = member;
+          member = next[member];
+        } while(member != node);
+        var rank = groups;
+        while(rank > 0 && before(board, members[starts[groups]], members[starts[order[rank - 1]]])) {
+          order[rank] = order[rank - 1];
+          rank--;
+        }
+        order[rank] = groups++;
+      }
+      starts[groups] = end;
+      nbgroups[ordinal] = groups;
+    }
+    laidout = true;
+  }
+
+  /**
+   * Checks if the tile of a node comes before the tile of another node when the board is scanned row by row.
+   */
+  private static boolean before(Board board, int node1, int node2) {
+    var x1 = board.nodeX(node1);
+    var x2 = board.nodeX(node2);
+    return x1 < x2 || (x1 == x2 && board.nodeY(node1) < board.nodeY(node2));
+  }
+
+  /**
+   * Gets the number of groups of an animal. The layout must be up to date.
+   *
+   * @param type the animal
+   * @return the number of groups
+   */
+  int groupCount(Animal type) {
+    return nbgroups[type.ordinal()];
+  }
+
+  /**
+   * Gets the number of tokens of a group. The layout must be up to date.
+   *
+   * @param type the animal
+   * @param group the index of the group, between 0 and {@link #groupCount(Animal)} excluded
+   * @return the number of tokens of the group
+   */
+  int groupSize(Animal type, int group) {
+    var ordinal = type.ordinal();
+    var slot = order[ordinal][group];
+    return starts[ordinal][slot + 1] - starts[ordinal][slot];
+  }
+
+  /**
+   * Gets the node of a member of a group. The layout must be up to date.
+   *
+   * @param type the animal
+   * @param group the index of the group, between 0 and {@link #groupCount(Animal)} excluded
+   * @param member the index of the member, between 0 and {@link #groupSize(Animal, int)} excluded
+   * @return the node of the tile holding the member
+   */
+  int member(Animal type, int group, int member) {
+    var ordinal = type.ordinal();
+    return members[ordinal][starts[ordinal][order[ordinal][group]] + member];
+  }
+
+  private void ensureCapacity(int node) {
+    if(node >= animal.length) {
+      var length = Math.max(node + 1, animal.length * 2);
+      var oldlength = animal.length;
+      parent = Arrays.copyOf(parent, length);
+      size = Arrays.copyOf(size, length);
+      next = Arrays.copyOf(next, length);
+      animal = Arrays.copyOf(animal, length);
+      Arrays.fill(animal, oldlength, length, -1);
+    }
+  }
+
+  /**
+   * Finds the root of an element without modifying the structure, so the queries can be shared.
+   */
+  private int root(int element) {
+    while(parent[element] != element) {
+      element = parent[element];
+    }
+    return element;
+  }
+
+  private void union(int node1, int node2) {
+    var root1 = root(node1);
+    var root2 = root(node2);
+    if(root1 == root2) {
+      return;
+    }
+    if(size[root1] < size[root2]) {
+      var tmp = root1;
+      root1 = root2;
+      root2 = tmp;
+    }
+    parent[root2] = root1;
+    size[root1] += size[root2];
+    var tmp = next[root1];
+    next[root1] = next[root2];
+    next[root2] = tmp;
+  }
+}
@@ -0,0 +1,100 @@
+package board;
+
+import java.util.Arrays;
+
+import model.Animal;
+
+/**
+ * Index of the tiles of a board that can still receive a fauna token, for each animal.
+ * <p>
+ * The elements are the node numbers of the tiles without token. For each animal, the nodes
+ * whose tile shows this animal are stored in an array, and every node knows its slot in
+ * this array, so a tile leaves all the lists in constant time when it receives a token.
+ * </p>
+ */
+final class FaunaTargets {
+
+  private static final Animal[] ANIMALS = Animal.values();
+
+  private int[][] nodes = new int[ANIMALS.length][16];
+  private int[][] slots = new int[ANIMALS.length][16];
+  private final int[] count = new int[ANIMALS.length];
+
+  /**
+   * Removes every tile from the index.
+   */
+  void clear() {
+    for(var slot : slots) {
+      Arrays.fill(slot, 0);
+    }
+    Arrays.fill(count, 0);
+  }
+
+  /**
+   * Adds the tile of a node to the lists of the animals it shows.
+   *
+   * @param node the node of the tile
+   * @param tile the tile, without fauna token
+   */
+  void add(int node, Tile tile) {
+    var mask = tile.animalMask();
+    for(int ordinal = 0; ordinal < ANIMALS.length; ordinal++) {
+      if((mask & 1 << ordinal) == 0) {
+        continue;
+      }
+      if(node >= slots[ordinal].length) {
+        slots[ordinal] = Arrays.copyOf(slots[ordinal], Math.max(node + 1, slots[ordinal].length * 2));
+      }
+      if(count[ordinal] == nodes[ordinal].length) {
+        nodes[ordinal] = Arrays.copyOf(nodes[ordinal], count[ordinal] * 2);
+      }
+      nodes[ordinal][count[ordinal]] = node;
+      slots[ordinal][node] = ++count[ordinal];
+    }
+  }
+
+  /**
+   * Removes the tile of a node from every list, after it has received a fauna token.
+   *
+   * @param node the node of the tile
+   */
+  void remove(int node) {
+    for(int ordinal = 0; ordinal < ANIMALS.length; ordinal++) {
+      if(node >= slots[ordinal].length) {
+        continue;
+      }
+      var slot = slots[ordinal][node] - 1;
+      if(slot < 0) {
+        continue;
+      }
+      slots[ordinal][node] = 0;
+      var last = --count[ordinal];
+      if(slot != last) {
+        var moved = nodes[ordinal][last];
+        nodes[ordinal][slot] = moved;
+        slots[ordinal][moved] = slot + 1;
+      }
+    }
+  }
+
+  /**
+   * Gets the number of tiles that can receive a token of an animal.
+   *
+   * @param type the animal
+   * @return the number of tiles
+   */
+  int size(Animal type) {
+    return count[type.ordinal()];
+  }
+
+  /**
+   * Gets the node of a tile that can receive a token of an animal.
+   *
+   * @param type the animal
+   * @param slot the slot of the tile, between 0 and {@link #size(Animal)} excluded
+   * @return the node of the tile
+   */
+  int node(Animal type, int slot) {
+    return nodes[type.ordinal()][slot];
+  }
+}
@@ -0,0 +1,160 @@
+package board;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import model.Landscape;
+
+/**
+ * Disjoint-set structure tracking the corridors of each landscape on a board.
+ * <p>
+ * Every placed tile is a node of the board. A node owns one element per landscape
+ * it contains, the element of the node {@code n} for the landscape {@code l} being
+ * {@code n * NB_LANDSCAPES + l.ordinal()}. Two elements are in the same set when
+ * their tiles are in the same corridor of this landscape, so the size of the
+ * largest corridor of each landscape is kept up to date in constant time.
+ * </p>
+ * <p>
+ * Square tiles are connected when they are side by side and have the same first landscape,
+ * the second landscape of a square tile is not counted.
+ * Hexagonal tiles are connected through the landscape facing their common edge.
+ * </p>
+ */
+final class HabitatCorridors {
+
+  private static final int NB_LANDSCAPES = Landscape.values().length;
+
+  private final boolean istilesquare;
+  private final Topology topology;
+  private int[] parent = new int[16 * NB_LANDSCAPES];
+  private int[] size = new int[16 * NB_LANDSCAPES];
+  private final int[] largest = new int[NB_LANDSCAPES];
+  private boolean valid = true;
+
+  /**
+   * Creates an empty structure.
+   *
+   * @param istilesquare true to connect the tiles as square tiles, false as hexagonal tiles
+   */
+  HabitatCorridors(boolean istilesquare) {
+    this.istilesquare = istilesquare;
+    topology = Topology.of(istilesquare);
+  }
+
+  /**
+   * Checks if the structure is up to date with the board.
+   *
+   * @return false if the structure must be rebuilt with {@link #clear()} and {@link #add(Board, int, int, int)}
+   */
+  boolean isValid() {
+    return valid;
+  }
+
+  /**
+   * Marks the structure as out of date, for instance after a tile has been rotated.
+   */
+  void invalidate() {
+    valid = false;
+  }
+
+  /**
+   * Removes every node from the structure.
+   */
+  void clear() {
+    Arrays.fill(size, 0);
+    Arrays.fill(largest, 0);
+    valid = true;
+  }
+
+  /**
+   * Gets the number of tiles of the largest corridor of a landscape.
+   *
+   * @param landscape the landscape
+   * @return the size of the largest corridor, 0 if the landscape is not on the board
+   */
+  int largest(Landscape landscape) {
+    return largest[landscape.ordinal()];
+  }
+
+  /**
+   * Adds the tile of a node and connects it to the neighbors having a smaller node number.
+   * The nodes must be added in increasing order.
+   *
+   * @param board the board containing the tile
+   * @param node the node of the tile
+   * @param x the x-coordinate of the tile
+   * @param y the y-coordinate of the tile
+   */
+  void add(Board board, int node, int x, int y) {
+    var tile = Objects.requireNonNull(board.tileAt(x, y));
+    ensureCapacity(node);
+    addElement(node, tile.getLandscape1());
+    if(!istilesquare && tile.getLandscape2() != null) {
+      addElement(node, tile.getLandscape2());
+    }
+    for(int direction = 0; direction < topology.degree(); direction++) {
+      var nx = x + topology.dx(direction);
+      var ny = y + topology.dy(direction);
+      var other = board.nodeAt(nx, ny);
+      if(other < 0 || other >= node) {
+        continue;
+      }
+      var neighbor = board.tileAt(nx, ny);
+      if(istilesquare) {
+        if(neighbor.getLandscape1() == tile.getLandscape1()) {
+          union(node, other, tile.getLandscape1());
+        }
+      }else {
+        var landscape = tile.getEdge(direction);
+        if(neighbor.getEdge(topology.opposite(direction)) == landscape) {
+          union(node, other, landscape);
+        }
+      }
+    }
+  }
+
+  private void ensureCapacity(int node) {
+    var length = (node + 1) * NB_LANDSCAPES;
+    if(length > parent.length) {
+      var newlength = Math.max(length, parent.length * 2);
+      parent = Arrays.copyOf(parent, newlength);
+      size = Arrays.copyOf(size, newlength);
+    }
+  }
+
+  private void addElement(int node, Landscape landscape) {
+    var element = node * NB_LANDSCAPES + landscape.ordinal();
+    parent[element] = element;
+    size[element] = 1;
+    largest[landscape.ordinal()] = Math.max(largest[landscape.ordinal()], 1);
+  }
+
+  private int find(int element) {
+    var root = element;
+    while(parent[root] != root) {
+      root = parent[root];
+    }
+    while(parent[element] != root) {
+      var next = parent[element];
+      parent[element] = root;
+      element = next;
+    }
+    return root;
+  }
+
+  private void union(int node1, int node2, Landscape landscape) {
+    var root1 = find(node1 * NB_LANDSCAPES + landscape.ordinal());
+    var root2 = find(node2 * NB_LANDSCAPES + landscape.ordinal());
+    if(root1 == root2) {
+      return;
+    }
+    if(size[root1] < size[root2]) {
+      var tmp = root1;
+      root1 = root2;
+      root2 = tmp;
+    }
+    parent[root2] = root1;
+    size[root1] += size[root2];
+    largest[landscape.ordinal()] = Math.max(largest[landscape.ordinal()], size[root1]);
+  }
+}
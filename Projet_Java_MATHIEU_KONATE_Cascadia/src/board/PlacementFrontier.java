@@ -0,0 +1,141 @@
+package board;
+
+import java.util.Arrays;
+
+/**
+ * Set of the empty cells of a board that are next to a placed tile, the cells where a new tile can be added.
+ * <p>
+ * The positions of the frontier are stored in two arrays, and every cell of the board knows its slot
+ * in these arrays, so adding or removing a cell takes constant time and the frontier can be enumerated
+ * by index without allocating anything. The slots of the cells follow the same row-major layout as the
+ * cells of the board and are moved when the board grows.
+ * </p>
+ */
+final class PlacementFrontier {
+
+  private final Topology topology;
+  private int[] slots;
+  private int[] xs = new int[16];
+  private int[] ys = new int[16];
+  private int count;
+
+  /**
+   * Creates an empty frontier.
+   *
+   * @param istilesquare true to use the neighbors of square tiles, false for hexagonal tiles
+   * @param nbcells the number of cells of the board
+   */
+  PlacementFrontier(boolean istilesquare, int nbcells) {
+    topology = Topology.of(istilesquare);
+    slots = new int[nbcells];
+  }
+
+  /**
+   * Removes every cell from the frontier.
+   *
+   * @param nbcells the number of cells of the board
+   */
+  void clear(int nbcells) {
+    slots = new int[nbcells];
+    count = 0;
+  }
+
+  /**
+   * Moves the slots of the cells after the board has grown.
+   *
+   * @param oldsize the previous size of the board
+   * @param newsize the new size of the board
+   * @param shift the number of rows and columns added before the previous cells
+   */
+  void grow(int oldsize, int newsize, int shift) {
+    var newslots = new int[newsize * newsize];
+    for(int i = 0; i < oldsize; i++) {
+      System.arraycopy(slots, i * oldsize, newslots, (i + shift) * newsize + shift, oldsize);
+    }
+    slots = newslots;
+  }
+
+  /**
+   * Updates the frontier after a tile has been put on a cell: the cell leaves the frontier
+   * and its empty neighbors join it.
+   *
+   * @param board the board containing the tile
+   * @param x the x-coordinate of the tile
+   * @param y the y-coordinate of the tile
+   */
+  void add(Board board, int x, int y) {
+    remove(board, board.index(x, y));
+    for(int direction = 0; direction < topology.degree(); direction++) {
+      var nx = x + topology.dx(direction);
+      var ny = y + topology.dy(direction);
+      if(board.tileAt(nx, ny) == null) {
+        var index = board.index(nx, ny);
+        if(slots[index] == 0) {
+          if(count == xs.length) {
+            xs = Arrays.copyOf(xs, count * 2);
+            ys = Arrays.copyOf(ys, count * 2);
+          }
+          xs[count] = nx;
+          ys[count] = ny;
+          slots[index] = ++count;
+        }
+      }
+    }
+  }
+
+  /**
+   * Checks if a cell is in the frontier.
+   *
+   * @param index the index of the cell in the board
+   * @return true if a tile can be added on this cell
+   */
+  boolean contains(int index) {
+    return slots[index] != 0;
+  }
+
+  /**
+   * Gets the number of cells of the frontier.
+   *
+   * @return the number of cells
+   */
+  int size() {
+    return count;
+  }
+
+  /**
+   * Gets the x-coordinate of a cell of the frontier.
+   *
+   * @param slot the slot of the cell, between 0 and {@link #size()} excluded
+   * @return the x-coordinate
+   */
+  int x(int slot) {
+    return xs[slot];
+  }
+
+  /**
+   * Gets the y-coordinate of a cell of the frontier.
+   *
+   * @param slot the slot of the cell, between 0 and {@link #size()} excluded
+   * @return the y-coordinate
+   */
+  int y(int slot) {
+    return ys[slot];
+  }
+
+  /**
+   * Removes a cell from the frontier by moving the last cell into its slot.
+   */
+  private void remove(Board board, int index) {
+    var slot = slots[index] - 1;
+    if(slot < 0) {
+      return;
+    }
+    slots[index] = 0;
+    count--;
+    if(slot != count) {
+      xs[slot] = xs[count];
+      ys[slot] = ys[count];
+      slots[board.index(xs[slot], ys[slot])] = slot + 1;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package board;
+
+/**
+ * Outcome of the placement of a tile or of a fauna token on a {@link Board}.
+ * <p>
+ * The board only returns the outcome, the message shown to the player, if any, is chosen by
+ * the {@linkplain listener.EngineListener listener} of the engine.
+ * </p>
+ */
+public enum PlacementResult {
+
+  /**
+   * The tile or the token has been placed.
+   */
+  PLACED,
+
+  /**
+   * The position is outside the board.
+   */
+  OUTSIDE,
+
+  /**
+   * A tile is already placed at the position.
+   */
+  OCCUPIED,
+
+  /**
+   * The tile is not next to another tile.
+   */
+  NOT_ADJACENT,
+
+  /**
+   * There is no tile at the position to receive the token.
+   */
+  NO_TILE,
+
+  /**
+   * The tile at the position already holds a fauna token.
+   */
+  TOKEN_PRESENT,
+
+  /**
+   * The animal of the token is not one of the animals of the tile.
+   */
+  INCOMPATIBLE;
+
+  /**
+   * Checks if the placement has been done.
+   *
+   * @return true for {@link #PLACED}, false for a rejection
+   */
+  public boolean isPlaced() {
+    return this == PLACED;
+  }
+}
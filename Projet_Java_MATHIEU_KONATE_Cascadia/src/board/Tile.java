@@ -1,7 +1,9 @@
 package board;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -12,12 +14,17 @@ import model.Landscape;
 /**
  * Represents a tile on the game board. A tile contains landscapes, animals, 
  * and optionally a fauna token.
+ * <p>
+ * The landscapes and animals are given by an interned {@link TileType} shared by all the
+ * tiles with the same definition, so a tile only holds its definition, the number of
+ * times it has been rotated and its fauna token.
+ * </p>
  */
 public class Tile {
 
-  private LinkedHashMap<Landscape, Angle> landscapes; // Landscapes and their angles
-  private final ArrayList<Animal> animals;           // List of animals on the tile
-  private FaunaToken faunatoken;                     // Fauna token placed on the tile
+  private final TileType type;   // Landscapes, angles before rotation and animals
+  private byte rotation;         // Number of rotations, between 0 and 5
+  private FaunaToken faunatoken; // Fauna token placed on the tile
 
   /**
    * Creates a tile with specified landscapes and animals.
@@ -25,44 +32,81 @@ public class Tile {
    * @param landscapes the landscapes on this tile and their angles
    * @param animals the animals associated with this tile
    * @throws NullPointerException if landscapes or animals are null
+   * @throws IllegalArgumentException if there are more than 2 landscapes or more than 3 animals
    */
   public Tile(LinkedHashMap<Landscape, Angle> landscapes, ArrayList<Animal> animals) {
-    Objects.requireNonNull(landscapes);
-    Objects.requireNonNull(animals);
-    this.landscapes = landscapes;
-    this.animals = animals;
-    faunatoken = null;
+    this(TileType.of(landscapes, animals));
+  }
+
+  /**
+   * Creates a tile of a definition, not rotated and without fauna token.
+   * 
+   * @param type the definition of the tile
+   * @throws NullPointerException if the definition is null
+   */
+  public Tile(TileType type) {
+    this.type = Objects.requireNonNull(type);
+  }
+
+  /**
+   * Creates a copy of the tile, with the same angles and fauna token.
+   * The copy can be rotated or receive a token without changing this tile.
+   * 
+   * @return a new tile equal to this tile
+   */
+  public Tile copy() {
+    var tile = new Tile(type);
+    tile.rotation = rotation;
+    tile.faunatoken = faunatoken;
+    return tile;
+  }
+
+  /**
+   * Gets the definition of the tile.
+   * 
+   * @return the definition shared by all the tiles with the same landscapes and animals
+   */
+  public TileType getType() {
+    return type;
+  }
+
+  /**
+   * Gets the number of rotations of the tile.
+   * 
+   * @return the number of rotations, between 0 and 5
+   */
+  public int getRotation() {
+    return rotation;
   }
 
   /**
    * Rotates the tile's landscapes clockwise by updating their angles.
    */
   public void hexagonalRotation() {
-    var newAngles = new LinkedHashMap<Landscape, Angle>();
-    for(var element : landscapes.entrySet()) {
-        var landscape = element.getKey();
-        var angle = element.getValue();
-        newAngles.put(landscape, angle != null ? angle.next() : Angle.NULL);
-    }
-    landscapes = newAngles;
+    rotation = (byte) ((rotation + 1) % 6);
   }
 
   /**
    * Gets all landscapes and their angles on the tile.
    * 
-   * @return a map of landscapes and their associated angles
+   * @return a new read-only map of landscapes and their associated angles
    */
   public Map<Landscape, Angle> getLandscape() {
-    return landscapes;
+    var landscapes = new LinkedHashMap<Landscape, Angle>();
+    landscapes.put(type.landscape1(), getAngle1());
+    if(type.landscape2() != null) {
+      landscapes.put(type.landscape2(), getAngle2());
+    }
+    return Collections.unmodifiableMap(landscapes);
   }
 
   /**
    * Gets the first landscape on the tile.
    * 
-   * @return the first landscape, or null if no landscapes exist
+   * @return the first landscape
    */
   public Landscape getLandscape1() {
-    return (Landscape) landscapes.keySet().toArray()[0];
+    return type.landscape1();
   }
 
   /**
@@ -71,7 +115,7 @@ public class Tile {
    * @return the second landscape, or null if only one landscape exists
    */
   public Landscape getLandscape2() {
-    return landscapes.size() < 2 ? null : (Landscape) landscapes.keySet().toArray()[1];
+    return type.landscape2();
   }
 
   /**
@@ -80,7 +124,7 @@ public class Tile {
    * @return the angle of the first landscape
    */
   public Angle getAngle1() {
-    return (Angle) landscapes.values().toArray()[0];
+    return type.angle(0, rotation);
   }
 
   /**
@@ -89,7 +133,46 @@ public class Tile {
    * @return the angle of the second landscape, or Angle.NULL if it does not exist
    */
   public Angle getAngle2() {
-    return landscapes.size() < 2 ? Angle.NULL : (Angle) landscapes.values().toArray()[1];
+    return type.landscape2() == null ? Angle.NULL : type.angle(1, rotation);
+  }
+
+  /**
+   * Gets the landscape on an edge of the hexagonal tile, taking its rotation into account.
+   * 
+   * @param direction the index of the edge, a direction of {@link Topology#HEXAGONAL}
+   * @return the landscape on this edge
+   */
+  public Landscape getEdge(int direction) {
+    return type.edge(direction, rotation);
+  }
+
+  /**
+   * Gets the landscapes on the tile as a bitmask, without allocating.
+   * 
+   * @return the bitmask of the landscapes, bit {@code i} being set for the landscape of ordinal {@code i}
+   */
+  public int landscapeMask() {
+    return type.landscapeMask();
+  }
+
+  /**
+   * Gets the animals on the tile as a bitmask, without allocating.
+   * 
+   * @return the bitmask of the animals, bit {@code i} being set for the animal of ordinal {@code i}
+   */
+  public int animalMask() {
+    return type.animalMask();
+  }
+
+  /**
+   * Checks if a fauna token of an animal can be placed on this tile, whether or not it already holds a token.
+   * 
+   * @param animal the animal of the token
+   * @return true if the animal is one of the animals of the tile
+   * @throws NullPointerException if the animal is null
+   */
+  public boolean acceptsAnimal(Animal animal) {
+    return type.accepts(Objects.requireNonNull(animal));
   }
 
   /**
@@ -108,16 +191,17 @@ public class Tile {
    * @return the animal at the specified index, or null if out of bounds
    */
   public Animal getAnimalIndex(int i) {
+    var animals = type.animals();
     return (i < 0 || i >= animals.size()) ? null : animals.get(i);
   }
 
   /**
    * Gets all animals on the tile.
    * 
-   * @return a list of animals
+   * @return a read-only list of animals
    */
-  public ArrayList<Animal> getAnimal() {
-    return animals;
+  public List<Animal> getAnimal() {
+    return type.animals();
   }
 
   /**
@@ -129,9 +213,7 @@ public class Tile {
    */
   public boolean PossiblePlaceFT(FaunaToken token) {
     Objects.requireNonNull(token);
-    return token.token().equals(getAnimalIndex(0)) ||
-           token.token().equals(getAnimalIndex(1)) ||
-           token.token().equals(getAnimalIndex(2));
+    return acceptsAnimal(token.token());
   }
 
   /**
@@ -157,11 +239,11 @@ public class Tile {
    */
   public String displaySave() {
     var landscapesStr = new StringBuilder();
-    for (var entry : landscapes.entrySet()) {
+    for (var entry : getLandscape().entrySet()) {
       landscapesStr.append(entry.getKey().toString()).append(",").append(entry.getValue().toString()).append(",");
     }
     var animalsStr = new StringBuilder();
-    for (Animal animal : animals) {
+    for (Animal animal : type.animals()) {
       animalsStr.append(animal.toString()).append(",");
     }
     var tokenStr = faunatoken != null ? faunatoken.toString() : "null";
@@ -175,11 +257,11 @@ public class Tile {
    */
   @Override
   public String toString() {
-    var landscapesstr = landscapes.entrySet().stream()
+    var landscapesstr = getLandscape().entrySet().stream()
      .map(entry -> entry.getKey().toString() + (entry.getValue() != Angle.NULL ? ":" + entry.getValue().toString() : ""))
      .reduce((a, b) -> a + "," + b)
      .orElse("");
-    var animalsstr = animals.stream().map(Animal::toString).reduce((a, b) -> a + "," + b).orElse("");
+    var animalsstr = type.animals().stream().map(Animal::toString).reduce((a, b) -> a + "," + b).orElse("");
     return String.format("(%s),(%s)", landscapesstr, animalsstr);
   }
   
@@ -189,8 +271,8 @@ public class Tile {
    * @return a string with landscapes, animals, and fauna token
    */
   public String toStringForTile() {
-    var anglesstr = landscapes.values().stream().filter(angle -> angle != Angle.NULL).map(Angle::toString).reduce((a, b) -> a + "," + b).orElse("");
-    var animalsstr = animals.stream().map(Animal::toString).reduce((a, b) -> a + "," + b).orElse("");              
+    var anglesstr = getLandscape().values().stream().filter(angle -> angle != Angle.NULL).map(Angle::toString).reduce((a, b) -> a + "," + b).orElse("");
+    var animalsstr = type.animals().stream().map(Animal::toString).reduce((a, b) -> a + "," + b).orElse("");              
     var tokenstr = faunatoken != null ? faunatoken.toString() : "";
     var angle_part = anglesstr.isEmpty() ? "" :String.format("(%s)",anglesstr);
     var animals_part = animalsstr.isEmpty() ? "" :String.format("(%s)",animalsstr);
@@ -0,0 +1,152 @@
+package board;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import model.Angle;
+import model.Animal;
+import model.Landscape;
+
+/**
+ * Catalog of the tiles of a game, read from the files of the tiles.
+ * <p>
+ * Each file is read once per JVM: the list of its definitions is kept and shared by all
+ * the games, which only create the placed tiles, a definition with a rotation and a token.
+ * </p>
+ */
+public final class TileCatalog {
+
+  /**
+   * File of the square tiles of the game.
+   */
+  public static final Path SQUARE_TILES = Path.of("tuiles.txt");
+
+  /**
+   * File of the hexagonal tiles of the game.
+   */
+  public static final Path HEXAGONAL_TILES = Path.of("tuiles_hexagone.txt");
+
+  private static final ConcurrentHashMap<Path, List<TileType>> SQUARE = new ConcurrentHashMap<>();
+  private static final ConcurrentHashMap<Path, List<TileType>> HEXAGONAL = new ConcurrentHashMap<>();
+
+  private TileCatalog() {
+  }
+
+  /**
+   * Gets the definitions of the tiles of a file, in the order of the file.
+   *
+   * @param path the file of the tiles
+   * @param istilesquare true if the file describes square tiles, false for hexagonal tiles
+   * @return a read-only list of the definitions
+   * @throws IOException if the file cannot be read
+   */
+  public static List<TileType> tiles(Path path, boolean istilesquare) throws IOException {
+    Objects.requireNonNull(path);
+    var cache = istilesquare ? SQUARE : HEXAGONAL;
+    var key = path.toAbsolutePath().normalize();
+    var tiles = cache.get(key);
+    if(tiles == null) {
+      tiles = load(key, istilesquare);
+      var previous = cache.putIfAbsent(key, tiles);
+      if(previous != null) {
+        tiles = previous;
+      }
+    }
+    return tiles;
+  }
+
+  /**
+   * Rebuilds a placed tile from its landscapes with their angles after rotation, as written in a save.
+   * <p>
+   * The definition is looked up in the file of the tiles of the game, with the number of rotations
+   * giving these angles, so the tile gets back the definition and the rotation it had before the save.
+   * A tile matching no definition of the file gets a definition of its own, not rotated.
+   * </p>
+   *
+   * @param landscapes the landscapes of the tile in order, and their angles after rotation
+   * @param animals the animals of the tile in order
+   * @param istilesquare true for a square tile, false for a hexagonal tile
+   * @return a new tile, without fauna token
+   * @throws IOException if the file of the tiles cannot be read
+   * @throws NullPointerException if the landscapes or the animals are null
+   */
+  public static Tile restore(Map<Landscape, Angle> landscapes, List<Animal> animals, boolean istilesquare) throws IOException {
+    var rotated = TileType.of(landscapes, animals);
+    for(var type : tiles(istilesquare ? SQUARE_TILES : HEXAGONAL_TILES, istilesquare)) {
+      if(type.landscape1() != rotated.landscape1() || type.landscape2() != rotated.landscape2() || !type.animals().equals(rotated.animals())) {
+        continue;
+      }
+      for(int rotation = 0; rotation < 6; rotation++) {
+        if(type.angle(0, rotation) == rotated.angle(0, 0) && type.angle(1, rotation) == rotated.angle(1, 0)) {
+          var tile = new Tile(type);
+          for(int i = 0; i < rotation; i++) {
+            tile.hexagonalRotation();
+          }
+          return tile;
+        }
+      }
+    }
+    return new Tile(rotated);
+  }
+
+  private static List<TileType> load(Path path, boolean istilesquare) throws IOException {
+    var tiles = new ArrayList<TileType>();
+    try(var reader = Files.newBufferedReader(path)) {
+      String line;
+      while((line = reader.readLine()) != null) {
+        tiles.add(istilesquare ? fromTextCarre(line) : fromText(line));
+      }
+    }
+    return List.copyOf(tiles);
+  }
+
+  /**
+   * Converts a text representation of a hexagonal tile into its definition.
+   *
+   * @param txt The text representation of the tile in the format "landscape1,angle1,landscape2,angle2,animal1,animal2,animal3".
+   * @return The definition of the tile.
+   */
+  private static TileType fromText(String txt) {
+    var array = txt.split(",");
+    var landscape = new LinkedHashMap<Landscape,Angle>();
+    var animals = new ArrayList<Animal>();
+    for(int i = 0; i< 4;i+=2) {
+      if(!array[i].equals("null")) {
+        if(array[i+1].equals("null")) {
+          landscape.put(Landscape.valueOf(array[i].toUpperCase()), Angle.NULL);
+        }else {
+          landscape.put(Landscape.valueOf(array[i].toUpperCase()), Angle.valueOf(array[i+1].toUpperCase()));
+        }
+      }
+    }
+    for(int i=4; i < 7;i++){
+      if(!array[i].equals("null")) {
+        animals.add(Animal.valueOf(array[i].toUpperCase()));
+      }
+    }
+    return TileType.of(landscape, animals);
+  }
+
+  /**
+   * Converts a text representation of a square tile into its definition.
+   *
+   * @param txt The text representation of the tile in the format "landscape,animal1,animal2".
+   * @return The definition of the tile.
+   */
+  private static TileType fromTextCarre(String txt) {
+    var array = txt.split(",");
+    var landscape = new LinkedHashMap<Landscape,Angle>();
+    var animals = new ArrayList<Animal>();
+    landscape.put(Landscape.valueOf(array[0].toUpperCase()), Angle.NULL);
+    animals.add(Animal.valueOf(array[1].toUpperCase()));
+    animals.add(Animal.valueOf(array[2].toUpperCase()));
+    return TileType.of(landscape, animals);
+  }
+}
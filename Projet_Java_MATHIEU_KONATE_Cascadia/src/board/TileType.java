@@ -0,0 +1,214 @@
+package board;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import model.Angle;
+import model.Animal;
+import model.Landscape;
+
+/**
+ * Immutable definition of a tile: its landscapes, the angles of its landscapes before any
+ * rotation, and its animals.
+ * <p>
+ * The definitions are interned: there is a single instance for each definition in the JVM,
+ * shared by all the tiles and all the games using it, so the definitions can be compared
+ * with {@code ==}. A definition is packed in an int, its identifier:
+ * </p>
+ * <ul>
+ * <li>bits 0-2: first landscape, bits 3-5: second landscape plus one (0 if none),</li>
+ * <li>bits 6-8: first angle, bits 9-11: second angle,</li>
+ * <li>bits 12-20: the animals, 3 bits each, plus one (0 if none).</li>
+ * </ul>
+ * <p>
+ * The landscapes and animals are also kept as bitmasks, bit {@code i} standing for the
+ * enum constant of ordinal {@code i}, and the landscape on each of the six edges of a
+ * hexagonal tile is computed once, so every query is answered without allocating.
+ * </p>
+ */
+public final class TileType {
+
+  /**
+   * Maximal number of landscapes of a tile.
+   */
+  public static final int MAX_LANDSCAPES = 2;
+
+  /**
+   * Maximal number of animals of a tile.
+   */
+  public static final int MAX_ANIMALS = 3;
+
+  private static final Landscape[] LANDSCAPES = Landscape.values();
+  private static final Angle[] ANGLES = Angle.values();
+  private static final Animal[] ANIMALS = Animal.values();
+  private static final ConcurrentHashMap<Integer, TileType> INTERNED = new ConcurrentHashMap<>();
+
+  private final int id;
+  private final Landscape landscape1;
+  private final Landscape landscape2;
+  private final Angle angle1;
+  private final Angle angle2;
+  private final List<Animal> animals;
+  private final int landscapemask;
+  private final int animalmask;
+  private final byte[] edges = new byte[6];
+
+  private TileType(int id) {
+    this.id = id;
+    landscape1 = LANDSCAPES[id & 7];
+    landscape2 = (id >>> 3 & 7) == 0 ? null : LANDSCAPES[(id >>> 3 & 7) - 1];
+    angle1 = ANGLES[id >>> 6 & 7];
+    angle2 = ANGLES[id >>> 9 & 7];
+    var list = new ArrayList<Animal>(MAX_ANIMALS);
+    for(int i = 0; i < MAX_ANIMALS; i++) {
+      var animal = id >>> (12 + 3 * i) & 7;
+      if(animal != 0) {
+        list.add(ANIMALS[animal - 1]);
+      }
+    }
+    animals = Collections.unmodifiableList(list);
+    landscapemask = 1 << landscape1.ordinal() | (landscape2 == null ? 0 : 1 << landscape2.ordinal());
+    var mask = 0;
+    for(var animal : list) {
+      mask |= 1 << animal.ordinal();
+    }
+    animalmask = mask;
+    for(int direction = 0; direction < edges.length; direction++) {
+      var distance = Math.abs(angle1.ordinal() - direction);
+      var first = landscape2 == null || angle1 == Angle.NULL || distance <= 1 || distance == 5;
+      edges[direction] = (byte) (first ? landscape1 : landscape2).ordinal();
+    }
+  }
+
+  /**
+   * Gets the definition of a tile from its landscapes and animals.
+   *
+   * @param landscapes the landscapes of the tile in order, and their angles, a null angle meaning {@link Angle#NULL}
+   * @param animals the animals of the tile in order
+   * @return the interned definition
+   * @throws NullPointerException if a parameter, a landscape or an animal is null
+   * @throws IllegalArgumentException if there is no landscape, more than {@value #MAX_LANDSCAPES}
+   *         landscapes or more than {@value #MAX_ANIMALS} animals
+   */
+  public static TileType of(Map<Landscape, Angle> landscapes, List<Animal> animals) {
+    Objects.requireNonNull(landscapes);
+    Objects.requireNonNull(animals);
+    if(landscapes.isEmpty() || landscapes.size() > MAX_LANDSCAPES || animals.size() > MAX_ANIMALS) {
+      throw new IllegalArgumentException("Tuile invalide : " + landscapes + " " + animals);
+    }
+    var id = 0;
+    var shift = 0;
+    for(var entry : landscapes.entrySet()) {
+      var landscape = Objects.requireNonNull(entry.getKey()).ordinal();
+      var angle = entry.getValue() == null ? Angle.NULL : entry.getValue();
+      id |= (shift == 0 ? landscape : landscape + 1) << (3 * shift);
+      id |= angle.ordinal() << (6 + 3 * shift);
+      shift++;
+    }
+    if(shift == 1) {
+      id |= Angle.NULL.ordinal() << 9;
+    }
+    for(int i = 0; i < animals.size(); i++) {
+      id |= (Objects.requireNonNull(animals.get(i)).ordinal() + 1) << (12 + 3 * i);
+    }
+    return INTERNED.computeIfAbsent(id, TileType::new);
+  }
+
+  /**
+   * Gets the identifier of the definition, the definition packed in an int.
+   *
+   * @return the identifier
+   */
+  public int id() {
+    return id;
+  }
+
+  /**
+   * Gets the first landscape.
+   *
+   * @return the first landscape
+   */
+  public Landscape landscape1() {
+    return landscape1;
+  }
+
+  /**
+   * Gets the second landscape.
+   *
+   * @return the second landscape, or null if the tile has only one landscape
+   */
+  public Landscape landscape2() {
+    return landscape2;
+  }
+
+  /**
+   * Gets the angle of a landscape after some rotations of the tile.
+   *
+   * @param landscape the index of the landscape, 0 or 1
+   * @param rotation the number of rotations of the tile
+   * @return the angle of the landscape, {@link Angle#NULL} if it does not depend on the rotation
+   */
+  public Angle angle(int landscape, int rotation) {
+    var angle = landscape == 0 ? angle1 : angle2;
+    return angle == Angle.NULL ? angle : ANGLES[(angle.ordinal() + rotation) % 6];
+  }
+
+  /**
+   * Gets the landscape on an edge of the hexagonal tile after some rotations.
+   * A landscape covers the edge facing its angle and the two edges around it,
+   * a tile with a single landscape or without angle shows its first landscape on every edge.
+   *
+   * @param direction the index of the edge, a direction of {@link Topology#HEXAGONAL}
+   * @param rotation the number of rotations of the tile
+   * @return the landscape on this edge
+   */
+  public Landscape edge(int direction, int rotation) {
+    return LANDSCAPES[edges[(direction - rotation % 6 + 6) % 6]];
+  }
+
+  /**
+   * Gets the landscapes of the tile as a bitmask.
+   *
+   * @return the bitmask of the landscapes, bit {@code i} being set for the landscape of ordinal {@code i}
+   */
+  public int landscapeMask() {
+    return landscapemask;
+  }
+
+  /**
+   * Gets the animals of the tile as a bitmask.
+   *
+   * @return the bitmask of the animals, bit {@code i} being set for the animal of ordinal {@code i}
+   */
+  public int animalMask() {
+    return animalmask;
+  }
+
+  /**
+   * Checks if a fauna token of an animal can be placed on a tile of this definition.
+   *
+   * @param animal the animal
+   * @return true if the animal is one of the animals of the tile
+   */
+  public boolean accepts(Animal animal) {
+    return (animalmask & 1 << animal.ordinal()) != 0;
+  }
+
+  /**
+   * Gets the animals of the tile.
+   *
+   * @return a read-only list of the animals, in order
+   */
+  public List<Animal> animals() {
+    return animals;
+  }
+
+  @Override
+  public String toString() {
+    return "TileType [" + landscape1 + ":" + angle1 + (landscape2 == null ? "" : "," + landscape2 + ":" + angle2) + " " + animals + "]";
+  }
+}
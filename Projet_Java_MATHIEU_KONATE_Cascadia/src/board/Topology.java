@@ -0,0 +1,122 @@
+package board;
+
+import java.util.Objects;
+
+import model.Angle;
+
+/**
+ * Neighborhood of the cells of a board, for square tiles and for hexagonal tiles.
+ * <p>
+ * The hexagonal tiles use doubled columns: the tiles of a row are two columns apart and the
+ * rows are shifted by one column, so the six neighbors of a cell are at {@code (0, ±2)} and
+ * {@code (±1, ±1)}. The directions are numbered so that the opposite of a direction is half
+ * a turn further: for the hexagonal tiles they follow the angles (E, SE, SO, O, NO, NE), for the
+ * square tiles they go north, east, south and west.
+ * </p>
+ * <p>
+ * The offsets are kept in arrays built once, and the neighbors are visited with a loop over the
+ * directions, so no position nor array is allocated:
+ * </p>
+ * <pre>
+ * for(int direction = 0; direction &lt; topology.degree(); direction++) {
+ *   var tile = board.tileAt(x + topology.dx(direction), y + topology.dy(direction));
+ * }
+ * </pre>
+ */
+public enum Topology {
+
+  /**
+   * Square tiles, with four neighbors: north, east, south and west.
+   */
+  SQUARE(new int[]{-1, 0, 1, 0}, new int[]{0, 1, 0, -1}),
+
+  /**
+   * Hexagonal tiles in doubled columns, with six neighbors in the order of the angles.
+   */
+  HEXAGONAL(new int[]{0, 1, 1, 0, -1, -1}, new int[]{2, 1, -1, -2, -1, 1});
+
+  private static final Angle[] ANGLES = Angle.values();
+
+  private final int[] dx;
+  private final int[] dy;
+
+  Topology(int[] dx, int[] dy) {
+    this.dx = dx;
+    this.dy = dy;
+  }
+
+  /**
+   * Gets the topology of a kind of tiles.
+   *
+   * @param istilesquare true for square tiles, false for hexagonal tiles
+   * @return the topology
+   */
+  public static Topology of(boolean istilesquare) {
+    return istilesquare ? SQUARE : HEXAGONAL;
+  }
+
+  /**
+   * Gets the number of neighbors of a cell.
+   *
+   * @return 4 for square tiles, 6 for hexagonal tiles
+   */
+  public int degree() {
+    return dx.length;
+  }
+
+  /**
+   * Gets the difference of x-coordinate between a cell and its neighbor in a direction.
+   *
+   * @param direction the direction, between 0 and {@link #degree()} exclusive
+   * @return the offset of the x-coordinate
+   */
+  public int dx(int direction) {
+    return dx[direction];
+  }
+
+  /**
+   * Gets the difference of y-coordinate between a cell and its neighbor in a direction.
+   *
+   * @param direction the direction, between 0 and {@link #degree()} exclusive
+   * @return the offset of the y-coordinate
+   */
+  public int dy(int direction) {
+    return dy[direction];
+  }
+
+  /**
+   * Gets the opposite of a direction, the direction from the neighbor back to the cell.
+   *
+   * @param direction the direction
+   * @return the opposite direction
+   */
+  public int opposite(int direction) {
+    return (direction + dx.length / 2) % dx.length;
+  }
+
+  /**
+   * Gets the direction of the edge a hexagonal tile shows at an angle.
+   *
+   * @param angle the angle
+   * @return the direction, -1 for {@link Angle#NULL} or for square tiles
+   * @throws NullPointerException if the angle is null
+   */
+  public int direction(Angle angle) {
+    Objects.requireNonNull(angle);
+    if(this == SQUARE || angle == Angle.NULL) {
+      return -1;
+    }
+    return angle.ordinal();
+  }
+
+  /**
+   * Gets the angle of a direction of the hexagonal tiles.
+   *
+   * @param direction the direction
+   * @return the angle facing this direction, {@link Angle#NULL} for square tiles
+   */
+  public Angle angle(int direction) {
+    Objects.checkIndex(direction, dx.length);
+    return this == SQUARE ? Angle.NULL : ANGLES[direction];
+  }
+}
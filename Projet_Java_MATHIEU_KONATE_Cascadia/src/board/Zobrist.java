@@ -0,0 +1,98 @@
+package board;
+
+import model.Angle;
+
+/**
+ * Zobrist keys of the tiles of a board.
+ * <p>
+ * The hash of a board is the exclusive or of three keys for each placed tile: one for
+ * the identity of the tile (its landscapes and animals), one for its orientation (the angles
+ * of its landscapes) and one for its fauna token. Rotating a tile or placing a token only
+ * changes one key, so the hash is updated in constant time by removing the old key and
+ * adding the new one.
+ * </p>
+ * <p>
+ * The boards are not bounded, so the keys are not stored in a table but computed by mixing
+ * the position, the kind of key and its value with the finalizer of SplitMix64. The same
+ * tile at the same position always gives the same keys, on every board.
+ * </p>
+ */
+final class Zobrist {
+
+  private static final int IDENTITY = 1;
+  private static final int ORIENTATION = 2;
+  private static final int TOKEN = 3;
+
+  private Zobrist() {
+  }
+
+  /**
+   * Computes the exclusive or of the three keys of a tile.
+   *
+   * @param x the x-coordinate of the tile
+   * @param y the y-coordinate of the tile
+   * @param tile the tile
+   * @return the contribution of the tile to the hash of the board
+   */
+  static long tile(int x, int y, Tile tile) {
+    return identity(x, y, tile) ^ orientation(x, y, tile) ^ token(x, y, tile);
+  }
+
+  /**
+   * Computes the key of the landscapes and animals of a tile.
+   */
+  private static long identity(int x, int y, Tile tile) {
+    var value = tile.getLandscape1().ordinal();
+    if(tile.getLandscape2() != null) {
+      value |= (tile.getLandscape2().ordinal() + 1) << 3;
+    }
+    var animals = tile.getAnimal();
+    for(int i = 0; i < animals.size(); i++) {
+      value |= (animals.get(i).ordinal() + 1) << (6 + 3 * i);
+    }
+    return key(x, y, IDENTITY, value);
+  }
+
+  /**
+   * Computes the key of the angles of a tile.
+   *
+   * @param x the x-coordinate of the tile
+   * @param y the y-coordinate of the tile
+   * @param tile the tile
+   * @return the key of the orientation of the tile
+   */
+  static long orientation(int x, int y, Tile tile) {
+    return key(x, y, ORIENTATION, ordinal(tile.getAngle1()) | ordinal(tile.getAngle2()) << 3);
+  }
+
+  /**
+   * Computes the key of the fauna token of a tile.
+   *
+   * @param x the x-coordinate of the tile
+   * @param y the y-coordinate of the tile
+   * @param tile the tile
+   * @return the key of the token, 0 if the tile has no token
+   */
+  static long token(int x, int y, Tile tile) {
+    var token = tile.getfaunatoken();
+    return token == null ? 0 : key(x, y, TOKEN, token.token().ordinal());
+  }
+
+  private static int ordinal(Angle angle) {
+    return angle == null ? Angle.NULL.ordinal() : angle.ordinal();
+  }
+
+  private static long key(int x, int y, int kind, int value) {
+    var position = (long) x << 32 ^ (y & 0xFFFFFFFFL);
+    return mix(position ^ mix((long) kind << 32 | value));
+  }
+
+  /**
+   * Finalizer of SplitMix64, a bijection spreading every bit of the input on the whole output.
+   */
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -1,11 +1,8 @@
 package card;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Objects;
 
 import board.Board;
-import model.Animal;
-import model.Pos;
 import player.Player;
 
 /**
@@ -26,53 +23,40 @@ import player.Player;
 public sealed interface Card permits CardVariante, CardOurs, CardWapiti, CardRenard, CardSaumon, CardAigle {
 
   /**
-   * Calculates and updates the score of the specified player according 
-   * to the rules of the card.
+   * Calculates the points of a board according to the rules of the card.
    * 
-   * @param player the player whose score will be updated
+   * <p>
+   * This method has no side effect and allocates nothing: no player is modified, nothing is printed
+   * and the groups of fauna tokens are read by index from the board, so it can be called
+   * to compare moves before playing them.
+   * </p>
+   * 
+   * @param env the board to evaluate
+   * @return the points scored with this card on the board
+   * @throws NullPointerException if the board is null
    */
-  void counterScore(Player player);
+  int points(Board env);
 
   /**
-   * Counts the number of connected animals of a specific type on the board.
+   * Calculates the score of a board according to the rules of the card, without modifying any player.
    * 
-   * <p>
-   * This method recursively checks neighboring tiles to find connected animals 
-   * of the same type. It works for both square and hexagonal board types.
-   * </p>
+   * @param env the board to evaluate
+   * @return the points scored with this card on the board
+   * @throws NullPointerException if the board is null
+   */
+  default ScoreBreakdown evaluate(Board env) {
+    return new ScoreBreakdown().addCard(this, points(env));
+  }
+
+  /**
+   * Calculates and updates the score of the specified player according 
+   * to the rules of the card.
    * 
-   * @param list a list to store the positions of connected animals
-   * @param env the game board to search
-   * @param i the x-coordinate of the current tile
-   * @param j the y-coordinate of the current tile
-   * @param v a map to track visited positions
-   * @param type the type of animal to count
-   * @param istilesquare true if the board is square, false if hexagonal
-   * @return the number of connected animals of the specified type
+   * @param player the player whose score will be updated
    */
-  default int nbAnimalHC(ArrayList<Pos> list, Board env, int i, int j, HashMap<Pos, Boolean> v, Animal type, boolean istilesquare) {
-    var nb = 0;
-    if (i < 0 || j < 0 || i >= env.getSize() || j >= env.getSize()) {
-      return 0; // Out of bounds
-    }
-    if (v.containsKey(new Pos(i, j)) || env.getEnv().get(new Pos(i, j)) == null) {
-      return 0; // Already visited or no tile at the position
-    }
-    var tile = env.getEnv().get(new Pos(i, j));
-    if (tile.getfaunatoken() == null || !tile.getfaunatoken().token().equals(type)) {
-      return 0; // No fauna token or token does not match the type
-    }
-    v.put(new Pos(i, j), true); // Mark the position as visited
-    list.add(new Pos(i, j));    // Add the position to the list
-    int[][] position = istilesquare 
-        ? new int[][]{{-1, 0}, {1, 0}, {0, -1}, {0, 1}} // Square board neighbors
-        : new int[][]{{0, 2}, {0, -2}, {-1, 1}, {-1, -1}, {1, 1}, {1, -1}}; // Hexagonal board neighbors
-    nb++;
-    for (var dir : position) {
-      nb += nbAnimalHC(list, env, i + dir[0], j + dir[1], v, type, istilesquare);
-    }
-    return nb;
+  default void counterScore(Player player) {
+    Objects.requireNonNull(player);
+    player.add(points(player.getEnv()));
   }
-  
-  
+
 }
\ No newline at end of file
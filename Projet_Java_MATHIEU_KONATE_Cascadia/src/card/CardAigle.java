@@ -1,14 +1,9 @@
 package card;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 
 import board.Board;
 import model.Animal;
-import model.Pos;
-import player.Player;
 
 /**
  * Represents the "Eagle" card in the game. 
@@ -20,18 +15,28 @@ import player.Player;
 public record CardAigle(int choice, boolean istilesquare) implements Card {
 
   /**
-   * Checks if there are at least two eagle tokens in the same row as any position in the given list.
+   * Points scored by each card variant, indexed by the number of pairs of isolated eagles.
+   */
+  private static final int[][] POINTS = {
+    {0, 2, 5, 8, 11, 14, 18, 22, 26},
+    {0, 0, 5, 9, 12, 16, 20, 24, 28},
+    {0, 2, 5, 8, 11, 14, 18, 22, 26},
+    {0, 0, 5, 9, 12, 16, 20, 24, 28}
+  };
+
+  /**
+   * Checks if there are at least two eagle tokens in the same row as any member of a group of eagles.
    * 
    * @param env The game board.
-   * @param list The list of positions to check.
+   * @param group The index of the group of eagles to check.
    * @return True if there is a line of sight with at least two eagle tokens, false otherwise.
    */
-  private boolean checkLineOfSight(Board env, ArrayList<Pos> list) {
-    for (var ele : list) {
-      var i = ele.x();
+  private boolean checkLineOfSight(Board env, int group) {
+    for (int member = 0; member < env.faunaGroupSize(Animal.AIGLE, group, istilesquare); member++) {
+      var i = env.faunaGroupX(Animal.AIGLE, group, member, istilesquare);
       int tmp = 0;
-      for (int j = 0; j < env.getSize(); j++) {
-        var tile = env.getEnv().get(new Pos(i, j));
+      for (int j = env.getMinY(); j < env.getMaxY(); j++) {
+        var tile = env.tileAt(i, j);
         if (tile != null && tile.getfaunatoken() != null && tile.getfaunatoken().token().equals(Animal.AIGLE)) {
           tmp++;
         }
@@ -44,83 +49,43 @@ public record CardAigle(int choice, boolean istilesquare) implements Card {
   }
 
   /**
-   * Provides the scoring rules for each card variant.
-   * 
-   * @return A map containing the number of eagles and their corresponding points, based on the card variant.
-   */
-  private Map<Integer, Integer> point() {
-    return switch (choice) {
-      case 1 -> Map.of(0,0,1, 2, 2, 5, 3, 8, 4, 11, 5, 14, 6, 18, 7, 22, 8, 26);
-      case 2 -> Map.of(0,0,1, 0, 2, 5, 3, 9, 4, 12, 5, 16, 6, 20, 7, 24, 8, 28);
-      case 3 -> Map.of(0,0,1, 2, 2, 5, 3, 8, 4, 11, 5, 14, 6, 18, 7, 22, 8, 26);
-      case 4 -> Map.of(0,0,1, 0, 2, 5, 3, 9, 4, 12, 5, 16, 6, 20, 7, 24, 8, 28);
-      default -> null;
-    };
-  }
-
-  /**
-   * Adds points to the player's score based on the number of eagle tokens and the card variant rules.
+   * Computes the points based on the number of isolated eagle tokens and the card variant rules.
    * 
-   * @param nb_aigle A map containing the number of connected eagles.
-   * @param player The player whose score will be updated.
+   * @param nb_aigle The number of isolated eagles.
+   * @return The points scored with this card.
    */
-  private void addPoint(HashMap<Integer, Integer> nb_aigle, Player player) {
+  private int addPoint(int nb_aigle) {
     if (choice >= 1 && choice <= 4) {
-      Carte12(nb_aigle, player);
+      return POINTS[choice - 1][Math.min(nb_aigle / 2, 8)];
     }
+    return 0;
   }
 
   /**
-   * Updates the player's score based on specific rules for card variants 1 and 2.
-   * 
-   * @param nb_aigle A map containing the number of connected eagles.
-   * @param player The player whose score will be updated.
-   */
-  private void Carte12(HashMap<Integer, Integer> nb_aigle, Player player) {
-    var point = point();
-    for (var ele : nb_aigle.entrySet()) {
-      if (ele.getKey() == 1) {
-        var value = ele.getValue() / 2;
-        if (value > 8) {
-          player.add(point.get(8));
-        } else {
-          player.add(point.get(value));
-        }
-      }
-    }
-  }
-
-  /**
-   * Calculates and updates the player's score based on the eagle tokens on the board.
+   * Calculates the points of a board based on the eagle tokens on it.
    * 
    * <p>
-   * The method searches the board for connected groups of eagle tokens and calculates the score 
-   * based on the card's rules and the current board configuration.
+   * The method reads the groups of connected eagle tokens maintained by the board and calculates the score 
+   * based on the card's rules.
    * </p>
    * 
-   * @param player The player whose score will be updated.
-   * @throws NullPointerException if the player is null.
+   * @param env The board to evaluate.
+   * @return The points scored with this card.
+   * @throws NullPointerException if the board is null.
    */
   @Override
-  public void counterScore(Player player) {
-    Objects.requireNonNull(player);
-    var nb_aigle = new HashMap<Integer, Integer>();
-    var visit = new HashMap<Pos, Boolean>();
-    for (int i = 0; i < player.getEnv().getSize(); i++) {
-      for (int j = 0; j < player.getEnv().getSize(); j++) {
-        var list = new ArrayList<Pos>();
-        var tuile = player.getEnv().getEnv().get(new Pos(i, j));
-        if (tuile != null && tuile.getfaunatoken() != null && tuile.getfaunatoken().token().equals(Animal.AIGLE) && !visit.containsKey(new Pos(i, j))) {
-          nbAnimalHC(list, player.getEnv(), i, j, visit, tuile.getfaunatoken().token(), istilesquare);
-          if (list.size() == 1 && choice != 2) {
-            nb_aigle.put(list.size(), nb_aigle.getOrDefault(list.size(), 0) + 1);
-          } else if (list.size() == 1 && checkLineOfSight(player.getEnv(), list)) {
-            nb_aigle.put(list.size(), nb_aigle.getOrDefault(list.size(), 0) + 1);
-          }
-        }
+  public int points(Board env) {
+    Objects.requireNonNull(env);
+    var nb_aigle = 0;
+    for (int group = 0; group < env.faunaGroupCount(Animal.AIGLE, istilesquare); group++) {
+      if (env.faunaGroupSize(Animal.AIGLE, group, istilesquare) != 1) {
+        continue;
+      }
+      if (choice != 2 || checkLineOfSight(env, group)) {
+        nb_aigle++;
       }
     }
-    addPoint(nb_aigle, player);
+    return addPoint(nb_aigle);
   }
 
   /**
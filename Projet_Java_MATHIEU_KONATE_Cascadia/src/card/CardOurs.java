@@ -1,13 +1,9 @@
 package card;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 
+import board.Board;
 import model.Animal;
-import model.Pos;
-import player.Player;
 
 
 /**
@@ -21,36 +17,56 @@ public record CardOurs(int choice,boolean istilesquare) implements Card{
   /**
    * Checks if the number of adjacent bear tokens matches the scoring criteria based on the card variant.
    * 
-   * @param list The list of positions containing adjacent bear tokens.
+   * @param size The number of bear tokens of a group.
    * @return True if the number of adjacent bear tokens satisfies the rules for the current card variant, false otherwise.
    */
-  private boolean checkNbAdjacentOurs(ArrayList<Pos> list) {
+  private boolean checkNbAdjacentOurs(int size) {
     switch(choice) {
-      case 1 -> {return list.size() == 2;}
-      case 2 -> {return list.size() == 3;}
-      case 3 -> {return list.size() <= 3;}
-      case 4 -> {return list.size() > 1 && list.size() <= 4;}
+      case 1 -> {return size == 2;}
+      case 2 -> {return size == 3;}
+      case 3 -> {return size <= 3;}
+      case 4 -> {return size > 1 && size <= 4;}
       default -> {return true;}  
     }
   }
   
   /**
-   * Distributes points to the player based on the number of adjacent bear tokens and the card variant.
+   * Counts the groups of bears of a specific size, if the card variant scores them.
    * 
-   * @param nb_ours A map containing the number of connected bears.
-   * @param player The player whose score will be updated.
+   * @param env The board to evaluate.
+   * @param size The number of bears of the groups.
+   * @return The number of groups of this size, 0 if the card variant does not score them.
    */
-  private void addPoint(HashMap<Integer,Integer> nb_ours,Player player) {
+  private int nbGroups(Board env, int size) {
+    if(!checkNbAdjacentOurs(size)) {
+      return 0;
+    }
+    int nb = 0;
+    for(int group = 0; group < env.faunaGroupCount(Animal.OURS, istilesquare); group++) {
+      if(env.faunaGroupSize(Animal.OURS, group, istilesquare) == size) {
+        nb++;
+      }
+    }
+    return nb;
+  }
+  
+  /**
+   * Computes the points based on the number of adjacent bear tokens and the card variant.
+   * 
+   * @param env The board to evaluate.
+   * @return The points scored with this card.
+   */
+  private int addPoint(Board env) {
     if(choice == 1) {
-      card1(nb_ours,player);
+      return card1(nbGroups(env, 2));
     }else if(choice == 2) {
-      card2(nb_ours,player);
+      return card2(nbGroups(env, 3));
     }else if(choice == 3) {
-      card3(nb_ours,player);
+      return card3(nbGroups(env, 1), nbGroups(env, 2), nbGroups(env, 3));
     }else if(choice == 4) {
-      card4(nb_ours,player);
+      return card4(nbGroups(env, 2), nbGroups(env, 3), nbGroups(env, 4));
     }
-    
+    return 0;
   }
   
   /**
@@ -60,24 +76,20 @@ public record CardOurs(int choice,boolean istilesquare) implements Card{
    * Awards points based on specific thresholds of adjacent bear groups.
    * </p>
    * 
-   * @param nb_ours A map containing the number of connected bears.
-   * @param player The player whose score will be updated.
+   * @param pairs The number of groups of two bears.
+   * @return The points scored with this variant.
    */
-  private void card1(HashMap<Integer, Integer> nb_ours, Player player) {
-    nb_ours.forEach((key, value) -> {
-      if(key==2) {
-        int scoreToAdd = switch (value) {
-          case 1 -> 4;
-          case 2 -> 11;
-          case 3 -> 19;
-          default -> 0; 
-        };
-        player.add(scoreToAdd); 
-        if(value >= 4) {
-          player.add(27);
-        }
-      }
-    });
+  private int card1(int pairs) {
+    int points = switch (pairs) {
+      case 1 -> 4;
+      case 2 -> 11;
+      case 3 -> 19;
+      default -> 0; 
+    };
+    if(pairs >= 4) {
+      points += 27;
+    }
+    return points;
   }
   
   /**
@@ -87,17 +99,11 @@ public record CardOurs(int choice,boolean istilesquare) implements Card{
    * Awards 10 points for every group of three adjacent bears.
    * </p>
    * 
-   * @param nb_ours A map containing the number of connected bears.
-   * @param player The player whose score will be updated.
+   * @param triples The number of groups of three bears.
+   * @return The points scored with this variant.
    */
-  private void card2(HashMap<Integer,Integer> nb_ours,Player player) {
-    for(var ele : nb_ours.entrySet()) {
-      if(ele.getKey()==3) {
-        for(int i = 0 ; i<ele.getValue();i++) {
-          player.add(10);
-        }
-      }
-    }
+  private int card2(int triples) {
+    return triples * 10;
   }
   
   /**
@@ -107,23 +113,30 @@ public record CardOurs(int choice,boolean istilesquare) implements Card{
    * Awards points based on group sizes of 1, 2, or 3 bears and adds a bonus for having all three group sizes.
    * </p>
    * 
-   * @param nb_ours A map containing the number of connected bears.
-   * @param player The player whose score will be updated.
+   * @param singles The number of lone bears.
+   * @param pairs The number of groups of two bears.
+   * @param triples The number of groups of three bears.
+   * @return The points scored with this variant.
    */
-  private void card3(HashMap<Integer,Integer> nb_ours,Player player) {
+  private int card3(int singles, int pairs, int triples) {
+    int points = 0;
     int bonus = 0;
-    var point = Map.of(0,0,1,2,2,5,3,8);
-    for(var ele : nb_ours.entrySet()) {
-      var key = ele.getKey();
-      var value = ele.getValue();
-      if(point.containsKey(key) && value >0 && value < 4) {
-        bonus++;
-        player.add(value*point.get(key));
-      }
+    if(singles > 0 && singles < 4) {
+      bonus++;
+      points += singles * 2;
+    }
+    if(pairs > 0 && pairs < 4) {
+      bonus++;
+      points += pairs * 5;
+    }
+    if(triples > 0 && triples < 4) {
+      bonus++;
+      points += triples * 8;
     }
     if(bonus==3) {
-      player.add(3);
+      points += 3;
     }
+    return points;
   }
   
   /**
@@ -133,49 +146,41 @@ public record CardOurs(int choice,boolean istilesquare) implements Card{
    * Awards points based on group sizes of 2, 3, or 4 bears.
    * </p>
    * 
-   * @param nb_ours A map containing the number of connected bears.
-   * @param player The player whose score will be updated.
+   * @param pairs The number of groups of two bears.
+   * @param triples The number of groups of three bears.
+   * @param quadruples The number of groups of four bears.
+   * @return The points scored with this variant.
    */
-  private void card4(HashMap<Integer,Integer> nb_ours,Player player) {
-    var point = Map.of(0,0,1,0,2,5,3,8,4,13);
-    for(var ele : nb_ours.entrySet()) {
-      var key = ele.getKey();
-      var value = ele.getValue();
-      if(point.containsKey(key) && value >0 && value < 5) {
-        player.add(value*point.get(key));
-      }
+  private int card4(int pairs, int triples, int quadruples) {
+    int points = 0;
+    if(pairs > 0 && pairs < 5) {
+      points += pairs * 5;
+    }
+    if(triples > 0 && triples < 5) {
+      points += triples * 8;
+    }
+    if(quadruples > 0 && quadruples < 5) {
+      points += quadruples * 13;
     }
+    return points;
   }
   
   /**
-   * Calculates and updates the player's score based on the bear tokens on the board.
+   * Calculates the points of a board based on the bear tokens on it.
    * 
    * <p>
-   * The method searches the board for connected groups of bear tokens and calculates the score 
-   * based on the card's rules and the current board configuration.
+   * The method reads the groups of connected bear tokens maintained by the board and calculates the score 
+   * based on the card's rules.
    * </p>
    * 
-   * @param player The player whose score will be updated.
-   * @throws NullPointerException if the player is null.
+   * @param env The board to evaluate.
+   * @return The points scored with this card.
+   * @throws NullPointerException if the board is null.
    */
   @Override
-  public void counterScore(Player player) {
-    Objects.requireNonNull(player);
-    var nb_ours = new HashMap<Integer,Integer>();
-    var visit = new HashMap<Pos, Boolean>();
-    for(int i = 0; i < player.getEnv().getSize(); i++) {
-      for(int j = 0; j < player.getEnv().getSize(); j++) {
-        var list = new ArrayList<Pos>();
-        var tile = player.getEnv().getEnv().get(new Pos(i, j));
-        if(tile != null && tile.getfaunatoken() != null && tile.getfaunatoken().token().equals(Animal.OURS) && !visit.containsKey(new Pos(i,j))) {  
-          nbAnimalHC(list,player.getEnv(),i,j,visit,tile.getfaunatoken().token(),istilesquare);
-          if(checkNbAdjacentOurs(list)) {
-            nb_ours.put(list.size(), nb_ours.getOrDefault(list.size(), 0)+1);
-          }
-        }
-      }
-    }
-    addPoint(nb_ours,player);
+  public int points(Board env) {
+    Objects.requireNonNull(env);
+    return addPoint(env);
   }
 
   /**
@@ -1,15 +1,10 @@
 package card;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 
 import board.Board;
-import board.Tile;
+import board.Topology;
 import model.Animal;
-import model.Pos;
-import player.Player;
 
 /**
  * Represents the "Fox" card in the game.
@@ -19,225 +14,274 @@ import player.Player;
  * @param istilesquare Indicates if the board uses square tiles (true) or hexagonal tiles (false).
  */
 public record CardRenard(int choice,boolean istilesquare) implements Card {
+  private static final Animal RENARD = Animal.RENARD;
+  private static final Animal[] ANIMALS = Animal.values();
   
-
+  /**
+   * Points scored by each card variant, indexed by the value computed around a fox.
+   */
+  private static final int[][] POINTS = {
+    {0,1,2,3,4,5},
+    {0,3,5,7},
+    {0,1,2,3,4,5,6},
+    {0,5,7,9,1}
+  };
   
   /**
-   * Adds points to the player's score for card variant 1 based on adjacent animals.
+   * Gets the animal of the fauna token at a position of the board.
    * 
-   * @param list A map of adjacent animals and their counts.
-   * @param nb_renard A map of counts for scoring.
+   * @param env The game board.
+   * @param x The x-coordinate.
+   * @param y The y-coordinate.
+   * @return The animal of the token, or <code>null</code> if there is no token at this position.
    */
-  private void card1(HashMap<Animal,Integer> list,HashMap<Integer,Integer> nb_renard) {
-    for(int i=0;i<list.size();i++) {
-      nb_renard.put(1, nb_renard.getOrDefault(1, 0) + 1);
+  private static Animal tokenAt(Board env,int x,int y) {
+    var tile = env.tileAt(x, y);
+    if(tile == null || tile.getfaunatoken() == null) {
+      return null;
     }
-  }  
+    return tile.getfaunatoken().token();
+  }
+  
   /**
-   * Adds points to the player's score for card variant 2 based on adjacent animals with a count of 2.
-   * 
-   * @param list A map of adjacent animals and their counts.
-   * @param nb_renard A map of counts for scoring.
+   * Checks if a position comes before another one when the board is read row by row.
    */
-  private void card2(HashMap<Animal,Integer> list,HashMap<Integer,Integer> nb_renard) {
-    for(var ele: list.entrySet()) {
-      var value = ele.getValue();
-      if(value==2) {
-        nb_renard.put(2, nb_renard.getOrDefault(1, 0)+1);
-      }
-    }
+  private static boolean before(int x1,int y1,int x2,int y2) {
+    return x1 < x2 || (x1 == x2 && y1 < y2);
   }
   
   /**
-   * Finds the highest count of adjacent animals for card variant 3.
-   * 
-   * @param list A map of adjacent animals and their counts.
-   * @param nb_renard A map of counts for scoring.
+   * Checks if two positions are adjacent.
    */
-  private void card3(HashMap<Animal,Integer> list,HashMap<Integer,Integer> nb_renard) {
-    int nb=0;
-    for(var ele: list.entrySet()) {
-      var value = ele.getValue();
-      if(value > nb) {
-        nb = value;
+  private static boolean adjacent(Topology topology,int x1,int y1,int x2,int y2) {
+    for(int direction = 0; direction < topology.degree(); direction++) {
+      if(x1 + topology.dx(direction) == x2 && y1 + topology.dy(direction) == y2) {
+        return true;
       }
     }
-    nb_renard.put(3, nb);
+    return false;
   }
   
   /**
-   * Adds points to the player's score for card variant 4 based on adjacent animals with a count of 2.
+   * Checks if a fox counts the animals around it.
    * 
-   * @param list A map of adjacent animals and their counts.
-   * @param nb_renard A map of counts for scoring.
+   * <p>
+   * The foxes are read row by row. With variant 1 the foxes next to a fox already read are counted as
+   * its neighbours and do not count around themselves; with the other variants every fox does.
+   * </p>
+   * 
+   * @param env The game board.
+   * @param topology The topology of the board.
+   * @param x The x-coordinate of the fox.
+   * @param y The y-coordinate of the fox.
+   * @return <code>true</code> if the fox counts the animals around it.
    */
-  private void card4(HashMap<Animal,Integer> list,HashMap<Integer,Integer> nb_renard) {
-    for(var ele: list.entrySet()) {
-      var value = ele.getValue();
-      if(value ==2) {
-        nb_renard.put(4, nb_renard.getOrDefault(1, 0)+1);
-      }
+  private boolean isCenter(Board env,Topology topology,int x,int y) {
+    if(tokenAt(env, x, y) != RENARD) {
+      return false;
     }
-  }
-  
-
-  private void addPointCard1(Player player,HashMap<Integer,Integer> nb_renard,HashMap<Animal,Integer> list) {
-    card1(list,nb_renard);
-    var point = point();
-    for(var ele:nb_renard.entrySet()) {
-      var value = ele.getValue();
-      if(ele.getKey()==1&& value >0 && value <6) {
-        player.add(point.get(value));
+    if(choice != 1) {
+      return true;
+    }
+    for(int direction = 0; direction < topology.degree(); direction++) {
+      var nx = x + topology.dx(direction);
+      var ny = y + topology.dy(direction);
+      if(before(nx, ny, x, y) && isCenter(env, topology, nx, ny)) {
+        return false;
       }
     }
+    return true;
   }
   
-  private void addPointCard2(Player player,HashMap<Integer,Integer> nb_renard,HashMap<Animal,Integer> list) {
-    card2(list,nb_renard);
-    var point = point();
-    for(var ele:nb_renard.entrySet()) {
-      var value = ele.getValue();
-      if(ele.getKey()==2&& value >0 && value <4) {
-        player.add(point.get(value));
+  /**
+   * Checks if the token next to a fox is counted by this fox.
+   * 
+   * <p>
+   * A token is counted by the first fox that reaches it, foxes being ignored except with variant 1.
+   * </p>
+   * 
+   * @param env The game board.
+   * @param topology The topology of the board.
+   * @param cx The x-coordinate of the fox.
+   * @param cy The y-coordinate of the fox.
+   * @param x The x-coordinate of the token.
+   * @param y The y-coordinate of the token.
+   * @return <code>true</code> if the token is counted by this fox.
+   */
+  private boolean isCounted(Board env,Topology topology,int cx,int cy,int x,int y) {
+    var token = tokenAt(env, x, y);
+    if(token == null || (token == RENARD && choice != 1)) {
+      return false;
+    }
+    for(int direction = 0; direction < topology.degree(); direction++) {
+      var nx = x + topology.dx(direction);
+      var ny = y + topology.dy(direction);
+      if(before(nx, ny, cx, cy) && isCenter(env, topology, nx, ny)) {
+        return false;
       }
     }
+    return true;
   }
   
-  private void addPointCard3(Player player,HashMap<Integer,Integer> nb_renard,HashMap<Animal,Integer> list) {
-    card3(list,nb_renard);
-    var point = point();
-    for(var ele:nb_renard.entrySet()) {
-      var value = ele.getValue();
-      if(ele.getKey()==3&& value >0 && value <7) {
-        player.add(point.get(value));
+  /**
+   * Counts the tokens of an animal counted by a fox.
+   * 
+   * @param env The game board.
+   * @param topology The topology of the board.
+   * @param x The x-coordinate of the fox.
+   * @param y The y-coordinate of the fox.
+   * @param animal The animal to count.
+   * @return The number of tokens of this animal counted by the fox.
+   */
+  private int count(Board env,Topology topology,int x,int y,Animal animal) {
+    int count = 0;
+    for(int direction = 0; direction < topology.degree(); direction++) {
+      var nx = x + topology.dx(direction);
+      var ny = y + topology.dy(direction);
+      if(tokenAt(env, nx, ny) == animal && isCounted(env, topology, x, y, nx, ny)) {
+        count++;
       }
     }
+    return count;
   }
   
-  private void addPointCard4(Player player,HashMap<Integer,Integer> nb_renard,HashMap<Animal,Integer> list) {
-    card4(list,nb_renard);
-    var point = point();
-    for(var ele:nb_renard.entrySet()) {
-      var value = ele.getValue();
-      if(ele.getKey()==4 && value >0 && value <5) {
-        player.add(point.get(value));
+  /**
+   * Computes the value of a fox for card variants 1, 2 and 3.
+   * 
+   * <ul>
+   * <li>variant 1: the number of different animals counted;</li>
+   * <li>variant 2: 1 if an animal is counted exactly twice;</li>
+   * <li>variant 3: the highest count of an animal.</li>
+   * </ul>
+   */
+  private int value(Board env,Topology topology,int x,int y) {
+    int value = 0;
+    for(var animal : ANIMALS) {
+      var count = count(env, topology, x, y, animal);
+      switch(choice) {
+      case 1 -> value += count > 0 ? 1 : 0;
+      case 2 -> value = count == 2 ? 1 : value;
+      case 3 -> value = Math.max(value, count);
+      default -> { }
       }
     }
+    return value;
   }
   
   /**
-   * Adds points to the player's score based on the card variant.
-   * 
-   * @param player The player whose score is being updated.
-   * @param nb_renard A map of counts for scoring.
-   * @param list A map of adjacent animals and their counts.
+   * Computes the points of a value with the table of the card variant.
    */
-  private void addPoint(Player player,HashMap<Integer,Integer> nb_renard,HashMap<Animal,Integer> list) {
-    switch(choice) {
-    case 1 -> addPointCard1(player,nb_renard,list);
-    case 2 -> addPointCard2(player,nb_renard,list);
-    case 3 -> addPointCard3(player,nb_renard,list);
-    case 4 -> addPointCard4(player,nb_renard,list);
+  private int addPoint(int value) {
+    var point = POINTS[choice - 1];
+    if(value > 0 && value < point.length) {
+      return point[value];
     }
+    return 0;
   }
   
   /**
-   * Returns the scoring rules for the current card variant.
+   * Checks if a token is next to a member of a pair of foxes read before the given one.
    * 
-   * @return A map of scores based on the number of adjacent animals.
+   * @param env The game board.
+   * @param topology The topology of the board.
+   * @param group The index of the current pair of foxes.
+   * @param x The x-coordinate of the token.
+   * @param y The y-coordinate of the token.
+   * @return <code>true</code> if the token was already counted by a previous pair.
    */
-  private Map<Integer,Integer> point() {
-    return switch(choice) {
-    case 1 -> Map.of(0,0,1,1,2,2,3,3,4,4,5,5);
-    case 2 -> Map.of(0,0,1,3,2,5,3,7);
-    case 3 -> Map.of(0,0,1,1,2,2,3,3,4,4,5,5,6,6);
-    case 4 -> Map.of(0,0,1,5,2,7,3,9,4,1);
-    default -> null;
-    };
+  private boolean nextToPreviousPair(Board env,Topology topology,int group,int x,int y) {
+    for(int previous = 0; previous < group; previous++) {
+      if(env.faunaGroupSize(RENARD, previous, istilesquare) != 2) {
+        continue;
+      }
+      for(int member = 0; member < 2; member++) {
+        if(adjacent(topology, x, y, env.faunaGroupX(RENARD, previous, member, istilesquare),
+            env.faunaGroupY(RENARD, previous, member, istilesquare))) {
+          return true;
+        }
+      }
+    }
+    return false;
   }
   
-  
   /**
-   * Recursively counts animals adjacent to a specific position on the board.
+   * Counts the tokens of an animal around a pair of foxes for card variant 4.
    * 
-   * @param list A map of animals and their counts adjacent to the starting position.
    * @param env The game board.
-   * @param i The x-coordinate of the starting position.
-   * @param j The y-coordinate of the starting position.
-   * @param v A map to track visited positions.
-   * @param type The type of animal being considered (e.g., Fox).
-   * @param stop A counter for the depth of the recursion.
+   * @param topology The topology of the board.
+   * @param group The index of the pair of foxes.
+   * @param animal The animal to count.
+   * @return The number of tokens of this animal next to the pair and not counted by a previous pair.
    */
-  private void animalsAdjacent(HashMap<Animal,Integer> list,Board env,int i,int j,HashMap<	Pos, Boolean> v,Animal type,int stop) {
-    if(i < 0 || j < 0 || i >= env.getSize() || j >= env.getSize() || stop==2)  {
-      return;
-    }
-    if(choice!=4) {
-      if((v.containsKey(new Pos(i,j))  || env.getEnv().get(new Pos(i,j)) == null)) {
-        return; 
-      }
-    }else {
-      if((v.containsKey(new Pos(i,j)) && stop!=0) || env.getEnv().get(new Pos(i,j)) == null){
-        return;
+  private int countAroundPair(Board env,Topology topology,int group,Animal animal) {
+    var x0 = env.faunaGroupX(RENARD, group, 0, istilesquare);
+    var y0 = env.faunaGroupY(RENARD, group, 0, istilesquare);
+    var x1 = env.faunaGroupX(RENARD, group, 1, istilesquare);
+    var y1 = env.faunaGroupY(RENARD, group, 1, istilesquare);
+    int count = 0;
+    for(int member = 0; member < 2; member++) {
+      var x = member == 0 ? x0 : x1;
+      var y = member == 0 ? y0 : y1;
+      for(int direction = 0; direction < topology.degree(); direction++) {
+        var nx = x + topology.dx(direction);
+        var ny = y + topology.dy(direction);
+        if(tokenAt(env, nx, ny) != animal || (member == 1 && adjacent(topology, x0, y0, nx, ny))) {
+          continue;
+        }
+        if(!nextToPreviousPair(env, topology, group, nx, ny)) {
+          count++;
+        }
       }
     }
-    var tile = env.getEnv().get(new Pos(i, j));
-    if(tile.getfaunatoken() == null || (tile.getfaunatoken().token().equals(type) && stop != 0 && choice!=1)) {
-        return;
-    }
-    updateAnimalList(tile,list,type,stop);
-    v.put(new Pos(i,j),true);
-    int[][] position = istilesquare ? new int[][]{{-1, 0}, {1, 0}, {0, -1}, {0, 1}} : new int[][]{{0, 2}, {0, -2}, {-1, 1}, {-1, -1}, {1, 1}, {1, -1}}; 
-    for(var ele: position) {
-      animalsAdjacent(list,env,ele[0]+i,j+ele[1],v,type,stop+1);
-    }
+    return count;
   }
   
-  
   /**
-   * Updates the count of a specific type of animal in the provided list if conditions are met.
-   *
-   * @param tile The tile being evaluated, containing the fauna token.
-   * @param list A map of animals and their current counts to be updated.
-   * @param type The type of animal being considered.
-   * @param stop The depth of recursion; only updates the list if {@code stop != 0}.
+   * Computes the points of card variant 4 based on the animals around the pairs of foxes.
    */
-  private void updateAnimalList(Tile tile, HashMap<Animal, Integer> list, Animal type, int stop) {
-    if(stop!=0) {
-      list.put(tile.getfaunatoken().token(),list.getOrDefault(tile.getfaunatoken().token(), 0)+1);
+  private int card4(Board env,Topology topology) {
+    int points = 0;
+    for(int group = 0; group < env.faunaGroupCount(RENARD, istilesquare); group++) {
+      if(env.faunaGroupSize(RENARD, group, istilesquare) != 2) {
+        continue;
+      }
+      int value = 0;
+      for(var animal : ANIMALS) {
+        if(animal != RENARD && countAroundPair(env, topology, group, animal) == 2) {
+          value = 1;
+        }
+      }
+      points += addPoint(value);
     }
+    return points;
   }
   
-  
   /**
-   * Calculates and updates the player's score based on the fox tokens on the board.
+   * Calculates the points of a board based on the fox tokens on it.
    * 
-   * @param player The player whose score is being updated.
-   * @throws NullPointerException if the player is null.
+   * @param env The board to evaluate.
+   * @return The points scored with this card.
+   * @throws NullPointerException if the board is null.
    */
   @Override
-  public void counterScore(Player player) {
-    Objects.requireNonNull(player);
-    var renard = Animal.RENARD;
-    var visit = new HashMap<Pos, Boolean>();
-    for(int i = 0; i < player.getEnv().getSize(); i++) {
-      for(int j = 0; j < player.getEnv().getSize(); j++) {
-        var list = new HashMap<Animal,Integer>();
-        var nb_renard = new HashMap<Integer,Integer>();
-        var pos = new ArrayList<Pos>();
-        var tile = player.getEnv().getEnv().get(new Pos(i, j));
-        if(tile != null && tile.getfaunatoken() != null && tile.getfaunatoken().token().equals(renard) && !visit.containsKey(new Pos(i,j)) && choice != 4) {  
-          animalsAdjacent(list,player.getEnv(),i,j,visit,tile.getfaunatoken().token(),0);
-        }else if(tile != null && tile.getfaunatoken() != null && tile.getfaunatoken().token().equals(renard) && !visit.containsKey(new Pos(i,j)) && choice == 4) {
-          nbAnimalHC(pos,player.getEnv(),i,j,visit,renard,istilesquare); 
-          if(pos.size()==2) {
-            animalsAdjacent(list,player.getEnv(),pos.get(0).x(),pos.get(0).y(),visit,tile.getfaunatoken().token(),0);
-            animalsAdjacent(list,player.getEnv(),pos.get(1).x(),pos.get(1).y(),visit,tile.getfaunatoken().token(),0);
-          }
+  public int points(Board env) {
+    Objects.requireNonNull(env);
+    if(choice < 1 || choice > 4) {
+      return 0;
+    }
+    var topology = Topology.of(istilesquare);
+    if(choice == 4) {
+      return card4(env, topology);
+    }
+    int points = 0;
+    for(int i = env.getMinX(); i < env.getMaxX(); i++) {
+      for(int j = env.getMinY(); j < env.getMaxY(); j++) {
+        if(isCenter(env, topology, i, j)) {
+          points += addPoint(value(env, topology, i, j));
         }
-        addPoint(player,nb_renard,list);
       }
     }
+    return points;
   }
 
   /**
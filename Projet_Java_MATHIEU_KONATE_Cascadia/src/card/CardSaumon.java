@@ -1,13 +1,9 @@
 package card;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 
+import board.Board;
 import model.Animal;
-import model.Pos;
-import player.Player;
 
 /**
  * Represents a scoring card for the animal "Saumon" (Salmon).
@@ -22,80 +18,79 @@ import player.Player;
 public record CardSaumon(int choice,boolean istilesquare) implements Card{
   
   /**
-   * Adds points to the player's score based on the connected groups of salmon.
+   * Points scored for a group of salmon by each card variant, indexed by the size of the group.
+   */
+  private static final int[][] POINTS = {
+    {0,2,5,8,12,16,20,25},
+    {0,2,4,9,11,17},
+    {0,0,0,10,12,15},
+    {0,2,5,8,12,16,20,25}
+  };
+  
+  /**
+   * Computes the points based on the connected groups of salmon.
    * 
-   * @param nb_saumon A map where the keys represent the size of connected salmon groups,
-   *                  and the values represent the number of groups of that size.
-   * @param player The player whose score will be updated.
+   * @param env The board to evaluate.
+   * @return The points scored with this card.
    */
-  private void addPoint(HashMap<Integer,Integer> nb_saumon,Player player) {
+  private int addPoint(Board env) {
     if(choice == 1) {
-      card123(nb_saumon,player,7);
+      return card123(env,7);
     }else if(choice == 2) {
-      card123(nb_saumon,player,5);
+      return card123(env,5);
     }else if(choice == 3) {
-      card123(nb_saumon,player,5);
+      return card123(env,5);
     }else if(choice == 4) {
-      card123(nb_saumon,player,5);
+      return card123(env,5);
     }
-    
+    return 0;
   }
   
   /**
-   * Returns a map of point values for each card variant.
+   * Returns the point values of the card variant.
    * 
-   * @return A map where the keys are group sizes and the values are points scored for groups of that size.
+   * @return An array where the indexes are group sizes and the values are points scored for groups of that size.
    */
-  private Map<Integer,Integer> point() {
+  private int[] point() {
     return switch(choice) {
-    case 1 -> Map.of(0,0,1,2,2,5,3,8,4,12,5,16,6,20,7,25);
-    case 2 -> Map.of(0,0,1,2,2,4,3,9,4,11,5,17);
-    case 3 -> Map.of(0,0,1,0,2,0,3,10,4,12,5,15);
-    case 4 -> Map.of(0,0,1,2,2,5,3,8,4,12,5,16,6,20,7,25);
+    case 1, 2, 3, 4 -> POINTS[choice - 1];
     default -> null;
     };
   }
   
   /**
-   * Assigns points to the player based on the salmon groups for card variants 1, 2, and 3.
+   * Computes the points of the salmon groups for card variants 1, 2, and 3.
    * 
-   * @param nb_saumon A map where the keys represent the size of salmon groups, and the values represent their counts.
-   * @param player The player whose score will be updated.
+   * @param env The board to evaluate.
    * @param valmax The maximum group size for scoring.
+   * @return The points scored with the salmon groups.
    */
-  private void card123(HashMap<Integer, Integer> nb_saumon, Player player, int valmax) {
+  private int card123(Board env, int valmax) {
+    int points = 0;
     var point = point();
-    for(var ele: nb_saumon.entrySet()) {
-      for(int i =0 ; i<ele.getValue();i++) {
-        if(ele.getKey() > valmax) {
-          player.add(point.get(valmax));
-        }
-        player.add(point.get(ele.getKey()));
+    for(int group = 0; group < env.faunaGroupCount(Animal.SAUMON, istilesquare); group++) {
+      var size = env.faunaGroupSize(Animal.SAUMON, group, istilesquare);
+      if(size > valmax) {
+        points += point[valmax];
+      }
+      if(size < point.length) {
+        points += point[size];
       }
     }
+    return points;
   }
   
   /**
-   * Calculates and updates the player's score based on the connected groups of salmon tokens.
+   * Calculates the points of a board based on the connected groups of salmon tokens.
    * 
-   * @param player The player whose score will be updated.
+   * @param env The board to evaluate.
+   * @return The points scored with this card.
+   * @throws NullPointerException if the board is null.
    */
   @Override
-  public void counterScore(Player player) {
-    Objects.requireNonNull(player);
-    var nb_saumon = new HashMap<Integer,Integer>();
-    var visit = new HashMap<Pos, Boolean>();
-    for(int i = 0; i < player.getEnv().getSize(); i++) {
-      for(int j = 0; j < player.getEnv().getSize(); j++) {
-        var list = new ArrayList<Pos>();
-        var tile = player.getEnv().getEnv().get(new Pos(i, j));
-        if(tile != null && tile.getfaunatoken() != null && tile.getfaunatoken().token().equals(Animal.SAUMON) && !visit.containsKey(new Pos(i,j))) {  
-          nbAnimalHC(list,player.getEnv(),i,j,visit,tile.getfaunatoken().token(),istilesquare);
-          nb_saumon.put(list.size(), nb_saumon.getOrDefault(list.size(), 0)+1);
-        }
-      }
-    }
-    addPoint(nb_saumon,player);
+  public int points(Board env) {
+    Objects.requireNonNull(env);
+    return addPoint(env);
   }
 
 
@@ -1,11 +1,9 @@
 package card;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Objects;
 
-import model.Pos;
-import player.Player;
+import board.Board;
+import model.Animal;
 
 /**
  * Represents a special scoring card for a game variant.
@@ -21,6 +19,8 @@ import player.Player;
  * @param istilesquare <code>true</code> if the game uses square tiles; <code>false</code> if hexagonal tiles are used.
  */
 public record CardVariante(int choice,boolean istilesquare) implements Card {
+  private static final Animal[] ANIMALS = Animal.values();
+  
   /**
    * Calculates the points for a group of connected fauna tokens based on the card variant.
    * 
@@ -49,32 +49,25 @@ public record CardVariante(int choice,boolean istilesquare) implements Card {
   }
   
   /**
-   * Calculates and updates the player's score based on the groups of connected fauna tokens.
+   * Calculates the points of a board based on the groups of connected fauna tokens.
    * <p>
    * The score is calculated by determining the size of each group and applying the point rules for the current variant.
    * </p>
    * 
-   * @param player The player whose score will be updated.
-   * @throws NullPointerException if the <code>player</code> is <code>null</code>.
+   * @param env The board to evaluate.
+   * @return The points scored with this card.
+   * @throws NullPointerException if the <code>env</code> is <code>null</code>.
    */
   @Override
-  public void counterScore(Player player) {
-    Objects.requireNonNull(player);
+  public int points(Board env) {
+    Objects.requireNonNull(env);
     int total_p = 0;
-    int nb;
-    var visit = new HashMap<Pos, Boolean>();
-    for(int i = 0; i < player.getEnv().getSize(); i++) {
-      for(int j = 0; j< player.getEnv().getSize(); j++) {
-        var t = player.getEnv().getEnv().get(new Pos(i,j));
-        var list = new ArrayList<Pos>();
-        if(t!=null && t.getfaunatoken() != null && !visit.containsKey(new Pos(i,j)) ) {
-          nb = nbAnimalHC(list,player.getEnv(),i,j,visit,t.getfaunatoken().token(),istilesquare);
-          total_p += nbPointVariante(nb);
-        }
-        
+    for(var animal : ANIMALS) {
+      for(int group = 0; group < env.faunaGroupCount(animal, istilesquare); group++) {
+        total_p += nbPointVariante(env.faunaGroupSize(animal, group, istilesquare));
       }
     }
-    player.add(total_p);
+    return total_p;
   }
   
   /**
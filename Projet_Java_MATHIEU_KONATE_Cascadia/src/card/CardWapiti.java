@@ -1,15 +1,9 @@
 package card;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
 import java.util.Objects;
 
 import board.Board;
 import model.Animal;
-import model.Pos;
-import player.Player;
 
 /**
  * Represents a scoring card for the "Wapiti" animal in the game.
@@ -28,242 +22,197 @@ import player.Player;
  * @param istilesquare <code>true</code> if the game uses square tiles; <code>false</code> if hexagonal tiles are used.
  */
 public record CardWapiti(int choice,boolean istilesquare) implements Card {
+  private static final Animal WAPITI = Animal.WAPITI;
+  
+  /**
+   * Points scored for a group of wapitis by each card variant, indexed by the size of the group.
+   */
+  private static final int[][] POINTS = {
+    {0,2,5,9,13},
+    {0,2,5,9,13},
+    {0,2,4,7,10,14,18,23},
+    {0,2,5,8,12,16,21}
+  };
+  
+  /**
+   * Offsets from the first member of a group of the positions forming a line.
+   */
+  private static final int[][] LINE = {{0,0},{0,2},{0,4},{0,6}};
+  
+  /**
+   * Offsets from the first member of a group of the positions forming a circle.
+   */
+  private static final int[][] CIRCLE = {{0,0},{0,2},{1,-1},{1,3},{2,0},{2,2}};
   
   /**
    * Scoring logic for choice 1: checks line patterns.
    * 
-   * @param env        The game board.
-   * @param list       The list of positions forming a group.
-   * @param nb_wapiti  The hashmap storing group sizes and their counts.
-   * @param wapiti     The animal type (Wapiti).
+   * @param env   The game board.
+   * @param group The index of the group of wapitis.
+   * @param size  The size of the group.
+   * @return <code>true</code> if the group scores; <code>false</code> otherwise.
    */
-  private void Card1(Board env, ArrayList<Pos> list,HashMap<Integer,Integer> nb_wapiti, Animal wapiti) {
-    if(list.size()==1) {
-      nb_wapiti.put(list.size(),nb_wapiti.getOrDefault(list.size(), 0)+1);
-    }else if(list.size()>=2) {
-      if(checkLine(env,list,wapiti)) {
-        nb_wapiti.put(list.size(),nb_wapiti.getOrDefault(list.size(), 0)+1);
-      }
+  private boolean Card1(Board env, int group, int size) {
+    if(size==1) {
+      return true;
     }
+    return size>=2 && checkShape(env,group,size,LINE);
   }
   
   /**
-   * Checks if a group forms a straight line pattern.
+   * Checks if every member of a group lies on one of the given offsets from its first member.
    * 
-   * @param env    The game board.
-   * @param list   The list of positions forming a group.
-   * @param wapiti The animal type (Wapiti).
-   * @return <code>true</code> if the group forms a straight line; <code>false</code> otherwise.
+   * @param env     The game board.
+   * @param group   The index of the group of wapitis.
+   * @param size    The size of the group.
+   * @param offsets The offsets allowed from the first member of the group.
+   * @return <code>true</code> if the group fits in the shape; <code>false</code> otherwise.
    */
-  private boolean checkLine(Board env,ArrayList<Pos> list,Animal wapiti) {
-    var pos = list.getFirst();
-    Pos[] positions = {pos,new Pos(pos.x(),pos.y()+2),new Pos(pos.x(),pos.y()+4),new Pos(pos.x(),pos.y()+6)};
-    var position = new HashSet<Pos>();
-    for(var ele : positions) {
-      position.add(ele);
-    }
-    for(var p : list) {
-      if(!position.contains(p)) {
-          return false; 
+  private boolean checkShape(Board env,int group,int size,int[][] offsets) {
+    var x = env.faunaGroupX(WAPITI, group, 0, istilesquare);
+    var y = env.faunaGroupY(WAPITI, group, 0, istilesquare);
+    for(int member = 0; member < size; member++) {
+      var dx = env.faunaGroupX(WAPITI, group, member, istilesquare) - x;
+      var dy = env.faunaGroupY(WAPITI, group, member, istilesquare) - y;
+      if(!contains(offsets,dx,dy)) {
+        return false;
       }
     }
     return true;
   }
-    
+  
   /**
-   * Scoring logic for choice 2: checks shapes like triangles and diamonds.
+   * Checks if an offset belongs to a shape.
    * 
-   * @param env        The game board.
-   * @param list       The list of positions forming a group.
-   * @param nb_wapiti  The hashmap storing group sizes and their counts.
-   * @param wapiti     The animal type (Wapiti).
+   * @param offsets The offsets of the shape.
+   * @param dx      The row offset.
+   * @param dy      The column offset.
+   * @return <code>true</code> if the offset belongs to the shape; <code>false</code> otherwise.
    */
-  private void Card2(Board env, ArrayList<Pos> list,HashMap<Integer,Integer> nb_wapiti, Animal wapiti) {
-    var pos = list.getFirst();
-    if(list.size()==1)  {
-      nb_wapiti.put(list.size(),nb_wapiti.getOrDefault(list.size(), 0)+1);
-    }else if(list.size()==2)  {
-      if(checkLine(env,list,wapiti)) {
-        nb_wapiti.put(list.size(),nb_wapiti.getOrDefault(list.size(), 0)+1);
-      }
-    }else if(list.size()==3)  {
-      if(checkTriangle(env,pos,wapiti)) {
-        nb_wapiti.put(list.size(),nb_wapiti.getOrDefault(list.size(), 0)+1);
-      }
-    }else if(list.size()==4)  {
-      if(checkLosange(env,pos,wapiti)) {
-        nb_wapiti.put(list.size(),nb_wapiti.getOrDefault(list.size(), 0)+1);
+  private static boolean contains(int[][] offsets,int dx,int dy) {
+    for(var offset : offsets) {
+      if(offset[0]==dx && offset[1]==dy) {
+        return true;
       }
     }
+    return false;
   }
-  
+    
   /**
-   * Checks if a group forms a triangle pattern.
+   * Scoring logic for choice 2: checks shapes like triangles and diamonds.
    * 
-   * @param env    The game board.
-   * @param pos    The starting position of the group.
-   * @param wapiti The animal type (Wapiti).
-   * @return <code>true</code> if the group forms a triangle; <code>false</code> otherwise.
+   * @param env   The game board.
+   * @param group The index of the group of wapitis.
+   * @param size  The size of the group.
+   * @return <code>true</code> if the group scores; <code>false</code> otherwise.
    */
-  private boolean checkTriangle(Board env,Pos pos, Animal wapiti) {
-    var tuile1 = env.getEnv().get(new Pos(pos.x()+1,pos.y()-1));
-    var tuile2 = env.getEnv().get(new Pos(pos.x()+1,pos.y()+1));
-    if(tuile1!=null && tuile2!=null) {
-      if(tuile1.getfaunatoken().token().equals(wapiti) && tuile2.getfaunatoken().token().equals(wapiti)) {
-        return true;
-      }
+  private boolean Card2(Board env, int group, int size) {
+    var x = env.faunaGroupX(WAPITI, group, 0, istilesquare);
+    var y = env.faunaGroupY(WAPITI, group, 0, istilesquare);
+    if(size==1)  {
+      return true;
+    }else if(size==2)  {
+      return checkShape(env,group,size,LINE);
+    }else if(size==3)  {
+      return checkTriangle(env,x,y);
+    }else if(size==4)  {
+      return checkLosange(env,x,y);
     }
     return false;
   }
   
   /**
-   * Checks if a group forms a diamond pattern.
+   * Checks if a group forms a triangle pattern.
    * 
-   * @param env    The game board.
-   * @param pos    The starting position of the group.
-   * @param wapiti The animal type (Wapiti).
-   * @return <code>true</code> if the group forms a diamond; <code>false</code> otherwise.
+   * @param env The game board.
+   * @param x   The row of the first member of the group.
+   * @param y   The column of the first member of the group.
+   * @return <code>true</code> if the group forms a triangle; <code>false</code> otherwise.
    */
-  private boolean checkLosange(Board env,Pos pos, Animal wapiti) {
-    var tuile1 = env.getEnv().get(new Pos(pos.x()+1,pos.y()-1));
-    var tuile2 = env.getEnv().get(new Pos(pos.x()+1,pos.y()+1));
-    var tuile3 = env.getEnv().get(new Pos(pos.x()+2,pos.y()));
-    if(tuile1!=null && tuile2!=null && tuile3!=null) {
-      if(tuile1.getfaunatoken().token().equals(wapiti) && tuile2.getfaunatoken().token().equals(wapiti) && tuile3.getfaunatoken().token().equals(wapiti)) {
-        return true;
-      }
-    }
-    return false;
+  private boolean checkTriangle(Board env,int x,int y) {
+    return isWapiti(env, x+1, y-1) && isWapiti(env, x+1, y+1);
   }
- 
+  
   /**
-   * Adds a Wapiti group to the scoring system for card choice 3.
+   * Checks if there is a wapiti token at a position of the board.
    * 
-   * @param list       The list of positions forming a group of Wapiti tokens.
-   * @param nb_wapiti  A map storing group sizes and their counts.
+   * @param env The game board.
+   * @param x   The row of the position.
+   * @param y   The column of the position.
+   * @return <code>true</code> if a wapiti is placed at this position; <code>false</code> otherwise.
    */
-  private void Card3(ArrayList<Pos> list,HashMap<Integer,Integer> nb_wapiti) {
-    nb_wapiti.put(list.size(),nb_wapiti.getOrDefault(list.size(), 0)+1);
+  private static boolean isWapiti(Board env,int x,int y) {
+    var tile = env.tileAt(x, y);
+    return tile != null && tile.getfaunatoken() != null && tile.getfaunatoken().token() == WAPITI;
   }
   
   /**
-   * Adds a Wapiti group to the scoring system for card choice 4.
-   * Checks if the group forms a circle pattern.
+   * Checks if a group forms a diamond pattern.
    * 
-   * @param env        The game board.
-   * @param list       The list of positions forming a group of Wapiti tokens.
-   * @param nb_wapiti  A map storing group sizes and their counts.
-   * @param wapiti     The animal type (Wapiti).
+   * @param env The game board.
+   * @param x   The row of the first member of the group.
+   * @param y   The column of the first member of the group.
+   * @return <code>true</code> if the group forms a diamond; <code>false</code> otherwise.
    */
-  private void Card4(Board env, ArrayList<Pos> list,HashMap<Integer,Integer> nb_wapiti, Animal wapiti) {
-    if(list.size()==1)  {
-      nb_wapiti.put(list.size(),nb_wapiti.getOrDefault(list.size(),0)+1);
-    }else if(list.size()>=2)  {
-      if(checkCircle(env,list)) {
-        nb_wapiti.put(list.size(),nb_wapiti.getOrDefault(list.size(),0)+1);
-      }
-    }
+  private boolean checkLosange(Board env,int x,int y) {
+    return isWapiti(env, x+1, y-1) && isWapiti(env, x+1, y+1) && isWapiti(env, x+2, y);
   }
   
   /**
-   * Checks if the given list of positions forms a circle pattern.
+   * Scoring logic for choice 4: checks circle patterns.
    * 
    * @param env   The game board.
-   * @param list  The list of positions to check.
-   * @return <code>true</code> if the group forms a circle; <code>false</code> otherwise.
+   * @param group The index of the group of wapitis.
+   * @param size  The size of the group.
+   * @return <code>true</code> if the group scores; <code>false</code> otherwise.
    */
- private boolean checkCircle(Board env, ArrayList<Pos> list) {
-   var pos = list.getFirst();
-   Pos[] positions = {new Pos(pos.x(),pos.y()),new Pos(pos.x(),pos.y()+2),new Pos(pos.x()+1,pos.y()-1),
-       					               new Pos(pos.x()+1,pos.y()+3),new Pos(pos.x()+2,pos.y()),new Pos(pos.x()+2,pos.y()+2)};
-   var position = new HashSet<Pos>();
-   for(var ele : positions) {
-     position.add(ele);
-   }
-   for(var p : list) {
-     if(!position.contains(p)) {
-         return false; 
-     }
-   }
-   return true;
- }
- 
+  private boolean Card4(Board env, int group, int size) {
+    if(size==1)  {
+      return true;
+    }
+    return size>=2 && checkShape(env,group,size,CIRCLE);
+  }
  
  /**
-  * Processes a Wapiti group based on the card choice.
+  * Checks if a group of wapitis scores based on the card choice.
   * 
-  * @param env        The game board.
-  * @param nbwapiti   A map storing group sizes and their counts.
-  * @param pos        The list of positions forming a group of Wapiti tokens.
-  * @param wapiti     The animal type (Wapiti).
+  * @param env   The game board.
+  * @param group The index of the group of wapitis.
+  * @param size  The size of the group.
+  * @return <code>true</code> if the group scores; <code>false</code> otherwise.
   */
- private void choiceCard(Board env,HashMap<Integer,Integer> nbwapiti,ArrayList<Pos> pos,Animal wapiti) {
-   if(choice==1) {
-     Card1(env,pos,nbwapiti,wapiti);
-   }else if(choice==2) {
-     Card2(env,pos,nbwapiti,wapiti);
-   }else if(choice==3) {
-     Card3(pos,nbwapiti);
-   }else if(choice==4) {
-     Card4(env,pos,nbwapiti,wapiti);
-   }
-   
+ private boolean choiceCard(Board env,int group,int size) {
+   return switch(choice) {
+   case 1 -> Card1(env,group,size);
+   case 2 -> Card2(env,group,size);
+   case 3 -> true;
+   case 4 -> Card4(env,group,size);
+   default -> false;
+   };
  }
  
- /**
-  * Adds points to the player's score based on the group sizes and their associated points.
-  * 
-  * @param nb_wapiti  A map storing group sizes and their counts.
-  * @param player     The player whose score is updated.
-  */
-  private void addPoint(HashMap<Integer,Integer> nb_wapiti,Player player) {
-   var point = point();
-   for(var ele : nb_wapiti.entrySet()) {
-     var key = ele.getKey();
-     var value = ele.getValue();
-     if(point.containsKey(key)) {
-       player.add(value*point.get(key));
-     }
-    }
-  }
-  
-  /**
-   * Returns a map of group sizes and their associated points based on the card choice.
-   * 
-   * @return A map containing group sizes and points.
-   */
-  private Map<Integer,Integer> point() {
-    return switch(choice) {
-    case 1 -> Map.of(0,0,1,2,2,5,3,9,4,13);
-    case 2 -> Map.of(0,0,1,2,2,5,3,9,4,13);
-    case 3 -> Map.of(0,0,1,2,2,4,3,7,4,10,5,14,6,18,7,23);
-    case 4 -> Map.of(0,0,1,2,2,5,3,8,4,12,5,16,6,21);
-    default -> null;
-    };
-  }
- 
   /**
-   * Calculates the player's score based on the card's rules.
+   * Calculates the points of a board based on the card's rules.
    * 
-   * @param player The player whose score is calculated.
+   * @param env The board to evaluate.
+   * @return The points scored with this card.
+   * @throws NullPointerException if the board is null.
    */
   @Override
-  public void counterScore(Player player) {
-    Objects.requireNonNull(player);
-    var nb_wapiti = new HashMap<Integer,Integer>();
-    var visit = new HashMap<Pos, Boolean>();
-    var wapiti = Animal.WAPITI;
-    for(int i = 0; i < player.getEnv().getSize(); i++) {
-      for(int j = 0; j < player.getEnv().getSize(); j++) {
-        var list = new ArrayList<Pos>();
-        var tile = player.getEnv().getEnv().get(new Pos(i, j));
-        if(tile != null && tile.getfaunatoken() != null && tile.getfaunatoken().token().equals(wapiti) && !visit.containsKey(new Pos(i,j))) {  
-          nbAnimalHC(list,player.getEnv(),i,j,visit,tile.getfaunatoken().token(),istilesquare);
-          choiceCard(player.getEnv(),nb_wapiti,list,wapiti);
-        }
+  public int points(Board env) {
+    Objects.requireNonNull(env);
+    if(choice < 1 || choice > 4) {
+      return 0;
+    }
+    var point = POINTS[choice - 1];
+    int points = 0;
+    for(int group = 0; group < env.faunaGroupCount(WAPITI, istilesquare); group++) {
+      var size = env.faunaGroupSize(WAPITI, group, istilesquare);
+      if(size < point.length && choiceCard(env,group,size)) {
+        points += point[size];
       }
     }
-    addPoint(nb_wapiti,player);
+    return points;
   }
 
   /**
@@ -2,9 +2,13 @@ package card;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
+import board.Board;
 import game.Interaction;
+import listener.EngineListeners;
 import model.Animal;
 import player.Player;
 
@@ -33,6 +37,15 @@ public class ManagementCard {
     cards.add(card);
   }
   
+  /**
+   * Gets the managed cards.
+   *
+   * @return A read-only list of the cards.
+   */
+  public List<Card> getCards() {
+    return Collections.unmodifiableList(cards);
+  }
+  
   /**
    * Calculates the score for all the cards associated with a player.
    *
@@ -42,11 +55,55 @@ public class ManagementCard {
   public void counterScore(Player player) {
     Objects.requireNonNull(player);
     for (var card : cards) {
-      System.out.println("Calcul du score pour la carte : " + card.toString());
+      EngineListeners.get().cardScoring(card.toString());
       card.counterScore(player);
     }
   }
   
+  /**
+   * Calculates the score of a board for all the cards without modifying any player.
+   *
+   * @param env The board to evaluate. Must not be null.
+   * @return The points scored with each card.
+   * @throws NullPointerException If the board is null.
+   */
+  public ScoreBreakdown evaluate(Board env) {
+    return evaluate(env, new ScoreBreakdown());
+  }
+  
+  /**
+   * Adds the points of a board for all the cards to an existing score.
+   *
+   * @param env The board to evaluate. Must not be null.
+   * @param score The score receiving the points of each card. Must not be null.
+   * @return The given score.
+   * @throws NullPointerException If the board or the score is null.
+   */
+  public ScoreBreakdown evaluate(Board env, ScoreBreakdown score) {
+    Objects.requireNonNull(env);
+    Objects.requireNonNull(score);
+    for (var card : cards) {
+      score.addCard(card, card.points(env));
+    }
+    return score;
+  }
+  
+  /**
+   * Calculates the total points of a board for all the cards without allocating any score.
+   *
+   * @param env The board to evaluate. Must not be null.
+   * @return The sum of the points scored with each card.
+   * @throws NullPointerException If the board is null.
+   */
+  public int points(Board env) {
+    Objects.requireNonNull(env);
+    var points = 0;
+    for (int i = 0; i < cards.size(); i++) {
+      points += cards.get(i).points(env);
+    }
+    return points;
+  }
+  
   /**
    * Returns a string representation of all the cards managed by this class.
    *
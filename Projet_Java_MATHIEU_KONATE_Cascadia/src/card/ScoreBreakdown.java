@@ -0,0 +1,132 @@
+package card;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import model.Landscape;
+
+/**
+ * Detailed score of a board, computed without modifying any player.
+ * <p>
+ * The score is made of the points of each scoring card and of the size of the
+ * largest corridor of each landscape, the total being the sum of both.
+ * </p>
+ */
+public final class ScoreBreakdown {
+  private final LinkedHashMap<Card,Integer> cards = new LinkedHashMap<>();
+  private final EnumMap<Landscape,Integer> landscapes = new EnumMap<>(Landscape.class);
+  private int total;
+
+  /**
+   * Creates an empty score.
+   */
+  public ScoreBreakdown() {
+  }
+
+  /**
+   * Adds the points scored with a card.
+   *
+   * @param card the card
+   * @param points the points scored with this card
+   * @return this score
+   * @throws NullPointerException if the card is null
+   */
+  public ScoreBreakdown addCard(Card card, int points) {
+    Objects.requireNonNull(card);
+    cards.merge(card, points, Integer::sum);
+    total += points;
+    return this;
+  }
+
+  /**
+   * Adds the points scored with the largest corridor of a landscape.
+   *
+   * @param landscape the landscape
+   * @param points the size of the largest corridor of this landscape
+   * @return this score
+   * @throws NullPointerException if the landscape is null
+   */
+  public ScoreBreakdown addLandscape(Landscape landscape, int points) {
+    Objects.requireNonNull(landscape);
+    landscapes.merge(landscape, points, Integer::sum);
+    total += points;
+    return this;
+  }
+
+  /**
+   * Adds all the points of another score to this one.
+   *
+   * @param other the other score
+   * @return this score
+   * @throws NullPointerException if the other score is null
+   */
+  public ScoreBreakdown merge(ScoreBreakdown other) {
+    Objects.requireNonNull(other);
+    other.cards.forEach(this::addCard);
+    other.landscapes.forEach(this::addLandscape);
+    return this;
+  }
+
+  /**
+   * Gets the points scored with each card, in the order they were added.
+   *
+   * @return a read-only map of the cards and their points
+   */
+  public Map<Card,Integer> getCards() {
+    return Collections.unmodifiableMap(cards);
+  }
+
+  /**
+   * Gets the points scored with each landscape.
+   *
+   * @return a read-only map of the landscapes and their points
+   */
+  public Map<Landscape,Integer> getLandscapes() {
+    return Collections.unmodifiableMap(landscapes);
+  }
+
+  /**
+   * Gets the points scored with a card.
+   *
+   * @param card the card
+   * @return the points of this card, 0 if it has not been evaluated
+   */
+  public int getCardPoints(Card card) {
+    return cards.getOrDefault(card, 0);
+  }
+
+  /**
+   * Gets the points scored with a landscape.
+   *
+   * @param landscape the landscape
+   * @return the points of this landscape, 0 if it has not been evaluated
+   */
+  public int getLandscapePoints(Landscape landscape) {
+    return landscapes.getOrDefault(landscape, 0);
+  }
+
+  /**
+   * Gets the total of the points.
+   *
+   * @return the sum of the points of the cards and of the landscapes
+   */
+  public int total() {
+    return total;
+  }
+
+  /**
+   * Returns a string representation of the score.
+   *
+   * @return the points of each card and landscape followed by the total
+   */
+  @Override
+  public String toString() {
+    var sb = new StringBuilder();
+    cards.forEach((card, points) -> sb.append(card).append(" : ").append(points).append("\n"));
+    landscapes.forEach((landscape, points) -> sb.append(landscape).append(" : ").append(points).append("\n"));
+    return sb.append("Total : ").append(total).toString();
+  }
+}
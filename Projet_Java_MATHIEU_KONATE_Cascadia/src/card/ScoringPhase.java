@@ -0,0 +1,105 @@
+package card;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+import listener.EngineListeners;
+import metrics.Histogram;
+import metrics.MetricsRegistry;
+import metrics.ScoringEvent;
+import player.ManagementPlayers;
+
+/**
+ * End of game scoring of all the players.
+ * <p>
+ * The evaluation of a card on a board does not modify the board nor the player, so each
+ * pair of a player and a card, and the landscapes of each player, are evaluated by their
+ * own task on a fork-join pool. The partial scores are then added to the players on the
+ * calling thread, player by player and card by card, in the order of a sequential scoring,
+ * so the scores and the messages do not depend on the order in which the tasks end.
+ * Each evaluation is measured and commits a {@link ScoringEvent}.
+ * </p>
+ */
+public final class ScoringPhase {
+  private static final Histogram CARD = MetricsRegistry.global().histogram("decompte.carte");
+  private static final Histogram LANDSCAPES = MetricsRegistry.global().histogram("decompte.paysages");
+
+  private final ForkJoinPool pool;
+
+  /**
+   * Creates a scoring phase running its tasks on the common fork-join pool.
+   */
+  public ScoringPhase() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a scoring phase running its tasks on a fork-join pool.
+   *
+   * @param pool the pool of the tasks
+   * @throws NullPointerException if the pool is null
+   */
+  public ScoringPhase(ForkJoinPool pool) {
+    this.pool = Objects.requireNonNull(pool);
+  }
+
+  /**
+   * Scores all the players with the cards, then awards the bonus of the landscapes.
+   *
+   * @param cards the scoring cards of the game
+   * @param players the players of the game
+   * @param istilesquare true if the game uses square tiles, false for hexagonal tiles
+   * @throws NullPointerException if the cards or the players are null
+   */
+  public void score(ManagementCard cards, ManagementPlayers players, boolean istilesquare) {
+    Objects.requireNonNull(cards);
+    Objects.requireNonNull(players);
+    var list = cards.getCards();
+    var landscapes = new CartdScoreLandscape(istilesquare);
+    var tasks = new ArrayList<List<ForkJoinTask<ScoreBreakdown>>>(players.getNbPlayer());
+    for(int i = 0; i < players.getNbPlayer(); i++) {
+      var player = players.getPlayerI(i);
+      var env = player.getEnv();
+      var playertasks = new ArrayList<ForkJoinTask<ScoreBreakdown>>(list.size() + 1);
+      for(var card : list) {
+        playertasks.add(pool.submit(() -> measure(player.getNom(), card, CARD, () -> card.evaluate(env))));
+      }
+      playertasks.add(pool.submit(() -> measure(player.getNom(), "paysages", LANDSCAPES, () -> landscapes.evaluate(env))));
+      tasks.add(playertasks);
+    }
+    var listener = EngineListeners.get();
+    var habitats = new ArrayList<ScoreBreakdown>(players.getNbPlayer());
+    for(int i = 0; i < players.getNbPlayer(); i++) {
+      var player = players.getPlayerI(i);
+      var playertasks = tasks.get(i);
+      for(int j = 0; j < list.size(); j++) {
+        listener.cardScoring(list.get(j).toString());
+        player.add(playertasks.get(j).join().total());
+      }
+      habitats.add(playertasks.get(list.size()).join());
+    }
+    players.BonusMajorite(istilesquare, habitats);
+  }
+
+  /**
+   * Runs an evaluation, records its duration and commits its event.
+   */
+  private static ScoreBreakdown measure(String player, Object card, Histogram histogram, Supplier<ScoreBreakdown> evaluation) {
+    var event = new ScoringEvent();
+    event.begin();
+    var start = System.nanoTime();
+    var score = evaluation.get();
+    histogram.recordSince(start);
+    if(event.shouldCommit()) {
+      event.player = player;
+      event.card = card.toString();
+      event.points = score.total();
+      event.commit();
+    }
+    return score;
+  }
+}
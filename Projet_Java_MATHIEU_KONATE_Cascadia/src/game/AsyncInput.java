@@ -0,0 +1,87 @@
+package game;
+
+import java.io.EOFException;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Input port fed by another thread: the lines are pushed with {@link #submit(String)} as
+ * they arrive, for instance by a thread reading many connections, and complete the future
+ * of the line asked by the game. The lines pushed before being asked are kept in order.
+ * <p>
+ * A game waiting on {@link #readLine()} from a virtual thread does not hold a platform thread,
+ * and a game written with {@link #nextLine()} does not wait at all.
+ * </p>
+ */
+public final class AsyncInput implements InputPort {
+  private final Object lock = new Object();
+  private final ArrayDeque<String> lines = new ArrayDeque<>();
+  private final ArrayDeque<CompletableFuture<String>> pending = new ArrayDeque<>();
+  private boolean closed;
+
+  /**
+   * Creates an input port without any line.
+   */
+  public AsyncInput() {
+  }
+
+  /**
+   * Pushes a line, completing the oldest future waiting for a line, if any.
+   *
+   * @param line the line, without line separator
+   * @throws NullPointerException if the line is null
+   * @throws IllegalStateException if the input is closed
+   */
+  public void submit(String line) {
+    Objects.requireNonNull(line);
+    CompletableFuture<String> future;
+    synchronized(lock) {
+      if(closed) {
+        throw new IllegalStateException("Entree fermee");
+      }
+      future = pending.poll();
+      if(future == null) {
+        lines.add(line);
+        return;
+      }
+    }
+    future.complete(line);
+  }
+
+  @Override
+  public CompletableFuture<String> nextLine() {
+    synchronized(lock) {
+      var line = lines.poll();
+      if(line != null) {
+        return CompletableFuture.completedFuture(line);
+      }
+      if(closed) {
+        return CompletableFuture.failedFuture(new EOFException("Fin de l'entree du joueur"));
+      }
+      var future = new CompletableFuture<String>();
+      pending.add(future);
+      return future;
+    }
+  }
+
+  /**
+   * Ends the input: the lines already pushed can still be read, then the futures fail
+   * with an {@link EOFException}.
+   */
+  @Override
+  public void close() {
+    ArrayDeque<CompletableFuture<String>> waiting;
+    synchronized(lock) {
+      if(closed) {
+        return;
+      }
+      closed = true;
+      waiting = new ArrayDeque<>(pending);
+      pending.clear();
+    }
+    for(var future : waiting) {
+      future.completeExceptionally(new EOFException("Fin de l'entree du joueur"));
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package game;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import card.ManagementCard;
+import metrics.SaveEvent;
+import player.ManagementPlayers;
+
+/**
+ * Automatic save of a game at the end of each turn.
+ * <p>
+ * The state of the game is copied on the game thread, which only costs a copy of the boards,
+ * then written in the binary format by a background thread, so the game never waits for the disk.
+ * Each save is written to a temporary file renamed over the save, so the save on the disk is
+ * always complete. When the game saves faster than the disk writes, only the last state waiting
+ * to be written is kept.
+ * </p>
+ */
+public final class AutoSaver implements AutoCloseable {
+  private final Path path;
+  private final Game game;
+  private final ManagementCard cards;
+  private final ManagementPlayers players;
+  private final ExecutorService writer;
+  private final AtomicReference<Snapshot> pending = new AtomicReference<>();
+
+  /**
+   * State of the game to write.
+   */
+  private record Snapshot(int round, boolean istilesquare, long seed, ManagementCard cards, ManagementPlayers players) {
+  }
+
+  /**
+   * Creates the automatic save of a game. The cards and the players are read at each save,
+   * so they can still be initialized after the creation of the automatic save.
+   *
+   * @param path the file of the save
+   * @param game the game
+   * @param cards the scoring cards of the game
+   * @param players the players of the game
+   * @throws NullPointerException if a parameter is null
+   */
+  public AutoSaver(Path path, Game game, ManagementCard cards, ManagementPlayers players) {
+    this(path, game, cards, players, Executors.newSingleThreadExecutor(Thread.ofPlatform().name("sauvegarde-auto").daemon().factory()));
+  }
+
+  /**
+   * Creates the automatic save of a game written by a given single thread executor, shut down by {@link #close()}.
+   */
+  AutoSaver(Path path, Game game, ManagementCard cards, ManagementPlayers players, ExecutorService writer) {
+    this.writer = Objects.requireNonNull(writer);
+    this.path = Objects.requireNonNull(path);
+    this.game = Objects.requireNonNull(game);
+    this.cards = Objects.requireNonNull(cards);
+    this.players = Objects.requireNonNull(players);
+  }
+
+  /**
+   * Saves the game after a turn: the game is copied on the calling thread and written in the background.
+   *
+   * @throws IllegalStateException if the automatic save is closed
+   */
+  public void save() {
+    if(writer.isShutdown()) {
+      throw new IllegalStateException("La sauvegarde automatique est fermee");
+    }
+    if(pending.getAndSet(snapshot()) == null) {
+      writer.execute(this::write);
+    }
+  }
+
+  private Snapshot snapshot() {
+    var copycards = new ManagementCard();
+    for(var card : cards.getCards()) {
+      copycards.addCard(card);
+    }
+    var copyplayers = new ManagementPlayers();
+    for(int i = 0; i < players.getNbPlayer(); i++) {
+      copyplayers.add(players.getPlayerI(i).copy());
+    }
+    return new Snapshot(game.getRound(), game.getTypeTile(), game.getSeed(), copycards, copyplayers);
+  }
+
+  /**
+   * Writes the last state waiting to be written, on the background thread.
+   */
+  private void write() {
+    var snapshot = pending.getAndSet(null);
+    if(snapshot == null) {
+      return;
+    }
+    Path temporary = null;
+    var event = new SaveEvent();
+    event.begin();
+    var start = System.nanoTime();
+    try {
+      var directory = path.toAbsolutePath().getParent();
+      temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+      BinarySave.write(temporary, snapshot.round(), snapshot.istilesquare(), snapshot.seed(), snapshot.cards(), snapshot.players());
+      try {
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      }catch (AtomicMoveNotSupportedException e) {
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+      }
+    }catch (IOException e) {
+      System.err.println(e.getMessage());
+    }finally {
+      deleteQuietly(temporary);
+    }
+    Save.measure(event, start, path, false, true);
+  }
+
+  private static void deleteQuietly(Path temporary) {
+    if(temporary == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(temporary);
+    }catch (IOException e) {
+      System.err.println(e.getMessage());
+    }
+  }
+
+  /**
+   * Waits for the last save to be written and stops the background thread.
+   */
+  @Override
+  public void close() {
+    writer.shutdown();
+    try {
+      if(!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+        System.err.println("La derniere sauvegarde automatique n'a pas pu etre ecrite");
+      }
+    }catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package game;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Bag of elements drawn at random, such as the fauna tokens.
+ * <p>
+ * The elements are kept in an array without any order: an element is added at the end,
+ * and a draw swaps a random element with the last one before removing it, so adding and
+ * drawing an element are done in constant time. Since every draw is uniform, the bag never
+ * needs to be shuffled, even after elements have been put back.
+ * </p>
+ *
+ * @param <E> the type of the elements
+ */
+final class Bag<E> {
+  private Object[] elements = new Object[16];
+  private int size;
+
+  /**
+   * Puts an element in the bag.
+   *
+   * @param element the element
+   * @throws NullPointerException if the element is null
+   */
+  void add(E element) {
+    Objects.requireNonNull(element);
+    if(size == elements.length) {
+      elements = Arrays.copyOf(elements, size * 2);
+    }
+    elements[size++] = element;
+  }
+
+  /**
+   * Draws an element at random and removes it from the bag.
+   *
+   * @param random the random generator of the game
+   * @return the drawn element
+   * @throws IllegalStateException if the bag is empty
+   */
+  @SuppressWarnings("unchecked")
+  E draw(SplittableRandom random) {
+    if(size == 0) {
+      throw new IllegalStateException("Le sac est vide");
+    }
+    var index = random.nextInt(size);
+    var element = (E) elements[index];
+    elements[index] = elements[--size];
+    elements[size] = null;
+    return element;
+  }
+
+  /**
+   * Checks if the bag is empty.
+   *
+   * @return true if there is no element left
+   */
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Gets the number of elements in the bag.
+   *
+   * @return the number of elements
+   */
+  int size() {
+    return size;
+  }
+}
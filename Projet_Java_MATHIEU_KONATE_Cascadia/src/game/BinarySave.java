@@ -0,0 +1,348 @@
+package game;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.OptionalLong;
+
+import board.Board;
+import board.FaunaToken;
+import board.Tile;
+import board.TileCatalog;
+import card.Card;
+import card.CardAigle;
+import card.CardOurs;
+import card.CardRenard;
+import card.CardSaumon;
+import card.CardVariante;
+import card.CardWapiti;
+import card.ManagementCard;
+import model.Angle;
+import model.Animal;
+import model.Landscape;
+import model.Pos;
+import player.ManagementPlayers;
+import player.Player;
+
+/**
+ * Compact binary format of the saves, used alongside the text format.
+ * <p>
+ * A file starts with the magic bytes {@code CASC} and a version byte, followed by the round,
+ * the type of tiles, the seed of the game, the cards and the players. The integers are written as variable-length
+ * integers (7 bits per byte), the signed ones after a zigzag encoding. Only the occupied cells
+ * of each board are written, in row-major order, each one as the difference with the position
+ * of the previous tile followed by the tile packed in 3 bytes:
+ * </p>
+ * <ul>
+ * <li>bits 0-2: first landscape, bits 3-5: second landscape plus one (0 if none),</li>
+ * <li>bits 6-8: first angle, bits 9-11: second angle,</li>
+ * <li>bits 12-20: the three animals, 3 bits each, plus one (0 if none),</li>
+ * <li>bits 21-23: the fauna token plus one (0 if none).</li>
+ * </ul>
+ */
+final class BinarySave {
+
+  /**
+   * Magic bytes at the start of every binary save.
+   */
+  private static final byte[] MAGIC = {'C', 'A', 'S', 'C'};
+
+  /**
+   * Version of the format written by this class. The version 1 has no seed.
+   */
+  private static final int VERSION = 2;
+
+  /**
+   * Maximal number of animals on a tile.
+   */
+  private static final int MAX_ANIMALS = 3;
+
+  private static final Landscape[] LANDSCAPES = Landscape.values();
+  private static final Angle[] ANGLES = Angle.values();
+  private static final Animal[] ANIMALS = Animal.values();
+
+  /**
+   * Round, type of tiles and seed read from a binary save.
+   *
+   * @param round the round of the save
+   * @param istilesquare the type of tiles of the save
+   * @param seed the seed of the game, empty for the saves of version 1
+   */
+  record Header(int round, boolean istilesquare, OptionalLong seed) {
+  }
+
+  private BinarySave() {
+  }
+
+  /**
+   * Checks if a file is a binary save by reading its magic bytes.
+   *
+   * @param path the file
+   * @return true if the file starts with the magic bytes of the binary format
+   * @throws IOException if the file cannot be read
+   */
+  static boolean isBinary(Path path) throws IOException {
+    Objects.requireNonNull(path);
+    try(var input = Files.newInputStream(path)) {
+      return Arrays.equals(input.readNBytes(MAGIC.length), MAGIC);
+    }
+  }
+
+  /**
+   * Writes a game in the binary format.
+   *
+   * @param path the file to write
+   * @param round the current round
+   * @param istilesquare the type of tiles
+   * @param seed the seed of the game
+   * @param cards the scoring cards
+   * @param players the players and their boards
+   * @throws IOException if the file cannot be written
+   */
+  static void write(Path path, int round, boolean istilesquare, long seed, ManagementCard cards, ManagementPlayers players) throws IOException {
+    Objects.requireNonNull(path);
+    Objects.requireNonNull(cards);
+    Objects.requireNonNull(players);
+    try(var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+      output.write(MAGIC);
+      output.writeByte(VERSION);
+      writeVarint(output, round);
+      output.writeBoolean(istilesquare);
+      output.writeLong(seed);
+      writeVarint(output, cards.getCards().size());
+      for(var card : cards.getCards()) {
+        writeCard(output, card);
+      }
+      writeVarint(output, players.getNbPlayer());
+      for(int i = 0; i < players.getNbPlayer(); i++) {
+        writePlayer(output, players.getPlayerI(i));
+      }
+    }
+  }
+
+  /**
+   * Reads a game saved in the binary format and adds its cards and players.
+   *
+   * @param path the file to read
+   * @param cards the manager receiving the scoring cards
+   * @param players the manager receiving the players
+   * @return the round, the type of tiles and the seed of the save
+   * @throws IOException if the file cannot be read or is not a valid binary save
+   */
+  static Header read(Path path, ManagementCard cards, ManagementPlayers players) throws IOException {
+    Objects.requireNonNull(path);
+    Objects.requireNonNull(cards);
+    Objects.requireNonNull(players);
+    try(var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+      var magic = input.readNBytes(MAGIC.length);
+      if(!Arrays.equals(magic, MAGIC)) {
+        throw new IOException("Ce fichier n'est pas une sauvegarde binaire");
+      }
+      var version = input.readUnsignedByte();
+      if(version < 1 || version > VERSION) {
+        throw new IOException("Version de sauvegarde non supportee : " + version);
+      }
+      var round = readVarint(input);
+      var istilesquare = input.readBoolean();
+      var seed = version >= 2 ? OptionalLong.of(input.readLong()) : OptionalLong.empty();
+      var nbcards = readVarint(input);
+      for(int i = 0; i < nbcards; i++) {
+        cards.addCard(readCard(input, istilesquare));
+      }
+      var nbplayers = readVarint(input);
+      for(int i = 0; i < nbplayers; i++) {
+        players.add(readPlayer(input, istilesquare));
+      }
+      return new Header(round, istilesquare, seed);
+    }
+  }
+
+  private static void writeCard(DataOutputStream output, Card card) throws IOException {
+    switch(card) {
+      case CardOurs(var choice, var square) -> writeCard(output, 0, choice);
+      case CardAigle(var choice, var square) -> writeCard(output, 1, choice);
+      case CardRenard(var choice, var square) -> writeCard(output, 2, choice);
+      case CardSaumon(var choice, var square) -> writeCard(output, 3, choice);
+      case CardWapiti(var choice, var square) -> writeCard(output, 4, choice);
+      case CardVariante(var choice, var square) -> writeCard(output, 5, choice);
+    }
+  }
+
+  private static void writeCard(DataOutputStream output, int type, int choice) throws IOException {
+    output.writeByte(type);
+    writeVarint(output, choice);
+  }
+
+  private static Card readCard(DataInputStream input, boolean istilesquare) throws IOException {
+    var type = input.readUnsignedByte();
+    var choice = readVarint(input);
+    return switch(type) {
+      case 0 -> new CardOurs(choice, istilesquare);
+      case 1 -> new CardAigle(choice, istilesquare);
+      case 2 -> new CardRenard(choice, istilesquare);
+      case 3 -> new CardSaumon(choice, istilesquare);
+      case 4 -> new CardWapiti(choice, istilesquare);
+      case 5 -> new CardVariante(choice, istilesquare);
+      default -> throw new IOException("Type de carte inconnu : " + type);
+    };
+  }
+
+  private static void writePlayer(DataOutputStream output, Player player) throws IOException {
+    var env = player.getEnv();
+    output.writeUTF(player.getNom());
+    writeVarint(output, env.getSize());
+    writeVarint(output, env.getNbTiles());
+    var previousx = 0;
+    var previousy = 0;
+    for(int i = env.getMinX(); i < env.getMaxX(); i++) {
+      for(int j = env.getMinY(); j < env.getMaxY(); j++) {
+        var tile = env.tileAt(i, j);
+        if(tile != null) {
+          writeVarint(output, zigzag(i - previousx));
+          writeVarint(output, zigzag(j - previousy));
+          var bits = encode(tile);
+          output.writeByte(bits);
+          output.writeByte(bits >>> 8);
+          output.writeByte(bits >>> 16);
+          previousx = i;
+          previousy = j;
+        }
+      }
+    }
+  }
+
+  private static Player readPlayer(DataInputStream input, boolean istilesquare) throws IOException {
+    var name = input.readUTF();
+    var size = readVarint(input);
+    var nbtiles = readVarint(input);
+    var plateau = new HashMap<Pos, Tile>();
+    var x = 0;
+    var y = 0;
+    for(int i = 0; i < nbtiles; i++) {
+      x += unzigzag(readVarint(input));
+      y += unzigzag(readVarint(input));
+      var bits = input.readUnsignedByte() | input.readUnsignedByte() << 8 | input.readUnsignedByte() << 16;
+      plateau.put(new Pos(x, y), decode(bits, istilesquare));
+    }
+    var player = new Player(name, size);
+    var env = new Board(size);
+    env.setPlateau(plateau);
+    player.SetEnv(env);
+    return player;
+  }
+
+  /**
+   * Packs the landscapes, angles, animals and fauna token of a tile in 24 bits.
+   */
+  private static int encode(Tile tile) {
+    var animals = tile.getAnimal();
+    var bits = tile.getLandscape1().ordinal() | ordinal(tile.getAngle1()) << 6;
+    if(tile.getLandscape2() != null) {
+      bits |= (tile.getLandscape2().ordinal() + 1) << 3 | ordinal(tile.getAngle2()) << 9;
+    }
+    for(int i = 0; i < animals.size(); i++) {
+      bits |= (animals.get(i).ordinal() + 1) << (12 + 3 * i);
+    }
+    if(tile.getfaunatoken() != null) {
+      bits |= (tile.getfaunatoken().token().ordinal() + 1) << 21;
+    }
+    return bits;
+  }
+
+  private static int ordinal(Angle angle) {
+    return angle == null ? Angle.NULL.ordinal() : angle.ordinal();
+  }
+
+  /**
+   * Rebuilds a tile from the 24 bits written by {@link #encode(Tile)}, with its definition
+   * and rotation looked up in the {@link TileCatalog}.
+   */
+  private static Tile decode(int bits, boolean istilesquare) throws IOException {
+    var landscapes = new LinkedHashMap<Landscape, Angle>();
+    landscapes.put(landscape(bits & 7), angle(bits >>> 6 & 7));
+    var second = bits >>> 3 & 7;
+    if(second != 0) {
+      landscapes.put(landscape(second - 1), angle(bits >>> 9 & 7));
+    }
+    var animals = new ArrayList<Animal>();
+    for(int i = 0; i < MAX_ANIMALS; i++) {
+      var animal = bits >>> (12 + 3 * i) & 7;
+      if(animal != 0) {
+        animals.add(animal(animal - 1));
+      }
+    }
+    var tile = TileCatalog.restore(landscapes, animals, istilesquare);
+    var token = bits >>> 21 & 7;
+    if(token != 0) {
+      tile.placeFaunaToken(new FaunaToken(animal(token - 1)));
+    }
+    return tile;
+  }
+
+  private static Landscape landscape(int ordinal) throws IOException {
+    if(ordinal >= LANDSCAPES.length) {
+      throw new IOException("Paysage inconnu : " + ordinal);
+    }
+    return LANDSCAPES[ordinal];
+  }
+
+  private static Angle angle(int ordinal) throws IOException {
+    if(ordinal >= ANGLES.length) {
+      throw new IOException("Angle inconnu : " + ordinal);
+    }
+    return ANGLES[ordinal];
+  }
+
+  private static Animal animal(int ordinal) throws IOException {
+    if(ordinal >= ANIMALS.length) {
+      throw new IOException("Animal inconnu : " + ordinal);
+    }
+    return ANIMALS[ordinal];
+  }
+
+  static int zigzag(int value) {
+    return (value << 1) ^ (value >> 31);
+  }
+
+  static int unzigzag(int value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  /**
+   * Writes a non-negative integer 7 bits per byte, the high bit telling if more bytes follow.
+   */
+  static void writeVarint(OutputStream output, int value) throws IOException {
+    while((value & ~0x7F) != 0) {
+      output.write((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    output.write(value);
+  }
+
+  static int readVarint(InputStream input) throws IOException {
+    var value = 0;
+    for(int shift = 0; shift < 32; shift += 7) {
+      var b = input.read();
+      if(b == -1) {
+        throw new EOFException();
+      }
+      value |= (b & 0x7F) << shift;
+      if((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Entier mal forme dans la sauvegarde");
+  }
+}
@@ -2,21 +2,39 @@ package game;
 
 
 import java.io.IOException;
-import java.nio.file.Files;
+import java.lang.management.ManagementFactory;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
 
 import board.FaunaToken;
 import board.Tile;
+import board.TileCatalog;
 import card.ManagementCard;
+import card.ScoringPhase;
+import game.GameEvent.Redraw;
+import game.GameEvent.TileDrawn;
+import game.GameEvent.TilePlaced;
+import game.GameEvent.TileRotated;
+import game.GameEvent.TokenDrawn;
+import game.GameEvent.TokenPlaced;
+import game.GameEvent.TurnEnded;
+import game.GameEvent.Wipe;
 import graphicdisplay.ManageGraphic;
-import model.Angle;
+import metrics.Counter;
+import metrics.Histogram;
+import metrics.MetricsRegistry;
+import metrics.PlacementEvent;
+import metrics.TurnEvent;
 import model.Animal;
-import model.Landscape;
+import model.Pos;
 import player.ManagementPlayers;
 import player.Player;
 
@@ -25,25 +43,136 @@ import player.Player;
  * game initialization, and player interactions.
  */
 public class Game {
+  /**
+   * Number of rounds of a game.
+   */
+  public static final int NB_ROUNDS = 20;
+  
+  private static final Histogram TURN = MetricsRegistry.global().histogram("tour");
+  private static final Histogram PLACEMENT = MetricsRegistry.global().histogram("placement");
+  private static final Histogram ALLOCATED = MetricsRegistry.global().sizes("tour.allocation");
+  private static final Counter TURNS = MetricsRegistry.global().counter("tours");
+  private static final Counter REJECTED = MetricsRegistry.global().counter("placements.rejetes");
+  private static final Counter WIPES = MetricsRegistry.global().counter("surpopulations");
+  
+  /**
+   * Mixed with the seed of the game to seed the computer players, so their seeds are not drawn
+   * from the generator of the game and a replay makes the same draws without them.
+   */
+  private static final long COMPUTER_SEEDS = 0x9E3779B97F4A7C15L;
+  
+  /**
+   * Measures the bytes allocated by the thread playing a turn. The searches of the computer
+   * players run on the threads of the common pool and are not counted.
+   */
+  private static final com.sun.management.ThreadMXBean THREADS =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+  
   private ArrayList<Tile> alltiles;
-  private ArrayList<Tile> parttiles;
+  private ArrayDeque<Tile> parttiles;
   private Tile[] choicetiles;
-  private ArrayList<FaunaToken> allfaunatoken;
+  private Bag<FaunaToken> allfaunatoken;
   private FaunaToken[] choicefaunatoken;
   private boolean istilesquare;
+  private final long seed;
+  private final SplittableRandom random;
+  private GameLog log;
+  private AutoSaver autosaver;
+  private LongFunction<PlayerStrategy> computer;
+  private int round;
+  private TurnEvent turn;
+  private long turnstart;
+  private long turnthread;
+  private long turnbytes;
   
   /**
-   * Constructor that initializes the game and determines the type of tiles.
+   * Constructor that initializes the game and asks the type of tiles.
+   * The seed of the game is chosen randomly, see {@link #getSeed()}.
    * 
+   * @param interaction The interaction asking the type of tiles.
    * @throws IOException if an I/O error occurs during initialization.
    */
-  public Game() throws IOException {
+  public Game(Interaction interaction) throws IOException {
+    this(choiceTypeTile(interaction), new SplittableRandom().nextLong());
+  }
+  
+  /**
+   * Constructor that initializes a game without asking anything on the console.
+   * Every shuffle of the tiles and fauna tokens is driven by the seed,
+   * so the same seed always gives the same game.
+   * 
+   * @param istilesquare `true` to play with square tiles, `false` with hexagonal tiles.
+   * @param seed The seed used to shuffle the tiles and the fauna tokens.
+   */
+  public Game(boolean istilesquare, long seed) {
     alltiles = new ArrayList<>();
-    parttiles = new ArrayList<>();
+    parttiles = new ArrayDeque<>();
     choicetiles = new Tile[4];
-    allfaunatoken = new ArrayList<>();
+    allfaunatoken = new Bag<>();
     choicefaunatoken = new FaunaToken[4];
-    istilesquare = choiceTypeTile();
+    this.istilesquare = istilesquare;
+    this.seed = seed;
+    random = new SplittableRandom(seed);
+  }
+  
+  /**
+   * Gets the seed of the game, saved with the game so that it can be replayed.
+   *
+   * @return The seed used to shuffle the tiles and the fauna tokens.
+   */
+  public long getSeed() {
+    return seed;
+  }
+  
+  /**
+   * Gets the round being played, counted from 0.
+   *
+   * @return The current round, {@value #NB_ROUNDS} once the last round is over.
+   */
+  public int getRound() {
+    return round;
+  }
+  
+  /**
+   * Sets the round to play, for instance the round following the one of a loaded save.
+   *
+   * @param round The round, counted from 0.
+   * @throws IllegalArgumentException if the round is not between 0 and {@value #NB_ROUNDS}.
+   */
+  public void setRound(int round) {
+    if(round < 0 || round > NB_ROUNDS) {
+      throw new IllegalArgumentException("Tour invalide : " + round);
+    }
+    this.round = round;
+  }
+  
+  /**
+   * Sets the journal receiving the events of the game.
+   * The journal is usually attached by {@link GameLog#create(Path, Game, ManagementPlayers)}.
+   *
+   * @param log The journal, or null to stop logging the events.
+   */
+  public void setLog(GameLog log) {
+    this.log = log;
+  }
+  
+  /**
+   * Sets the automatic save of the game, saving the game at the end of each turn.
+   *
+   * @param autosaver The automatic save, or null to stop saving the game automatically.
+   */
+  public void setAutoSaver(AutoSaver autosaver) {
+    this.autosaver = autosaver;
+  }
+  
+  /**
+   * Sets the strategy of the players controlled by the computer in terminal mode.
+   * Without strategy, every player is asked for their moves.
+   *
+   * @param computer Creates the strategy of a player from its seed, or null to play without computer players.
+   */
+  public void setComputerStrategy(LongFunction<PlayerStrategy> computer) {
+    this.computer = computer;
   }
   
   /**
@@ -82,68 +211,17 @@ public class Game {
     return istilesquare;
   }
   
-  /**
-   * Converts a text representation of a hexagonal tile into a `Tile` object.
-   *
-   * @param txt The text representation of the tile in the format "landscape1,angle1,landscape2,angle2,animal1,animal2,animal3".
-   * @return A `Tile` object representing the tile.
-   */
-  private Tile fromText(String txt)  {
-    var array = txt.split(",");
-    var landscape = new LinkedHashMap<Landscape,Angle>();
-    var animals = new ArrayList<Animal>();
-    for(int i = 0; i< 4;i+=2) {
-      if(!array[i].equals("null")) {
-        if(array[i+1].equals("null")) {
-          landscape.put(Landscape.valueOf(array[i].toUpperCase()), Angle.NULL);
-        }else {
-          landscape.put(Landscape.valueOf(array[i].toUpperCase()), Angle.valueOf(array[i+1].toUpperCase()));
-        }
-      }
-    }
-    for(int i=4; i < 7;i++){
-      if(!array[i].equals("null")) {
-        animals.add(Animal.valueOf(array[i].toUpperCase()));
-      }
-    }
-    return new Tile(landscape,animals);
-  }
-  
-  /**
-   * Converts a text representation of a square tile into a `Tile` object.
-   *
-   * @param txt The text representation of the tile in the format "landscape,animal1,animal2".
-   * @return A `Tile` object representing the tile.
-   */
-  private Tile fromTextCarre(String txt)  {
-    var array = txt.split(",");
-    var landscape = new LinkedHashMap<Landscape,Angle>();
-    var animals = new ArrayList<Animal>();
-    landscape.put(Landscape.valueOf(array[0].toUpperCase()), Angle.NULL);
-    animals.add(Animal.valueOf(array[1].toUpperCase()));
-    animals.add(Animal.valueOf(array[2].toUpperCase()));
-    return new Tile(landscape,animals);
-  }
-  
   /**
    * Loads tile data from a file into the game.
+   * The file is only read the first time, its definitions being kept by the {@link TileCatalog}.
    *
    * @param path The path to the tile data file.
    * @throws IOException if an I/O error occurs.
    */
   public void load(Path path) throws IOException {
     Objects.requireNonNull(path);
-    try(var reader = Files.newBufferedReader(path)) {
-      String line;
-      Tile tile;
-      while((line = reader.readLine()) != null)  {
-        if(istilesquare) {
-          tile = fromTextCarre(line);
-        }else {
-          tile = fromText(line);
-        }
-        alltiles.add(tile);
-      }
+    for(var type : TileCatalog.tiles(path, istilesquare)) {
+      alltiles.add(new Tile(type));
     }
   }
   
@@ -159,22 +237,28 @@ public class Game {
     }
   }
   /**
-   * Fills empty slots in the `choicetiles` array with tiles from the `parttiles` list.
+   * Fills empty slots in the `choicetiles` array with tiles from the top of the `parttiles` stack.
    */
   private void fillChoiceTile() {
     for(int i = 0 ; i < choicetiles.length;i++) {
       if(choicetiles[i] == null && !parttiles.isEmpty())  {
-        choicetiles[i] = parttiles.remove(0);  
+        choicetiles[i] = parttiles.poll();
+        if(log != null) {
+          log.append(new TileDrawn(i, choicetiles[i].getType().id()));
+        }
       }
     }
   }
   /**
-   * Fills empty slots in the `choicefaunatoken` array with fauna tokens from the `allfaunatoken` list.
+   * Fills empty slots in the `choicefaunatoken` array with fauna tokens drawn at random from the `allfaunatoken` bag.
    */
   private void fillChoiceFaunaToken() {
     for(int i =0; i < choicefaunatoken.length;i++) {
   	    if(choicefaunatoken[i] == null && !allfaunatoken.isEmpty())  {
-  	      choicefaunatoken[i] = allfaunatoken.remove(0);
+  	      choicefaunatoken[i] = allfaunatoken.draw(random);
+  	      if(log != null) {
+  	        log.append(new TokenDrawn(i, choicefaunatoken[i].token()));
+  	      }
   	    }
 	    }
   }
@@ -197,6 +281,238 @@ public class Game {
     choicefaunatoken[choice] = null;
   }
   
+  /**
+   * Plays the turn of a player without using the console.
+   * The chosen tile is rotated if the tiles are hexagonal and placed, then the chosen
+   * fauna token is placed and new options are drawn.
+   *
+   * @param player The player who plays.
+   * @param choice The index of the chosen tile and token (between 0 and 3 inclusive).
+   * @param tilex The x-coordinate of the tile.
+   * @param tiley The y-coordinate of the tile.
+   * @param rotation The number of rotations of a hexagonal tile.
+   * @param token The position of the fauna token, or null to put the token aside.
+   * @return `true` if the turn has been played, `false` if the tile cannot be placed at this position.
+   */
+  public boolean playTurn(Player player, int choice, int tilex, int tiley, int rotation, Pos token) {
+    Objects.requireNonNull(player);
+    Objects.checkIndex(choice, choicetiles.length);
+    var tile = choicetiles[choice];
+    if(tile == null || !player.getEnv().canAddTile(tilex, tiley, istilesquare)) {
+      REJECTED.increment();
+      return false;
+    }
+    if(!istilesquare) {
+      for(int i = 0; i < rotation; i++) {
+        tile.hexagonalRotation();
+      }
+    }
+    placeTile(player, choice, tilex, tiley);
+    if(token != null && choicefaunatoken[choice] != null) {
+      placeFaunaToken(player, choice, token.x(), token.y());
+    }
+    endTurn(player, choice);
+    return true;
+  }
+  
+  /**
+   * Places the tile of a choice on the board of a player, with its current rotation.
+   *
+   * @param player The player.
+   * @param choice The index of the choice (between 0 and 3 inclusive).
+   * @param x The x-coordinate of the tile.
+   * @param y The y-coordinate of the tile.
+   * @return `true` if the tile has been placed, `false` if there is no tile or it cannot be placed at this position.
+   */
+  public boolean placeTile(Player player, int choice, int x, int y) {
+    Objects.requireNonNull(player);
+    Objects.checkIndex(choice, choicetiles.length);
+    var tile = choicetiles[choice];
+    var event = new PlacementEvent();
+    event.begin();
+    var start = System.nanoTime();
+    var placed = tile != null && player.getEnv().addTile(tile, x, y, istilesquare);
+    endPlacement(event, start, true, x, y, placed);
+    if(!placed) {
+      return false;
+    }
+    if(log != null) {
+      log.append(new TilePlaced(log.indexOf(player), choice, x, y, tile.getRotation()));
+    }
+    return true;
+  }
+  
+  /**
+   * Places the fauna token of a choice on the board of a player.
+   *
+   * @param player The player.
+   * @param choice The index of the choice (between 0 and 3 inclusive).
+   * @param x The x-coordinate of the tile receiving the token.
+   * @param y The y-coordinate of the tile receiving the token.
+   * @return `true` if the token has been placed, `false` if there is no token or it cannot be placed at this position.
+   */
+  public boolean placeFaunaToken(Player player, int choice, int x, int y) {
+    Objects.requireNonNull(player);
+    Objects.checkIndex(choice, choicefaunatoken.length);
+    var token = choicefaunatoken[choice];
+    var event = new PlacementEvent();
+    event.begin();
+    var start = System.nanoTime();
+    var placed = token != null && player.getEnv().placeFaunaToken(token, x, y);
+    endPlacement(event, start, false, x, y, placed);
+    if(!placed) {
+      return false;
+    }
+    if(log != null) {
+      log.append(new TokenPlaced(log.indexOf(player), choice, x, y));
+    }
+    return true;
+  }
+  
+  /**
+   * Records the duration of a placement and commits its event.
+   */
+  private static void endPlacement(PlacementEvent event, long start, boolean tile, int x, int y, boolean accepted) {
+    PLACEMENT.recordSince(start);
+    if(!accepted) {
+      REJECTED.increment();
+    }
+    if(event.shouldCommit()) {
+      event.tile = tile;
+      event.x = x;
+      event.y = y;
+      event.accepted = accepted;
+      event.commit();
+    }
+  }
+  
+  /**
+   * Rotates a hexagonal tile already placed on the board of a player.
+   *
+   * @param player The player.
+   * @param x The x-coordinate of the tile.
+   * @param y The y-coordinate of the tile.
+   * @return `true` if a tile has been rotated, `false` if there is no tile at this position.
+   */
+  public boolean rotateTile(Player player, int x, int y) {
+    Objects.requireNonNull(player);
+    if(!player.getEnv().rotateTile(x, y)) {
+      return false;
+    }
+    if(log != null) {
+      log.append(new TileRotated(log.indexOf(player), x, y));
+    }
+    return true;
+  }
+  
+  /**
+   * Ends the turn of a player: the choice used is removed and new options are drawn.
+   * The game is then saved if an automatic save is set, and the next turn starts.
+   *
+   * @param player The player.
+   * @param choice The index of the choice used during the turn (between 0 and 3 inclusive).
+   */
+  public void endTurn(Player player, int choice) {
+    Objects.requireNonNull(player);
+    Objects.checkIndex(choice, choicetiles.length);
+    if(log != null) {
+      log.append(new TurnEnded(log.indexOf(player), choice));
+    }
+    removeChoice(choice);
+    fill();
+    if(autosaver != null) {
+      autosaver.save();
+    }
+    if(turn != null) {
+      TURN.recordSince(turnstart);
+      var allocated = allocatedSince(turnthread, turnbytes);
+      if(allocated >= 0) {
+        ALLOCATED.record(allocated);
+      }
+      if(turn.shouldCommit()) {
+        turn.player = player.getNom();
+        turn.choice = choice;
+        turn.allocated = allocated;
+        turn.commit();
+      }
+    }
+    TURNS.increment();
+    startTurn();
+  }
+  
+  /**
+   * Starts measuring the duration of the next turn.
+   */
+  private void startTurn() {
+    turn = new TurnEvent();
+    turn.begin();
+    turnthread = Thread.currentThread().threadId();
+    turnbytes = THREADS.getThreadAllocatedBytes(turnthread);
+    turnstart = System.nanoTime();
+  }
+  
+  /**
+   * Gets the bytes allocated by a thread since a previous reading of its allocated bytes.
+   *
+   * @param thread the identifier of the thread
+   * @param before the bytes allocated by the thread at the previous reading
+   * @return the bytes allocated since, -1 if the JVM does not measure them or the turn
+   *         did not end on the thread it started on
+   */
+  private static long allocatedSince(long thread, long before) {
+    if(before < 0 || thread != Thread.currentThread().threadId()) {
+      return -1;
+    }
+    var after = THREADS.getThreadAllocatedBytes(thread);
+    return after < 0 ? -1 : after - before;
+  }
+  
+  /**
+   * Applies an event of a journal to the game, without logging it.
+   * The draws are not applied but compared with the draws of the game.
+   *
+   * @param event The event.
+   * @param players The players of the game.
+   * @return `true` if the event has been applied, `false` if it does not match the game.
+   */
+  boolean apply(GameEvent event, ManagementPlayers players) {
+    return switch(event) {
+      case TileDrawn(var slot, var type) ->
+        slot < choicetiles.length && choicetiles[slot] != null && choicetiles[slot].getType().id() == type;
+      case TokenDrawn(var slot, var animal) ->
+        slot < choicefaunatoken.length && choicefaunatoken[slot] != null && choicefaunatoken[slot].token() == animal;
+      case Redraw(var animal) -> {
+        redrawChoiceFaunaToken(animal);
+        yield true;
+      }
+      case Wipe() -> {
+        wipeChoiceFaunaToken();
+        yield true;
+      }
+      case TilePlaced(var player, var choice, var x, var y, var rotation) -> {
+        if(player >= players.getNbPlayer() || choice >= choicetiles.length || choicetiles[choice] == null) {
+          yield false;
+        }
+        var tile = choicetiles[choice];
+        for(int i = 0; i < 6 && tile.getRotation() != rotation; i++) {
+          tile.hexagonalRotation();
+        }
+        yield placeTile(players.getPlayerI(player), choice, x, y);
+      }
+      case TokenPlaced(var player, var choice, var x, var y) ->
+        player < players.getNbPlayer() && choice < choicefaunatoken.length && placeFaunaToken(players.getPlayerI(player), choice, x, y);
+      case TileRotated(var player, var x, var y) ->
+        player < players.getNbPlayer() && rotateTile(players.getPlayerI(player), x, y);
+      case TurnEnded(var player, var choice) -> {
+        if(player >= players.getNbPlayer() || choice >= choicetiles.length) {
+          yield false;
+        }
+        endTurn(players.getPlayerI(player), choice);
+        yield true;
+      }
+    };
+  }
+  
   /**
    * Initializes the game with the necessary tiles and tokens.
    *
@@ -205,17 +521,17 @@ public class Game {
    */
   public void initializeGame(int nbjoueur) throws IOException  {
     if(istilesquare) {
-      load(Path.of("tuiles.txt"));
+      load(TileCatalog.SQUARE_TILES);
     }else {
-      load(Path.of("tuiles_hexagone.txt"));
+      load(TileCatalog.HEXAGONAL_TILES);
     }
     initializeFaunaToken();
-    Collections.shuffle(alltiles);
-    Collections.shuffle(allfaunatoken);
+    Collections.shuffle(alltiles, random);
     for(int i = 0; i< 20*nbjoueur+3; i++)  {
       parttiles.add(alltiles.get(i));
     }
     fill();
+    startTurn();
   }
   
   /**
@@ -247,6 +563,41 @@ public class Game {
     }
     return false; 
   }
+  /**
+   * Returns the proposed fauna tokens of an animal to the bag and draws new ones.
+   * The draws from the bag being random, the bag does not need to be shuffled.
+   *
+   * @param animal The animal type of the tokens to replace.
+   */
+  private void redrawChoiceFaunaToken(Animal animal) {
+    if(log != null) {
+      log.append(new Redraw(animal));
+    }
+    for(int i = 0; i<4; i++)  {
+      if(choicefaunatoken[i] != null && choicefaunatoken[i].token().equals(animal)){
+        allfaunatoken.add(choicefaunatoken[i]);
+        choicefaunatoken[i] = null;
+      }
+    } 
+    fillChoiceFaunaToken();
+  }
+  /**
+   * Returns all the proposed fauna tokens to the bag and draws new ones.
+   * The draws from the bag being random, the bag does not need to be shuffled.
+   */
+  private void wipeChoiceFaunaToken() {
+    WIPES.increment();
+    if(log != null) {
+      log.append(new Wipe());
+    }
+    for(int i = 0; i< 4; i++)  {
+      if(choicefaunatoken[i] != null) {
+        allfaunatoken.add(choicefaunatoken[i]);
+        choicefaunatoken[i] = null;
+      }
+    }
+    fillChoiceFaunaToken();
+  }
   /**
    * Prompts the player to replace three identical fauna tokens with new ones.
    *
@@ -256,14 +607,7 @@ public class Game {
   private void requestPlayerTokenFauna3Identical(Animal animal, Interaction interaction) throws IOException   {
     var choice = interaction.askQuestion("Il y a 3 tokens identiques, voulez vous les repiocher (y\n) :",new String[] {"y", "n"});
     if("y".equals(choice))  {
-      for(int i = 0; i<4; i++)  {
-        if(choicefaunatoken[i].token().equals(animal)){
-          allfaunatoken.add(choicefaunatoken[i]);
-          choicefaunatoken[i] = null;
-        }
-      } 
-      Collections.shuffle(allfaunatoken);
-      fillChoiceFaunaToken();
+      redrawChoiceFaunaToken(animal);
     }
   }
   /**
@@ -277,12 +621,7 @@ public class Game {
     for(var ele : verif.entrySet())  {
       var value = ele.getValue();
       if(value == 4) {
-        for(int i = 0; i< 4; i++)  {
-          allfaunatoken.add(choicefaunatoken[i]);
-          choicefaunatoken[i] = null;
-        }
-        Collections.shuffle(allfaunatoken);
-        fillChoiceFaunaToken();
+        wipeChoiceFaunaToken();
       }
       if(value == 3) {
         requestPlayerTokenFauna3Identical(ele.getKey(),interaction);
@@ -293,6 +632,29 @@ public class Game {
     }
   }
   
+  /**
+   * Checks and adjusts the current fauna token choices if there are duplicates, without using the console.
+   * Four identical tokens are always replaced, three identical tokens are replaced if the predicate accepts it.
+   *
+   * @param redraw Decides if the three identical tokens of an animal must be replaced.
+   */
+  public void changeChoiceFaunaToken(Predicate<Animal> redraw)  {
+    Objects.requireNonNull(redraw);
+    var verif = checkChoiceFaunaToken();
+    for(var ele : verif.entrySet())  {
+      var value = ele.getValue();
+      if(value == 4) {
+        wipeChoiceFaunaToken();
+      }
+      if(value == 3 && redraw.test(ele.getKey())) {
+        redrawChoiceFaunaToken(ele.getKey());
+      }
+    }
+    if(checkChoiceFaunaToken2(checkChoiceFaunaToken())) {
+      changeChoiceFaunaToken(redraw);	
+    }
+  }
+  
   /**
    * Handles a game session in terminal mode.
    *
@@ -302,25 +664,65 @@ public class Game {
    * @throws IOException if an error occurs during gameplay.
    */
   private void gameTerminal(ManagementPlayers players,ManagementCard cards, Interaction interaction) throws IOException {
-    System.out.println("Debut de la partie \n");
+    interaction.display("Debut de la partie \n");
     cards.initializeCards(istilesquare,interaction);
-    for(int j =0; j<20;j++) {
+    var computers = initializeComputerPlayers(players,interaction);
+    for(; round<NB_ROUNDS; round++) {
       	for(int i = 0; i<players.getNbPlayer();i++)  {
-    	    System.out.println("Tour" + (j+1));
+    	    interaction.display("Tour" + (round+1));
     	    var joueur = players.getPlayerI(i);
-    	    performTour(joueur,interaction);   
-    	    joueur.getEnv().EnlargeEnv();
+    	    if(computers.containsKey(joueur)) {
+    	      performTourComputer(joueur,computers.get(joueur),interaction);
+    	    }else {
+    	      performTour(joueur,interaction);   
+    	    }
       	}
-      var save = new Save(j,cards,players,istilesquare);
+      var save = new Save(round,cards,players,istilesquare,seed);
       if(save.save(interaction)) {
         break;
       }
     }
-    	for(int i = 0; i<players.getNbPlayer();i++)  {
-      cards.counterScore(players.getPlayerI(i));
-    	}
-    players.BonusMajorite(istilesquare);
-    System.out.print("le gagnant est : " + players.winner());
+    new ScoringPhase().score(cards, players, istilesquare);
+    interaction.display("le gagnant est : " + players.winner());
+  }
+  
+  /**
+   * Plays a game in terminal mode where each player has their own interaction,
+   * for instance a connection to the {@linkplain server.GameServer server}.
+   * The first player chooses the scoring cards, and the players are told whose turn it is.
+   * The game must have been initialized for the number of players.
+   *
+   * @param players The players of the game.
+   * @param cards The scoring cards of the game, chosen by the first player.
+   * @param seats The interaction of each player, in the order of the players.
+   * @throws IOException if an I/O error occurs with a player.
+   * @throws IllegalArgumentException if there is not one interaction per player.
+   */
+  public void playSession(ManagementPlayers players, ManagementCard cards, List<Interaction> seats) throws IOException {
+    Objects.requireNonNull(players);
+    Objects.requireNonNull(cards);
+    Objects.requireNonNull(seats);
+    if(seats.size() != players.getNbPlayer()) {
+      throw new IllegalArgumentException("Il faut une interaction par joueur");
+    }
+    broadcast(seats, "Debut de la partie \n");
+    cards.initializeCards(istilesquare, seats.get(0));
+    for(; round < NB_ROUNDS; round++) {
+      for(int i = 0; i < players.getNbPlayer(); i++) {
+        var joueur = players.getPlayerI(i);
+        broadcast(seats, "Tour" + (round+1) + " : c'est au tour du joueur " + joueur.getNom());
+        performTour(joueur, seats.get(i));
+      }
+    }
+    new ScoringPhase().score(cards, players, istilesquare);
+    broadcast(seats, players);
+    broadcast(seats, "le gagnant est : " + players.winner());
+  }
+  
+  private static void broadcast(List<Interaction> seats, Object message) {
+    for(var seat : seats) {
+      seat.display(message);
+    }
   }
   
   
@@ -362,11 +764,12 @@ public class Game {
   /**
    * Prompts the user to choose the type of tiles for the game (square or hexagonal).
    *
+   * @param interaction The interaction asking the type of tiles.
    * @return `true` if the user selects square tiles ("C"), `false` if hexagonal tiles ("H").
    * @throws IOException if an I/O error occurs during user input.
    */
-  private boolean choiceTypeTile() throws IOException {
-    var interaction = new Interaction();
+  private static boolean choiceTypeTile(Interaction interaction) throws IOException {
+    Objects.requireNonNull(interaction);
     var choice = interaction.askQuestion("Veuillez choisir le type de tile (C pour carre; H pour hexagonal): ",new String[] {"C", "H"});
   	  if(choice.equals("C")) {
       return true;
@@ -396,30 +799,76 @@ public class Game {
   
   /**
    * Handles the placement of a tile or fauna token at user-specified coordinates.
+   * A fauna token that no tile of the board accepts is put aside without asking.
    *
    * @param player The player placing the tile or token.
    * @param choiceIndex The index of the chosen tile or token.
    * @param isTile True if placing a tile, false if placing a fauna token.
+   * @param interaction The interaction of the player.
    * @throws IOException if an I/O error occurs during input.
    */
-  private void choicePositionTileFaunaToken(Player j, int nb, boolean tile) throws IOException {
-    var interaction = new Interaction();
+  private void choicePositionTileFaunaToken(Player j, int nb, boolean tile, Interaction interaction) throws IOException {
+    if(!tile && (choicefaunatoken[nb-1] == null || !j.getEnv().possiblePlaceFTInEnv(choicefaunatoken[nb-1]))) {
+      interaction.display("Le jeton " + choicefaunatoken[nb-1] + " ne peut etre place sur aucune tuile, il est remis de cote\n");
+      return;
+    }
     	var array = interaction.getCoordinates();
     	boolean f;
     	if(tile) {
-    	  f = j.getEnv().addTile(choicetiles[nb-1], array[0], array[1],istilesquare);
+    	  f = placeTile(j, nb-1, array[0], array[1]);
     	}else {
-    	  f = j.getEnv().placeFaunaToken(choicefaunatoken[nb-1], array[0], array[1]);
+    	  f = placeFaunaToken(j, nb-1, array[0], array[1]);
     	}
     	while (!f) {
     	  array = interaction.getCoordinates();
     	  if(tile) {
-    	    f = j.getEnv().addTile(choicetiles[nb-1], array[0], array[1],istilesquare);
+    	    f = placeTile(j, nb-1, array[0], array[1]);
     	  }else {
-    		f = j.getEnv().placeFaunaToken(choicefaunatoken[nb-1], array[0], array[1]);
+    		f = placeFaunaToken(j, nb-1, array[0], array[1]);
     	  }
     	}
   }
+  /**
+   * Prompts the user for the number of players controlled by the computer.
+   * The last players are controlled by the computer, nobody is asked when no strategy was set.
+   *
+   * @param players The players of the game.
+   * @param interaction.
+   * @return The strategy of each player controlled by the computer.
+   * @throws IOException if an I/O error occurs during user input.
+   */
+  private HashMap<Player,PlayerStrategy> initializeComputerPlayers(ManagementPlayers players,Interaction interaction) throws IOException {
+    var computers = new HashMap<Player,PlayerStrategy>();
+    if(computer == null) {
+      return computers;
+    }
+    var answers = new String[players.getNbPlayer() + 1];
+    for(int i = 0; i < answers.length; i++) {
+      answers[i] = String.valueOf(i);
+    }
+    var choice = interaction.askQuestion("Combien de joueurs sont controles par l'ordinateur (0-" + players.getNbPlayer() + ") :",answers);
+    var seeds = new SplittableRandom(seed ^ COMPUTER_SEEDS);
+    for(int i = players.getNbPlayer() - Integer.parseInt(choice); i < players.getNbPlayer(); i++) {
+      computers.put(players.getPlayerI(i), computer.apply(seeds.nextLong()));
+    }
+    return computers;
+  }
+  
+  /**
+   * Handles the turn of a player controlled by the computer.
+   *
+   * @param j The current player.
+   * @param strategy The strategy choosing the moves of the player.
+   * @param interaction The interaction showing the move.
+   */
+  private void performTourComputer(Player j,PlayerStrategy strategy,Interaction interaction) {
+    interaction.display("C'est au tour du joueur " + j.getNom() + " (ordinateur)");
+    changeChoiceFaunaToken(animal -> strategy.redraw(this, j, animal));
+    var move = strategy.chooseMove(this, j);
+    playTurn(j, move.choice(), move.tilex(), move.tiley(), move.rotation(), move.token());
+    interaction.display(j.getEnv());
+  }
+  
   /**
    * Handles a single player's turn.
    *
@@ -427,22 +876,20 @@ public class Game {
    * @throws IOException if an error occurs during the player's turn.
    */
   private void performTour(Player j,Interaction interaction) throws IOException {
-    System.out.println("C'est au tour du joueur " + j.getNom());
+    interaction.display("C'est au tour du joueur " + j.getNom());
     changeChoiceFaunaToken(interaction);
-  	  System.out.println("Voici ci-dessous les 4 choice de tokens faunes et tiles");
+  	  interaction.display("Voici ci-dessous les 4 choice de tokens faunes et tiles");
   	  for(int i = 0; i < 4; i++) {
-  	    System.out.println("choice numero "+ (i+1) + " " + choicetiles[i] + " token : " + choicefaunatoken[i]);
+  	    interaction.display("choice numero "+ (i+1) + " " + choicetiles[i] + " token : " + choicefaunatoken[i]);
   	  }
-    	System.out.println(j.getEnv());
+    	interaction.display(j.getEnv());
     	var num_option = choiceOption(interaction);
-    	System.out.println(j.getEnv());
-    choicePositionTileFaunaToken(j, num_option,true);
-  	  System.out.println(j.getEnv());
-  	  choicePositionTileFaunaToken(j, num_option,false);
-  	  System.out.println(j.getEnv());
-  	  choicetiles[num_option-1] = null;
-  	  choicefaunatoken[num_option-1] = null;
-  	  fill();
+    	interaction.display(j.getEnv());
+    choicePositionTileFaunaToken(j, num_option,true,interaction);
+  	  interaction.display(j.getEnv());
+  	  choicePositionTileFaunaToken(j, num_option,false,interaction);
+  	  interaction.display(j.getEnv());
+  	  endTurn(j, num_option-1);
   }
   
   
@@ -0,0 +1,120 @@
+package game;
+
+import java.util.Objects;
+
+import model.Animal;
+
+/**
+ * State transition of a game, as written in the {@link GameLog}.
+ * <p>
+ * The draws are determined by the seed of the game, so they are not needed to replay it:
+ * they are logged to check that the replay follows the original game, and for the analysis
+ * of the games. The players are identified by their index in the game.
+ * </p>
+ */
+public sealed interface GameEvent {
+
+  /**
+   * A tile of the stack has been proposed in an empty slot of the choices.
+   *
+   * @param slot the index of the slot, between 0 and 3
+   * @param type the identifier of the definition of the tile, see {@link board.TileType#id()}
+   */
+  record TileDrawn(int slot, int type) implements GameEvent {
+    /**
+     * Checks the slot.
+     *
+     * @throws IllegalArgumentException if the slot is negative
+     */
+    public TileDrawn {
+      if(slot < 0) {
+        throw new IllegalArgumentException("Emplacement invalide : " + slot);
+      }
+    }
+  }
+
+  /**
+   * A fauna token of the bag has been proposed in an empty slot of the choices.
+   *
+   * @param slot the index of the slot, between 0 and 3
+   * @param animal the animal of the token
+   */
+  record TokenDrawn(int slot, Animal animal) implements GameEvent {
+    /**
+     * Checks the slot and the animal.
+     *
+     * @throws NullPointerException if the animal is null
+     * @throws IllegalArgumentException if the slot is negative
+     */
+    public TokenDrawn {
+      Objects.requireNonNull(animal);
+      if(slot < 0) {
+        throw new IllegalArgumentException("Emplacement invalide : " + slot);
+      }
+    }
+  }
+
+  /**
+   * The three proposed fauna tokens of an animal have been returned to the bag and replaced.
+   *
+   * @param animal the animal of the tokens
+   */
+  record Redraw(Animal animal) implements GameEvent {
+    /**
+     * Checks the animal.
+     *
+     * @throws NullPointerException if the animal is null
+     */
+    public Redraw {
+      Objects.requireNonNull(animal);
+    }
+  }
+
+  /**
+   * All the proposed fauna tokens have been returned to the bag and replaced (overpopulation).
+   */
+  record Wipe() implements GameEvent {
+  }
+
+  /**
+   * A player has placed the tile of a choice.
+   *
+   * @param player the index of the player
+   * @param choice the index of the choice
+   * @param x the x-coordinate of the tile
+   * @param y the y-coordinate of the tile
+   * @param rotation the number of rotations of the tile when it was placed
+   */
+  record TilePlaced(int player, int choice, int x, int y, int rotation) implements GameEvent {
+  }
+
+  /**
+   * A player has placed the fauna token of a choice.
+   *
+   * @param player the index of the player
+   * @param choice the index of the choice
+   * @param x the x-coordinate of the tile receiving the token
+   * @param y the y-coordinate of the tile receiving the token
+   */
+  record TokenPlaced(int player, int choice, int x, int y) implements GameEvent {
+  }
+
+  /**
+   * A player has rotated a hexagonal tile already placed on their board.
+   *
+   * @param player the index of the player
+   * @param x the x-coordinate of the tile
+   * @param y the y-coordinate of the tile
+   */
+  record TileRotated(int player, int x, int y) implements GameEvent {
+  }
+
+  /**
+   * A player has ended their turn, the choice they used being removed and new options drawn.
+   *
+   * @param player the index of the player
+   * @param choice the index of the choice used during the turn
+   */
+  record TurnEnded(int player, int choice) implements GameEvent {
+  }
+}
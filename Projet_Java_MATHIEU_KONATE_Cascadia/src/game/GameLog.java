@@ -0,0 +1,318 @@
+package game;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import game.GameEvent.Redraw;
+import game.GameEvent.TileDrawn;
+import game.GameEvent.TilePlaced;
+import game.GameEvent.TileRotated;
+import game.GameEvent.TokenDrawn;
+import game.GameEvent.TokenPlaced;
+import game.GameEvent.TurnEnded;
+import game.GameEvent.Wipe;
+import model.Animal;
+import player.ManagementPlayers;
+import player.Player;
+
+/**
+ * Journal of a game: every state transition of the game is appended to a file.
+ * <p>
+ * A file starts with the magic bytes {@code CLOG} and a version byte, followed by the type
+ * of tiles, the seed of the game and the name of each player. Then each event
+ * is written as a tag byte followed by its fields, as variable-length integers like in the
+ * binary saves, the coordinates after a zigzag encoding, so an event takes a few bytes.
+ * The events of a turn are kept in memory and appended to the file at the end of the turn.
+ * </p>
+ * <p>
+ * Since every draw of a game is determined by its seed, a game is replayed by creating a game
+ * with the same seed and applying the events of the players, up to any turn. The logged draws
+ * are compared with the draws of the replay, so a journal not matching its game is detected.
+ * </p>
+ */
+public final class GameLog {
+
+  /**
+   * Magic bytes at the start of every journal.
+   */
+  private static final byte[] MAGIC = {'C', 'L', 'O', 'G'};
+
+  /**
+   * Version of the format written by this class.
+   */
+  private static final int VERSION = 1;
+
+  private static final int TILE_DRAWN = 0;
+  private static final int TOKEN_DRAWN = 1;
+  private static final int REDRAW = 2;
+  private static final int WIPE = 3;
+  private static final int TILE_PLACED = 4;
+  private static final int TOKEN_PLACED = 5;
+  private static final int TILE_ROTATED = 6;
+  private static final int TURN_ENDED = 7;
+
+  /**
+   * Initial size of the boards, the same for all the players of a game.
+   */
+  private static final int BOARD_SIZE = 5;
+
+  private static final Animal[] ANIMALS = Animal.values();
+
+  private final Path path;
+  private final ManagementPlayers players;
+  private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+  /**
+   * A game replayed from a journal.
+   *
+   * @param game the game, in the state following the last replayed turn
+   * @param players the players of the game, with their boards
+   * @param turns the number of turns replayed
+   */
+  public record Replay(Game game, ManagementPlayers players, int turns) {
+    /**
+     * Checks the game and the players.
+     *
+     * @throws NullPointerException if the game or the players are null
+     */
+    public Replay {
+      Objects.requireNonNull(game);
+      Objects.requireNonNull(players);
+    }
+  }
+
+  /**
+   * Type of tiles, seed and players read from the start of a journal.
+   */
+  private record Header(boolean istilesquare, long seed, ManagementPlayers players) {
+  }
+
+  private GameLog(Path path, ManagementPlayers players) {
+    this.path = path;
+    this.players = players;
+  }
+
+  /**
+   * Creates the journal of a new game, replacing the file if it exists, and attaches it to the game.
+   * The journal must be created before the game is initialized, so the first draws are logged.
+   *
+   * @param path the file of the journal
+   * @param game the game
+   * @param players the players of the game
+   * @return the journal
+   * @throws IOException if the file cannot be written
+   * @throws NullPointerException if a parameter is null
+   */
+  public static GameLog create(Path path, Game game, ManagementPlayers players) throws IOException {
+    Objects.requireNonNull(path);
+    Objects.requireNonNull(game);
+    Objects.requireNonNull(players);
+    var header = new ByteArrayOutputStream();
+    var output = new DataOutputStream(header);
+    output.write(MAGIC);
+    output.writeByte(VERSION);
+    output.writeBoolean(game.getTypeTile());
+    output.writeLong(game.getSeed());
+    BinarySave.writeVarint(output, players.getNbPlayer());
+    for(int i = 0; i < players.getNbPlayer(); i++) {
+      output.writeUTF(players.getPlayerI(i).getNom());
+    }
+    Files.write(path, header.toByteArray());
+    var log = new GameLog(path, players);
+    game.setLog(log);
+    return log;
+  }
+
+  /**
+   * Gets the index of a player of the game.
+   *
+   * @param player the player
+   * @return the index of the player
+   * @throws IllegalArgumentException if the player is not a player of the game
+   */
+  int indexOf(Player player) {
+    for(int i = 0; i < players.getNbPlayer(); i++) {
+      if(players.getPlayerI(i) == player) {
+        return i;
+      }
+    }
+    throw new IllegalArgumentException("Joueur inconnu : " + player.getNom());
+  }
+
+  /**
+   * Appends an event to the journal. The file is written at the end of each turn.
+   *
+   * @param event the event
+   */
+  void append(GameEvent event) {
+    try {
+      switch(event) {
+        case TileDrawn(var slot, var type) -> write(TILE_DRAWN, slot, type);
+        case TokenDrawn(var slot, var animal) -> write(TOKEN_DRAWN, slot, animal.ordinal());
+        case Redraw(var animal) -> write(REDRAW, animal.ordinal());
+        case Wipe() -> write(WIPE);
+        case TilePlaced(var player, var choice, var x, var y, var rotation) ->
+          write(TILE_PLACED, player, choice, BinarySave.zigzag(x), BinarySave.zigzag(y), rotation);
+        case TokenPlaced(var player, var choice, var x, var y) ->
+          write(TOKEN_PLACED, player, choice, BinarySave.zigzag(x), BinarySave.zigzag(y));
+        case TileRotated(var player, var x, var y) ->
+          write(TILE_ROTATED, player, BinarySave.zigzag(x), BinarySave.zigzag(y));
+        case TurnEnded(var player, var choice) -> {
+          write(TURN_ENDED, player, choice);
+          flush();
+        }
+      }
+    }catch (IOException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  private void write(int tag, int... fields) throws IOException {
+    buffer.write(tag);
+    for(var field : fields) {
+      BinarySave.writeVarint(buffer, field);
+    }
+  }
+
+  /**
+   * Appends to the file the events not written yet.
+   */
+  public void flush() {
+    if(buffer.size() == 0) {
+      return;
+    }
+    try {
+      Files.write(path, buffer.toByteArray(), StandardOpenOption.APPEND);
+      buffer.reset();
+    }catch (IOException e) {
+      System.err.println(e.getMessage());
+    }
+  }
+
+  /**
+   * Reads all the events of a journal.
+   *
+   * @param path the file of the journal
+   * @return the events, in the order of the game
+   * @throws IOException if the file cannot be read or is not a valid journal
+   */
+  public static List<GameEvent> events(Path path) throws IOException {
+    Objects.requireNonNull(path);
+    try(var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+      readHeader(input);
+      var events = new ArrayList<GameEvent>();
+      GameEvent event;
+      while((event = readEvent(input)) != null) {
+        events.add(event);
+      }
+      return events;
+    }
+  }
+
+  /**
+   * Replays a game from its journal, without any display.
+   *
+   * @param path the file of the journal
+   * @param turns the number of turns to replay, {@link Integer#MAX_VALUE} to replay the whole journal
+   * @return the game and its players after the replayed turns
+   * @throws IOException if the file cannot be read, is not a valid journal or does not match its game
+   * @throws IllegalArgumentException if the number of turns is negative
+   */
+  public static Replay replay(Path path, int turns) throws IOException {
+    Objects.requireNonNull(path);
+    if(turns < 0) {
+      throw new IllegalArgumentException("Nombre de tours negatif : " + turns);
+    }
+    try(var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+      var header = readHeader(input);
+      var players = header.players();
+      var game = new Game(header.istilesquare(), header.seed());
+      game.initializeGame(players.getNbPlayer());
+      var played = 0;
+      GameEvent event;
+      while(played < turns && (event = readEvent(input)) != null) {
+        if(!game.apply(event, players)) {
+          throw new IOException("Le journal ne correspond pas a la partie : " + event);
+        }
+        if(event instanceof TurnEnded) {
+          played++;
+        }
+      }
+      return new Replay(game, players, played);
+    }
+  }
+
+  /**
+   * Reads the start of a journal, creating its players with empty boards.
+   */
+  private static Header readHeader(DataInputStream input) throws IOException {
+    var magic = new byte[MAGIC.length];
+    input.readFully(magic);
+    if(!Arrays.equals(magic, MAGIC)) {
+      throw new IOException("Ce fichier n'est pas un journal de partie");
+    }
+    var version = input.readUnsignedByte();
+    if(version != VERSION) {
+      throw new IOException("Version de journal inconnue : " + version);
+    }
+    var istilesquare = input.readBoolean();
+    var seed = input.readLong();
+    var players = new ManagementPlayers();
+    var nbplayers = BinarySave.readVarint(input);
+    for(int i = 0; i < nbplayers; i++) {
+      players.add(new Player(input.readUTF(), BOARD_SIZE));
+    }
+    return new Header(istilesquare, seed, players);
+  }
+
+  /**
+   * Reads the next event of a journal.
+   *
+   * @return the event, or null at the end of the journal
+   */
+  private static GameEvent readEvent(DataInputStream input) throws IOException {
+    var tag = input.read();
+    if(tag == -1) {
+      return null;
+    }
+    try {
+      return switch(tag) {
+        case TILE_DRAWN -> new TileDrawn(BinarySave.readVarint(input), BinarySave.readVarint(input));
+        case TOKEN_DRAWN -> new TokenDrawn(BinarySave.readVarint(input), animal(BinarySave.readVarint(input)));
+        case REDRAW -> new Redraw(animal(BinarySave.readVarint(input)));
+        case WIPE -> new Wipe();
+        case TILE_PLACED -> new TilePlaced(BinarySave.readVarint(input), BinarySave.readVarint(input),
+            coordinate(input), coordinate(input), BinarySave.readVarint(input));
+        case TOKEN_PLACED -> new TokenPlaced(BinarySave.readVarint(input), BinarySave.readVarint(input),
+            coordinate(input), coordinate(input));
+        case TILE_ROTATED -> new TileRotated(BinarySave.readVarint(input), coordinate(input), coordinate(input));
+        case TURN_ENDED -> new TurnEnded(BinarySave.readVarint(input), BinarySave.readVarint(input));
+        default -> throw new IOException("Evenement inconnu dans le journal : " + tag);
+      };
+    }catch (EOFException e) {
+      throw new IOException("Journal tronque", e);
+    }
+  }
+
+  private static int coordinate(DataInputStream input) throws IOException {
+    return BinarySave.unzigzag(BinarySave.readVarint(input));
+  }
+
+  private static Animal animal(int ordinal) throws IOException {
+    if(ordinal >= ANIMALS.length) {
+      throw new IOException("Animal inconnu dans le journal : " + ordinal);
+    }
+    return ANIMALS[ordinal];
+  }
+}
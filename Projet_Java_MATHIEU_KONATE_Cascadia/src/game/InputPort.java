@@ -0,0 +1,112 @@
+package game;
+
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Source of the answers of a user, read by an {@link Interaction} one line at a time.
+ * <p>
+ * The answers come from the console or a connection ({@link #console()}, {@link #of(BufferedReader)}),
+ * from a queue filled in advance to play whole games without anybody ({@link ScriptedInput}), or
+ * are pushed by another thread as they arrive ({@link AsyncInput}). The engine receives its input
+ * port from the caller and never opens the console itself.
+ * </p>
+ */
+public interface InputPort extends AutoCloseable {
+
+  /**
+   * Gets the future of the next line.
+   * <p>
+   * Only an {@link AsyncInput} answers without waiting: its future stays pending until another
+   * thread pushes the line. The ports reading a reader ({@link #of(BufferedReader)}, {@link #console()})
+   * read the line on the calling thread and return a completed future, and a {@link ScriptedInput}
+   * returns its next answer at once.
+   * </p>
+   *
+   * @return the future of the next line, completed exceptionally with an {@link EOFException}
+   *         if there is no more line or with the {@link IOException} of the input
+   */
+  CompletableFuture<String> nextLine();
+
+  /**
+   * Waits for the next line.
+   *
+   * @return the next line, without line separator
+   * @throws EOFException if there is no more line
+   * @throws IOException if the input fails or the thread is interrupted while waiting
+   */
+  default String readLine() throws IOException {
+    try {
+      return nextLine().get();
+    }catch (ExecutionException e) {
+      if(e.getCause() instanceof IOException cause) {
+        throw cause;
+      }
+      throw new IOException(e.getCause());
+    }catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Attente d'une reponse interrompue");
+    }
+  }
+
+  /**
+   * Releases the input. The default implementation does nothing.
+   *
+   * @throws IOException if the input cannot be closed
+   */
+  @Override
+  default void close() throws IOException {
+  }
+
+  /**
+   * Gets an input port reading the console.
+   *
+   * @return an input port reading {@code System.in}
+   */
+  static InputPort console() {
+    return of(new BufferedReader(new InputStreamReader(System.in)));
+  }
+
+  /**
+   * Gets an input port reading the lines of a reader, for instance the stream of a connection.
+   * Reading a line blocks the calling thread, a virtual thread to serve many users, and
+   * {@link #nextLine()} also reads the line before returning an already completed future.
+   *
+   * @param reader the reader
+   * @return an input port reading the reader
+   * @throws NullPointerException if the reader is null
+   */
+  static InputPort of(BufferedReader reader) {
+    Objects.requireNonNull(reader);
+    return new InputPort() {
+      @Override
+      public String readLine() throws IOException {
+        var line = reader.readLine();
+        if(line == null) {
+          throw new EOFException("Fin de l'entree du joueur");
+        }
+        return line;
+      }
+
+      @Override
+      public CompletableFuture<String> nextLine() {
+        try {
+          return CompletableFuture.completedFuture(readLine());
+        }catch (IOException e) {
+          return CompletableFuture.failedFuture(e);
+        }
+      }
+
+      @Override
+      public void close() throws IOException {
+        reader.close();
+      }
+    };
+  }
+}
@@ -1,25 +1,54 @@
 package game;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.PrintStream;
 import java.util.Objects;
 
 /**
  * The Interaction class centralizes all user interactions in the system.
+ * <p>
+ * An interaction reads the answers of a user from an {@link InputPort} and writes the questions
+ * and the messages of the game to a stream: the console for a local game, a connection for
+ * a seat of the {@linkplain server.GameServer server}, or a script for a game without anybody.
+ * The interaction is created by the caller and passed down to the engine.
+ * </p>
  */
 public class Interaction {
 
-  private BufferedReader reader;
+  private final InputPort input;
+  private final PrintStream out;
 
   /**
    * Constructs an Interaction object and initializes the reader 
    * to read input from the console (System.in).
    */
   public Interaction(){
-    reader = new BufferedReader(new InputStreamReader(System.in));
+    this(InputPort.console(), System.out);
   }
 
+  /**
+   * Constructs an Interaction object reading the answers from an input port and
+   * writing the questions to a stream, for instance the streams of a connection.
+   *
+   * @param input The source of the answers.
+   * @param out The stream receiving the questions and messages, flushed at each line.
+   * @throws NullPointerException if the input port or the stream is null.
+   */
+  public Interaction(InputPort input, PrintStream out) {
+    this.input = Objects.requireNonNull(input);
+    this.out = Objects.requireNonNull(out);
+  }
+
+  /**
+   * Shows a message of the game to the user.
+   *
+   * @param message The message.
+   */
+  public void display(Object message) {
+    out.println(message);
+  }
+
+
     /**
      * Prompts the user with a question and validates the input.
      * 
@@ -32,14 +61,14 @@ public class Interaction {
     Objects.requireNonNull(question);
     Objects.requireNonNull(validanswers);
     while(true){
-      System.out.println(question);
-      var choice = reader.readLine().trim();
+      out.println(question);
+      var choice = input.readLine().trim();
       for(String validAnswer : validanswers) {
         if(choice.equalsIgnoreCase(validAnswer)) {
           return choice;
          }
        }
-       System.out.println("Choix Incorrecte.");
+       out.println("Choix Incorrecte.");
     }
   }
 
@@ -59,8 +88,8 @@ public class Interaction {
   	  var coordonnees = new int[2]; 
   	  while(true){
     	  try{
-    	    System.out.println("Veuillez entrer les coordonnees(i,j) :");
-    	    var choice = reader.readLine();
+    	    out.println("Veuillez entrer les coordonnees(i,j) :");
+    	    var choice = input.readLine();
     	    var array = choice.split(",");
     	    if(array.length != 2) {
     	      throw new IllegalArgumentException("Erreur veuillez entrer deux entiers separe par une virgule");
@@ -69,9 +98,9 @@ public class Interaction {
     	    coordonnees[1] = Integer.parseInt(array[1]);
     	    return coordonnees; 
     	  }catch(NumberFormatException e) {
-    	    System.out.println("Erreur : veuillez entrer uniquement des entiers pour i et j.");
+    	    out.println("Erreur : veuillez entrer uniquement des entiers pour i et j.");
     	  }catch(IllegalArgumentException e) {
-    	    System.out.println("Erreur veuillez entrer deux entier i et j");
+    	    out.println("Erreur veuillez entrer deux entier i et j");
     	  }
     }
   }
@@ -86,17 +115,17 @@ public class Interaction {
      * @throws IOException if an input error occurs
      */
   public String requestName() throws IOException{
-    System.out.println("Nom du joueur :");
-    	var choix = reader.readLine();
+    out.println("Nom du joueur :");
+    	var choix = input.readLine();
     	return choix;
   }
     
     /**
-     * Closes the reader to free resources.
+     * Closes the input port to free resources.
      */
   public void close() {
     try {
-      reader.close();
+      input.close();
     }catch (IOException e) {
       System.err.println("Error closing the reader: " + e.getMessage());
     }
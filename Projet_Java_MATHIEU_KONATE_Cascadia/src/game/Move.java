@@ -0,0 +1,15 @@
+package game;
+
+import model.Pos;
+
+/**
+ * Represents the choices of a player during one turn.
+ * 
+ * @param choice The index of the chosen tile and fauna token (between 0 and 3 inclusive).
+ * @param tilex The x-coordinate where the tile is placed.
+ * @param tiley The y-coordinate where the tile is placed.
+ * @param rotation The number of rotations applied to a hexagonal tile before placing it.
+ * @param token The position where the fauna token is placed, or null if the token is put aside.
+ */
+public record Move(int choice, int tilex, int tiley, int rotation, Pos token) {
+}
@@ -0,0 +1,36 @@
+package game;
+
+import model.Animal;
+import player.Player;
+
+/**
+ * Decides the moves of a player controlled by the computer.
+ * <p>
+ * The game only knows this interface: the strategies are implemented in the package
+ * {@code simulation} and given to the game by {@link Game#setComputerStrategy(java.util.function.LongFunction)}.
+ * </p>
+ */
+public interface PlayerStrategy {
+
+  /**
+   * Chooses the move of the player among the options proposed by the game.
+   * The tile position of the move must be a valid position on the board of the player.
+   * 
+   * @param game the game being played
+   * @param player the player who plays
+   * @return the chosen move
+   */
+  Move chooseMove(Game game, Player player);
+
+  /**
+   * Decides if three identical fauna tokens proposed by the game must be replaced.
+   * 
+   * @param game the game being played
+   * @param player the player who plays
+   * @param animal the animal proposed three times
+   * @return true to replace the three tokens, false to keep them
+   */
+  default boolean redraw(Game game, Player player, Animal animal) {
+    return false;
+  }
+}
@@ -10,10 +10,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Objects;
+import java.util.SplittableRandom;
 
 import board.Board;
 import board.FaunaToken;
 import board.Tile;
+import board.TileCatalog;
 import card.Card;
 import card.CardAigle;
 import card.CardOurs;
@@ -22,6 +24,9 @@ import card.CardSaumon;
 import card.CardVariante;
 import card.CardWapiti;
 import card.ManagementCard;
+import metrics.Histogram;
+import metrics.MetricsRegistry;
+import metrics.SaveEvent;
 import model.Angle;
 import model.Animal;
 import model.Landscape;
@@ -30,16 +35,31 @@ import player.ManagementPlayers;
 import player.Player;
 /**
  * The Save class handles saving and loading the game's state,
- * including the round, players, cards, and board type.
+ * including the round, players, cards, board type and seed of the game.
  */
 public class Save {
+  /**
+   * File written when the player saves and quits.
+   */
+  public static final String SAVE_FILE = "sauvegarde.txt";
+  
+  /**
+   * File written by the {@linkplain AutoSaver automatic save} after each turn.
+   */
+  public static final String AUTOSAVE_FILE = "autosave.bin";
+  
+  private static final Histogram WRITE = MetricsRegistry.global().histogram("sauvegarde.ecriture");
+  private static final Histogram READ = MetricsRegistry.global().histogram("sauvegarde.lecture");
+  
   private int round;
   private ManagementPlayers players;
   private ManagementCard cards;
   private boolean istilesquare;
+  private long seed;
   
   /**
-   * Constructor for the Save class.
+   * Constructor for the Save class, with a random seed.
+   * The seed is replaced by the seed of the save when a save containing one is loaded.
    *
    * @param round The current game round.
    * @param cards The card manager for the game.
@@ -47,12 +67,53 @@ public class Save {
    * @param istilesquare The board type (true for square, false for hexagonal).
    */
   public Save(int round,ManagementCard cards,ManagementPlayers manageplayer,boolean istilesquare) {
+    this(round,cards,manageplayer,istilesquare,new SplittableRandom().nextLong());
+  }
+  
+  /**
+   * Constructor for the Save class.
+   *
+   * @param round The current game round.
+   * @param cards The card manager for the game.
+   * @param manageplayer The player manager for the game.
+   * @param istilesquare The board type (true for square, false for hexagonal).
+   * @param seed The seed of the game.
+   */
+  public Save(int round,ManagementCard cards,ManagementPlayers manageplayer,boolean istilesquare,long seed) {
     Objects.requireNonNull(cards);
     Objects.requireNonNull(manageplayer);
     this.round = round;
     players = manageplayer;
     this.cards = cards;
     this.istilesquare = istilesquare;
+    this.seed = seed;
+  }
+  
+  /**
+   * Gets the board type of the save.
+   *
+   * @return true for square tiles, false for hexagonal tiles.
+   */
+  public boolean getTypeTile() {
+    return istilesquare;
+  }
+  
+  /**
+   * Gets the seed of the game, used to shuffle the tiles and fauna tokens.
+   *
+   * @return The seed of the game.
+   */
+  public long getSeed() {
+    return seed;
+  }
+  
+  /**
+   * Gets the round of the last turn played before the save.
+   *
+   * @return The round of the save, counted from 0.
+   */
+  public int getRound() {
+    return round;
   }
   
   /**
@@ -66,6 +127,8 @@ public class Save {
     writer.newLine();
     writer.write("Tuile: "+istilesquare);
     writer.newLine();
+    writer.write("Graine: "+seed);
+    writer.newLine();
   }
   /**
    * Saves the card information to the file.
@@ -96,14 +159,55 @@ public class Save {
    * @param file The path of the file to save the game state.
    */ 
   private void SaveInFile(String file) {
+    saveInFile(file, false);
+  }
+
+  /**
+   * Saves the game's state to a specified file, in the text format or in the compact binary format.
+   * Both formats are recognized automatically when the file is loaded.
+   *
+   * @param file The path of the file to save the game state.
+   * @param binary true to write the binary format, false to write the text format.
+   */
+  public void saveInFile(String file, boolean binary) {
+    Objects.requireNonNull(file);
     var path = Path.of(file);
-    try(var writer = Files.newBufferedWriter(path)) {
-      saveRoundTile(writer);
-      saveCards(writer);
-      savePlayers(writer);
+    var event = new SaveEvent();
+    event.begin();
+    var start = System.nanoTime();
+    try {
+      if(binary) {
+        BinarySave.write(path, round, istilesquare, seed, cards, players);
+      }else {
+        try(var writer = Files.newBufferedWriter(path)) {
+          saveRoundTile(writer);
+          saveCards(writer);
+          savePlayers(writer);
+        }
+      }
     }catch (IOException e) {
       System.err.println(e.getMessage());
     }
+    measure(event, start, path, false, binary);
+  }
+  
+  /**
+   * Records the duration of the writing or the reading of a save and commits its event.
+   *
+   * @param event The event, begun before the save.
+   * @param start The start of the save, as returned by {@link System#nanoTime()}.
+   * @param path The file of the save.
+   * @param load true for a reading, false for a writing.
+   * @param binary true for the binary format, false for the text format.
+   */
+  static void measure(SaveEvent event, long start, Path path, boolean load, boolean binary) {
+    (load ? READ : WRITE).recordSince(start);
+    if(event.shouldCommit()) {
+      event.file = path.toString();
+      event.load = load;
+      event.binary = binary;
+      event.commit();
+    }
   }
   /**
    * Prompts the user to save the game and quit.
@@ -115,7 +219,7 @@ public class Save {
     Objects.requireNonNull(interaction);
     var choice = interaction.askQuestion("Voulez-vous sauvegarder et quitter (y/n) : ",new String[] { "y", "n" });
     if(choice.equalsIgnoreCase("y")) {
-      SaveInFile("sauvegarde.txt");
+      SaveInFile(SAVE_FILE);
       return true;
     }
     return false;
@@ -123,6 +227,7 @@ public class Save {
 
   /**
    * Prompts the user to load a previous save.
+   * The most recent of the save {@value #SAVE_FILE} and of the automatic save {@value #AUTOSAVE_FILE} is loaded.
    * 
    * @param interaction The buffer.
    * @return true if a save is loaded successfully, otherwise false.
@@ -132,12 +237,31 @@ public class Save {
     Objects.requireNonNull(interaction);
     var choice = interaction.askQuestion("Voulez-vous charger une sauvegarde (y/n) : ",new String[] { "y", "n" });
     if(choice.equalsIgnoreCase("y")) {
-      load("sauvegarde.txt");
+      load(latestSave(Path.of(SAVE_FILE), Path.of(AUTOSAVE_FILE)).toString());
       return true;
     }
     return false;
 }
 
+  /**
+   * Chooses the most recent of the save written by the player and of the automatic save.
+   * The save written by the player is chosen when both files have the same date.
+   *
+   * @param save The file written when the player saves and quits.
+   * @param autosave The file written by the automatic save.
+   * @return the most recent existing file, or the save written by the player if neither exists.
+   * @throws IOException If the date of a file cannot be read.
+   */
+  static Path latestSave(Path save, Path autosave) throws IOException {
+    if(!Files.exists(autosave)) {
+      return save;
+    }
+    if(!Files.exists(save)) {
+      return autosave;
+    }
+    return Files.getLastModifiedTime(autosave).compareTo(Files.getLastModifiedTime(save)) > 0 ? autosave : save;
+  }
+
   
   /**
    * Loads the game round from the save file.
@@ -168,6 +292,22 @@ public class Save {
       istilesquare = false;
     }
   }
+  /**
+   * Loads the seed of the game from the save file.
+   * The saves written before the seed was saved keep the seed of this object.
+   *
+   * @param reader A BufferedReader object to read the save file.
+   * @throws IOException If an I/O error occurs.
+   */
+  private void loadSeed(BufferedReader reader) throws IOException {
+    reader.mark(1000);
+    var ligne = reader.readLine();
+    if(ligne != null && ligne.startsWith("Graine:")) {
+      seed = Long.parseLong(ligne.split(":")[1].trim());
+    }else {
+      reader.reset();
+    }
+  }
   /**
    * Returns the appropriate card object based on the card type and choice number.
    *
@@ -357,17 +497,20 @@ public class Save {
   /**
    * Processes a single line of board data and updates the board map.
    *
+   * The tiles get back their definition and rotation from the {@link TileCatalog}.
+   *
    * @param line  The line containing board data.
    * @param board The board map to update.
+   * @throws IOException If the file of the tiles cannot be read.
    */
-  private void processBoardLine(String ligne, HashMap<Pos, Tile> board) {
+  private void processBoardLine(String ligne, HashMap<Pos, Tile> board) throws IOException {
     var array = ligne.split(",");
     if(!array[2].equals("null")) {  
       var x = Integer.parseInt(array[0]);
       var y = Integer.parseInt(array[1]);
       var landscapes = loadLandscapes(array);
       var animals = loadAnimal(array);
-      var tuile = new Tile(landscapes, animals);
+      var tuile = TileCatalog.restore(landscapes, animals, istilesquare);
       var jeton = loadToken(array);
       if(jeton != null) {
         tuile.placeFaunaToken(jeton);
@@ -399,18 +542,40 @@ public class Save {
     }
   }
   
-  private int load(String file) {
+  /**
+   * Loads a save from a file, the format being detected from the first bytes of the file.
+   *
+   * @param file The path of the save file.
+   * @return The round of the save.
+   */
+  public int load(String file) {
+    Objects.requireNonNull(file);
     var path = Path.of(file);
-    int tour = 0;
-    try(var reader = Files.newBufferedReader(path)) {
-      loadRound(reader);
-      loadTilesType(reader);
-      loadCards(reader);
-      loadPlayers(reader);
+    var event = new SaveEvent();
+    event.begin();
+    var start = System.nanoTime();
+    var binary = false;
+    try {
+      binary = BinarySave.isBinary(path);
+      if(binary) {
+        var header = BinarySave.read(path, cards, players);
+        round = header.round();
+        istilesquare = header.istilesquare();
+        header.seed().ifPresent(value -> seed = value);
+      }else {
+        try(var reader = Files.newBufferedReader(path)) {
+          loadRound(reader);
+          loadTilesType(reader);
+          loadSeed(reader);
+          loadCards(reader);
+          loadPlayers(reader);
+        }
+      }
     }catch (IOException e) {
       System.err.println(e.getMessage());
     }
-    return tour;
+    measure(event, start, path, true, binary);
+    return round;
   }
 
   /**
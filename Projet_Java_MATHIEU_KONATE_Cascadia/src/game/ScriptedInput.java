@@ -0,0 +1,80 @@
+package game;
+
+import java.io.EOFException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Input port answering with a queue of answers written in advance, to play whole games
+ * in tests and benchmarks without waiting for anybody.
+ * The end of the input is reached when the queue is empty.
+ */
+public final class ScriptedInput implements InputPort {
+  private final ArrayDeque<String> answers = new ArrayDeque<>();
+
+  /**
+   * Creates an input port with some answers.
+   *
+   * @param answers the answers, in order
+   * @throws NullPointerException if an answer is null
+   */
+  public ScriptedInput(String... answers) {
+    add(answers);
+  }
+
+  /**
+   * Creates an input port with some answers.
+   *
+   * @param answers the answers, in order
+   * @throws NullPointerException if the list or an answer is null
+   */
+  public ScriptedInput(List<String> answers) {
+    add(answers.toArray(String[]::new));
+  }
+
+  /**
+   * Adds answers after the answers not read yet.
+   *
+   * @param answers the answers, in order
+   * @throws NullPointerException if an answer is null
+   */
+  public void add(String... answers) {
+    for(var answer : answers) {
+      this.answers.add(Objects.requireNonNull(answer));
+    }
+  }
+
+  /**
+   * Gets the number of answers not read yet.
+   *
+   * @return the number of answers
+   */
+  public int remaining() {
+    return answers.size();
+  }
+
+  @Override
+  public String readLine() throws EOFException {
+    var answer = answers.poll();
+    if(answer == null) {
+      throw new EOFException("Plus de reponse dans le script");
+    }
+    return answer;
+  }
+
+  /**
+   * Gets the next answer of the script in a completed future, without waiting.
+   *
+   * @return the completed future of the next answer, failed with an {@link EOFException} if the script is over
+   */
+  @Override
+  public CompletableFuture<String> nextLine() {
+    var answer = answers.poll();
+    if(answer == null) {
+      return CompletableFuture.failedFuture(new EOFException("Plus de reponse dans le script"));
+    }
+    return CompletableFuture.completedFuture(answer);
+  }
+}
@@ -5,12 +5,11 @@ import java.util.Objects;
 import com.github.forax.zen.ApplicationContext;
 import com.github.forax.zen.PointerEvent;
 
-import board.Board;
 import board.FaunaToken;
 import board.Tile;
 import game.Game;
+import listener.EngineListeners;
 import model.Animal;
-import model.Pos;
 import player.Player;
 
 
@@ -140,34 +139,31 @@ public class Click {
    * 
    * @param context The application context for handling events.
    * @param player The current player.
+   * @param game The current game state, placing the tile or token of the choice.
+   * @param choice The index of the chosen tile and fauna token.
    * @param startx The X-coordinate for the starting point of the grid.
    * @param starty The Y-coordinate for the starting point of the grid.
    * @param espacement The spacing between tiles.
-   * @param tiletoplace The tile to place.
-   * @param token The fauna token to place.
    * @param Tile True if placing a tile, false if placing a fauna token.
    * @return True if the placement was successful, false otherwise.
    */
-  public boolean clickBoard(ApplicationContext context,Player player, float startx, float starty, float espacement, Tile tiletoplace,FaunaToken token, boolean Tile) {
+  public boolean clickBoard(ApplicationContext context,Player player, Game game, int choice, float startx, float starty, float espacement, boolean Tile) {
     Objects.requireNonNull(context);
     Objects.requireNonNull(player);
-    Objects.requireNonNull(tiletoplace);
-    Objects.requireNonNull(token);
+    Objects.requireNonNull(game);
     var event = context.pollOrWaitEvent(10);
     if(event == null) {
       return false;
     }
     if(event instanceof PointerEvent pointerEvent) {
       var location = pointerEvent.location();
-      float grid_width = player.getEnv().getSize() * espacement;
-      float grid_height = player.getEnv().getSize() * espacement;
-      if(location.x() >= startx && location.x() <= startx + grid_width && location.y() >= starty && location.y() <= starty + grid_height) {
-        var j = (int)((location.x()-startx) /espacement);  
-        var i = (int)((location.y()-starty) /espacement); 
+      var j = (int)Math.floor((location.x()-startx) /espacement);  
+      var i = (int)Math.floor((location.y()-starty) /espacement); 
+      if(player.getEnv().isInside(i, j)) {
         if(Tile) {
-         return player.getEnv().addTile(tiletoplace, i, j,true);
+         return game.placeTile(player, choice, i, j);
         }
-        return player.getEnv().placeFaunaToken(token, i, j);
+        return game.placeFaunaToken(player, choice, i, j);
       }
     }
     return false;
@@ -199,8 +195,7 @@ public class Click {
         var width_rectangle = espacement*1.5;
         var height_rectangle = espacement;
         if(x >= optionx && x <= optionx +  width_rectangle && y >= optiony && y <= optiony +  height_rectangle) {
-          System.out.println("Option cliquée, indice : " + i);
-          System.out.println("Option choisie : " + tab1[i]);
+          EngineListeners.get().optionChosen(i, String.valueOf(tab1[i]));
           return i;
         }
       }
@@ -211,34 +206,41 @@ public class Click {
   
   
   /**
-   * Verifies if an item (tile or token) can be placed on the hexagonal board at a specific position.
+   * Verifies if the tile or token of a choice can be placed on the hexagonal board at a specific position.
    *
-   * @param env The game board environment.
+   * @param player The current player.
+   * @param game The current game state, placing the tile or token of the choice.
+   * @param choice The index of the chosen tile and fauna token.
    * @param x The X-coordinate of the click.
    * @param y The Y-coordinate of the click.
    * @param startx The starting X-coordinate of the board.
    * @param starty The starting Y-coordinate of the board.
    * @param radius The radius of the hexagons.
-   * @param item The item to be placed (tile or fauna token).
    * @param isTuile True if the item is a tile, false if it is a fauna token.
    * @return True if the item was successfully placed, false otherwise.
    */
-  public boolean checkAndPlaceTokenOrTile(Board env, float x, float y, float startx, float starty, float radius, Object item, boolean isTuile) {
-    Objects.requireNonNull(env);
-    Objects.requireNonNull(item);
+  public boolean checkAndPlaceTokenOrTile(Player player, Game game, int choice, float x, float y, float startx, float starty, float radius, boolean isTuile) {
+    Objects.requireNonNull(player);
+    Objects.requireNonNull(game);
+    var env = player.getEnv();
     var espacementx = radius * 1.5f;
     var espacementy = (float) (Math.sqrt(3) * radius);
-    for (int i = 0; i < env.getSize(); i++) {
-        for (int j = 0; j < env.getSize(); j++) {
-            float xoffset = startx + j * espacementx + (i%2==0 ? 0:espacementx/2);
-            float yoffset = starty + i * espacementy;
-            if (distance(x, y, xoffset, yoffset) <= radius) {
-                if (isTuile && item instanceof Tile tuile) {
-                    return env.addTile(tuile, i, j, false); 
-                }
-                if (!isTuile && item instanceof FaunaToken jetonFaune) {
-                    return env.placeFaunaToken(jetonFaune, i, j);
-                }
+    if (isTuile && game.getChoiceTile()[choice] != null) {
+        for (int k = 0; k < env.frontierSize(false); k++) {
+            var i = env.frontierX(k, false);
+            var j = env.frontierY(k, false);
+            if (distance(x, y, startx + j * espacementx + (i%2==0 ? 0:espacementx/2), starty + i * espacementy) <= radius) {
+                return game.placeTile(player, choice, i, j);
+            }
+        }
+    }
+    if (!isTuile && game.getChoiceToken()[choice] instanceof FaunaToken jetonFaune) {
+        var animal = jetonFaune.token();
+        for (int k = 0; k < env.faunaTargetCount(animal); k++) {
+            var i = env.faunaTargetX(animal, k);
+            var j = env.faunaTargetY(animal, k);
+            if (distance(x, y, startx + j * espacementx + (i%2==0 ? 0:espacementx/2), starty + i * espacementy) <= radius) {
+                return game.placeFaunaToken(player, choice, i, j);
             }
         }
     }
@@ -267,14 +269,13 @@ public class Click {
       var location = pointerEvent.location();
       var x = location.x(); 
       var y = location.y();
-      for(int i = 0; i < player.getEnv().getSize(); i++) {
-        for(int j = 0; j < player.getEnv().getSize(); j++) {
+      for(int i = player.getEnv().getMinX(); i < player.getEnv().getMaxX(); i++) {
+        for(int j = player.getEnv().getMinY(); j < player.getEnv().getMaxY(); j++) {
           var xoffset = startx + j *radius *1.5f +(i % 2 == 0 ? 0 : radius * 0.75f);
           var yoffset = starty + i * radius * (float) Math.sqrt(3);
           if(distance(x, y, xoffset, yoffset) <= radius) {
-            if(player.getEnv().getEnv().get(new Pos(i, j)) != null) {
-              player.getEnv().getEnv().get(new Pos(i, j)).hexagonalRotation();
-              System.out.println("Tuile en position (" + i + ", " + j + ") tournée.");
+            if(game.rotateTile(player, i, j)) {
+              EngineListeners.get().tileRotated(i, j);
             }
           }
         }
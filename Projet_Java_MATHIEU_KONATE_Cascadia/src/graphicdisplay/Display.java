@@ -1,10 +1,12 @@
 package graphicdisplay;
 
+import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
 import java.awt.geom.Rectangle2D;
-import java.util.ArrayList;
+import java.awt.image.BufferedImage;
 import java.util.Objects;
 
 import com.github.forax.zen.ApplicationContext;
@@ -13,19 +15,51 @@ import board.Board;
 import board.FaunaToken;
 import board.Tile;
 import game.Game;
-import model.Angle;
 import model.Animal;
-import model.Landscape;
-import model.Pos;
 import player.ManagementPlayers;
 import player.Player;
 
 /**
  * The Display class is responsible for rendering graphical output.
  * It provides functionality to display visual elements on the screen.
+ * <p>
+ * The tiles are drawn from the sprites of a {@link SpriteCache} into an image of the board,
+ * and the board and the options are only painted again in the regions of the frame which
+ * changed: the cells whose tile changed and the strip of the options. The whole frame is
+ * painted again when the window is resized, the board enlarged or the screen erased.
+ * </p>
  */
 public class Display {
-
+  private static final Font OPTION_FONT = new Font("Arial", Font.PLAIN, 16);
+  
+  /**
+   * Layout of the strip of the options: the rectangles of the options are drawn side by side,
+   * {@value #OPTION_OFFSET} pixels above the y-coordinate given to the options.
+   */
+  private static final int OPTIONS = 4;
+  private static final float OPTION_SPACING = 100;
+  private static final float OPTION_OFFSET = 100;
+  private static final int OPTION_HEIGHT = 80;
+  
+  /**
+   * Width of the outline drawn around the rectangles of the options, below and right of them.
+   */
+  private static final int OPTION_OUTLINE = 2;
+  
+  private final SpriteCache sprites = new SpriteCache();
+  private Geometry geometry;
+  private BufferedImage layer;
+  private BufferedImage[] drawn;
+  private long hash;
+  private final Tile[] optiontiles = new Tile[OPTIONS];
+  private final FaunaToken[] optiontokens = new FaunaToken[OPTIONS];
+  
+  /**
+   * Geometry of the board and of the options on the frame, the whole frame being painted again when it changes.
+   */
+  private record Geometry(Board board, boolean hexagonal, float x, float y, float size, float optionx, float optiony, int width, int height,
+      int minx, int maxx, int miny, int maxy) {
+  }
 
   /**
    * Default constructor for the graphical display.
@@ -36,7 +70,7 @@ public class Display {
   
   
   /**
-   * Clears the graphical rendering area.
+   * Clears the graphical rendering area, the next display of a board painting the whole frame.
    *
    * @param graphics The `Graphics2D` object used for rendering.
    * @param width The width of the rendering area.
@@ -45,145 +79,157 @@ public class Display {
   public void erase(Graphics2D graphics,float width,float height) {
     Objects.requireNonNull(graphics);
     graphics.clearRect(0, 0, (int)width, (int)height);
+    geometry = null;
   }
   
   
   
   /**
-   * Chooses a color corresponding to the given landscape type.
+   * Paints the board and the options of a player, only where the frame changed since the last call.
+   * <p>
+   * The whole frame is painted when its geometry changes, else the dirty regions are the cells
+   * of the board whose sprite changed, found when the Zobrist hash of the board changed, and
+   * the strip of the options when an option changed. Nothing is rendered if there is no
+   * dirty region, so polling the display while waiting for a click costs almost nothing.
+   * </p>
    *
-   * @param landscape The type of landscape.
-   * @return A `Color` object representing the landscape.
+   * @param context The application context used for rendering.
+   * @param env The game board.
+   * @param game The current game state.
+   * @param hexagonal True for hexagonal tiles, false for square tiles.
+   * @param startx X-coordinate of the board's starting position.
+   * @param starty Y-coordinate of the board's starting position.
+   * @param size The radius of the hexagons or the size of the squares.
+   * @param optionx The X-coordinate given to the options.
+   * @param optiony The Y-coordinate given to the options.
+   * @param width The width of the rendering area.
+   * @param height The height of the rendering area.
    */
-  private  Color chooseLandscapeColor(Landscape landscape) {
-    return switch (landscape) {
-      case Landscape.MONTAGNE -> new Color(101,67,33);  
-      case Landscape.FORET -> new Color(34,139,34);  
-      case Landscape.PRAIRIE -> Color.GREEN;             
-      case Landscape.MARAIS -> new Color(85,107,47);             
-      case Landscape.RIVIERE -> new Color(135,206,235);              
-      default -> Color.LIGHT_GRAY;         
-    };
+  private void render(ApplicationContext context, Board env, Game game, boolean hexagonal, float startx, float starty, float size, float optionx, float optiony, float width, float height) {
+    var geometry = new Geometry(env, hexagonal, startx, starty, size, optionx, optiony, Math.max(1, (int) width), Math.max(1, (int) height),
+        env.getMinX(), env.getMaxX(), env.getMinY(), env.getMaxY());
+    var changed = updateOptions(game.getChoiceTile(), game.getChoiceToken());
+    Rectangle dirty = null;
+    if(!geometry.equals(this.geometry)) {
+      this.geometry = geometry;
+      layer = new BufferedImage(geometry.width(), geometry.height(), BufferedImage.TYPE_INT_ARGB);
+      drawn = new BufferedImage[(geometry.maxx() - geometry.minx()) * (geometry.maxy() - geometry.miny())];
+      hash = env.zobristHash();
+      updateLayer(geometry);
+      dirty = new Rectangle(0, 0, geometry.width(), geometry.height());
+    }else {
+      if(env.zobristHash() != hash) {
+        hash = env.zobristHash();
+        dirty = updateLayer(geometry);
+      }
+      if(changed) {
+        dirty = union(dirty, new Rectangle(0, (int) Math.floor(optiony - OPTION_OFFSET), geometry.width(), OPTION_HEIGHT + OPTION_OUTLINE));
+      }
+    }
+    if(dirty == null) {
+      return;
+    }
+    var clip = dirty;
+    context.renderFrame(graphics -> {
+      graphics.setClip(clip);
+      graphics.clearRect(clip.x, clip.y, clip.width, clip.height);
+      displayOptions(graphics, optionx, optiony, OPTION_SPACING, game.getChoiceTile(), game.getChoiceToken());
+      graphics.drawImage(layer, 0, 0, null);
+    });
   }
   
-  
-
   /**
-   * Draws a divided hexagon with two landscape colors.
+   * Draws again the cells of the board image whose sprite changed since the last update.
    *
-   * @param graphics The graphics context.
-   * @param centerx X-coordinate of the hexagon center.
-   * @param centery Y-coordinate of the hexagon center.
-   * @param radius The radius of the hexagon.
-   * @param color1 The first color.
-   * @param color2 The second color.
-   * @param landscape1right Indicates if the first landscape is on the right side.
+   * @param geometry The geometry of the board.
+   * @return The region of the image drawn again, null if no cell changed.
    */
-  private void drawHexagonDivide(Graphics2D graphics, float centerx, float centery, float radius, Color color1, Color color2, boolean landscape1right) {
-    var angle = Math.PI /3; 
-    var x_points = new int[6];
-    var y_points = new int[6];
-    for (int i = 0; i < 6; i++) {
-      x_points[i] = (int) (centerx + radius * Math.cos(i *angle +Math.PI/6));
-      y_points[i] = (int) (centery + radius * Math.sin(i * angle + Math.PI/6));
+  private Rectangle updateLayer(Geometry geometry) {
+    var env = geometry.board();
+    Rectangle dirty = null;
+    var index = 0;
+    for(int i = geometry.minx(); i < geometry.maxx(); i++) {
+      for(int j = geometry.miny(); j < geometry.maxy(); j++) {
+        var tile = env.tileAt(i, j);
+        var sprite = tile == null ? null : geometry.hexagonal() ? sprites.hexagon(tile, geometry.size()) : sprites.square(tile, geometry.size());
+        if(sprite != drawn[index]) {
+          dirty = union(dirty, bounds(drawn[index], i, j, geometry));
+          dirty = union(dirty, bounds(sprite, i, j, geometry));
+          drawn[index] = sprite;
+        }
+        index++;
+      }
     }
-    graphics.setColor(landscape1right ? color2 : color1); 
-    graphics.fillPolygon(new int[]{x_points[0], x_points[5], x_points[4], x_points[3]},
-            new int[]{y_points[0], y_points[5], y_points[4], y_points[3]}, 4);
-    graphics.setColor(landscape1right ? color1 : color2); 
-    graphics.fillPolygon(new int[]{x_points[0], x_points[1], x_points[2], x_points[3]},
-            new int[]{y_points[0], y_points[1], y_points[2], y_points[3]}, 4);
-    graphics.setColor(Color.BLACK);
-    graphics.drawPolygon(x_points, y_points, 6);
+    if(dirty != null) {
+      var graphics = layer.createGraphics();
+      try {
+        graphics.setClip(dirty);
+        graphics.setComposite(AlphaComposite.Clear);
+        graphics.fill(dirty);
+        graphics.setComposite(AlphaComposite.SrcOver);
+        index = 0;
+        for(int i = geometry.minx(); i < geometry.maxx(); i++) {
+          for(int j = geometry.miny(); j < geometry.maxy(); j++) {
+            var bounds = bounds(drawn[index++], i, j, geometry);
+            if(bounds != null && bounds.intersects(dirty)) {
+              graphics.drawImage(drawn[index - 1], bounds.x, bounds.y, null);
+            }
+          }
+        }
+      }finally {
+        graphics.dispose();
+      }
+    }
+    return dirty;
   }
   
-
   /**
-   * Draws a hexagonal tile at a specified position.
+   * Computes the region covered by the sprite of a cell of the board.
    *
-   * @param graphics The `Graphics2D` object for rendering.
-   * @param tile The tile to draw.
-   * @param startx X-coordinate of the board's starting position.
-   * @param starty Y-coordinate of the board's starting position.
-   * @param radius The radius of the hexagon.
-   * @param i The row index of the tile.
-   * @param j The column index of the tile.
+   * @param sprite The sprite of the cell, null if the cell is empty.
+   * @param i The row of the cell.
+   * @param j The column of the cell.
+   * @param geometry The geometry of the board.
+   * @return The region of the sprite, null if the cell is empty.
    */
-  private void drawHexagonTile(Graphics2D graphics, Tile tile, float startx, float starty, float radius, int i, int j) {
-    var espacementx = radius * 1.5f;
-    var espacementy = (float)(Math.sqrt(3)*radius);
-    var xoffset = startx + j * espacementx +(i%2==0?0:espacementx/2);      
-    var yoffset = starty+i * espacementy;
-    var landscape = new ArrayList<>(tile.getLandscape().entrySet());
-    var landscape1 = landscape.get(0);
-    var landscape2 = landscape.size() > 1 ? landscape.get(1) : null;
-    var color1 = chooseLandscapeColor(landscape1.getKey());
-    var color2 = landscape2 != null ? chooseLandscapeColor(landscape2.getKey()) : Color.WHITE;
-    var paysagedroite = landscape1.getValue() != null && tile.getAngle1().equals(Angle.E);
-    drawHexagonDivide(graphics, xoffset, yoffset, radius, color1, color2, paysagedroite);      
-    var text = tile.toStringForTile();
-    Rectangle2D textBounds = graphics.getFontMetrics().getStringBounds(text, graphics);
-    var textx = xoffset - (float) textBounds.getWidth() / 2;
-    var texty = yoffset + (float) textBounds.getHeight() / 4;
-    graphics.setColor(Color.BLACK); 
-    graphics.drawString(text, textx, texty);
-}
-
-
-  
-  /**
-   * Displays the hexagonal game board.
-   *
-   * @param graphics The `Graphics2D` object for rendering.
-   * @param env The game board.
-   * @param startx X-coordinate for the top-left corner of the board.
-   * @param starty Y-coordinate for the top-left corner of the board.
-   * @param radius The radius of each hexagon.
-   */
-  private void displayHexagonalPlatform(Graphics2D graphics, Board env, float startx, float starty, float radius) {
-    graphics.setFont(new Font("Arial", Font.BOLD, 12));
-    graphics.setColor(Color.BLACK);
-    for(int i = 0; i < env.getSize(); i++) {
-        for(int j = 0; j < env.getSize(); j++) {
-            var tile = env.getEnv().get(new Pos(i, j));
-            if(tile != null) {
-              drawHexagonTile(graphics,tile,startx,starty,radius,i,j);
-            }
-        }
+  private static Rectangle bounds(BufferedImage sprite, int i, int j, Geometry geometry) {
+    if(sprite == null) {
+      return null;
     }
+    if(geometry.hexagonal()) {
+      var espacementx = geometry.size() * 1.5f;
+      var xoffset = geometry.x() + j * espacementx + (i % 2 == 0 ? 0 : espacementx / 2);
+      var yoffset = geometry.y() + i * (float) (Math.sqrt(3) * geometry.size());
+      return new Rectangle((int) xoffset - sprite.getWidth() / 2, (int) yoffset - sprite.getHeight() / 2, sprite.getWidth(), sprite.getHeight());
+    }
+    return new Rectangle((int) (geometry.x() + j * geometry.size()), (int) (geometry.y() + i * geometry.size()), sprite.getWidth(), sprite.getHeight());
   }
   
-
-
-  
+  private static Rectangle union(Rectangle dirty, Rectangle region) {
+    if(dirty == null) {
+      return region;
+    }
+    return region == null ? dirty : dirty.union(region);
+  }
   
   /**
-   * Renders the grid for the current player's environment.
+   * Remembers the options shown and tells if one of them changed since the last call.
+   * The options are compared by identity, a new option always being another tile or token.
    *
-   * @param graphics The graphics context used for rendering.
-   * @param player The current player.
-   * @param size_tab The size of the grid.
-   * @param espacement The spacing between tiles.
-   * @param startx The X-coordinate for the starting point of the grid.
-   * @param starty The Y-coordinate for the starting point of the grid.
+   * @param tab1 The tiles of the options.
+   * @param tab2 The fauna tokens of the options.
+   * @return True if an option changed.
    */
-  private void grid(Graphics2D graphics,Player player, int size_tab, float espacement, float startx, float starty) {
-    graphics.setColor(Color.BLACK);
-    graphics.setFont(new Font("Arial", Font.PLAIN, 10));
-    for(int i=0; i<player.getEnv().getSize(); i++) {
-      for(int j=0; j< player.getEnv().getSize(); j++) {
-        var tile = player.getEnv().getEnv().get(new Pos(i,j));
-        if(tile != null) {  
-          var rectx = startx + j * espacement;
-          var recty = starty + i * espacement;
-          graphics.setColor(chooseLandscapeColor(tile.getLandscape1()));
-          graphics.fill(new Rectangle2D.Float(rectx,recty,espacement,espacement));
-          graphics.setColor(Color.BLACK);
-          graphics.draw(new Rectangle2D.Float(rectx,recty,espacement,espacement));
-          graphics.drawString(tile.toStringForTile(),rectx + espacement/6,recty + espacement/2);
-        }
+  private boolean updateOptions(Tile[] tab1, FaunaToken[] tab2) {
+    var changed = false;
+    for(int i = 0; i < OPTIONS; i++) {
+      if(optiontiles[i] != tab1[i] || optiontokens[i] != tab2[i]) {
+        optiontiles[i] = tab1[i];
+        optiontokens[i] = tab2[i];
+        changed = true;
       }
     }
+    return changed;
   }
   
   /**
@@ -198,12 +244,12 @@ public class Display {
    */
   private static void displayOptions(Graphics2D graphics, float startx, float starty, float espacement, Tile[] tab1,FaunaToken[] tab2) {
     graphics.setColor(Color.BLACK);
-    graphics.setFont(new Font("Arial", Font.PLAIN, 16));
+    graphics.setFont(OPTION_FONT);
     var width_rectangle = espacement * 1.5f; 
-    var height_rectangle = 80; 
-    for(int i=0; i<4; i++) {
+    var height_rectangle = OPTION_HEIGHT; 
+    for(int i=0; i<OPTIONS; i++) {
       var optionx = startx+i*width_rectangle; 
-      var optiony = starty-100; 
+      var optiony = starty-OPTION_OFFSET; 
       graphics.setColor(Color.LIGHT_GRAY);
       graphics.fill(new Rectangle2D.Float(optionx,optiony,width_rectangle,height_rectangle)); 
       graphics.setColor(Color.BLACK);
@@ -284,11 +330,7 @@ public class Display {
     Objects.requireNonNull(context);
     Objects.requireNonNull(player);
     Objects.requireNonNull(game);
-    context.renderFrame(graphics -> {
-      erase(graphics, width, height);
-      displayOptions(graphics,optionx,height-100,100,game.getChoiceTile(),game.getChoiceToken());
-      displayHexagonalPlatform(graphics,player.getEnv(),startx,starty,radius);
-    });
+    render(context,player.getEnv(),game,true,startx,starty,radius,optionx,height-100,width,height);
   }
   
   
@@ -311,11 +353,7 @@ public class Display {
     Objects.requireNonNull(context);
     Objects.requireNonNull(player);
     Objects.requireNonNull(game);
-    context.renderFrame(graphics -> {
-      erase(graphics,width,height);
-      displayOptions(graphics,optionx,optiony,100,game.getChoiceTile(),game.getChoiceToken());
-      grid(graphics,player,size,espacement,startx,starty);
-    });
+    render(context,player.getEnv(),game,false,startx,starty,espacement,optionx,optiony,width,height);
   }
   
   /**
@@ -8,8 +8,8 @@ import com.github.forax.zen.Application;
 import com.github.forax.zen.ApplicationContext;
 import com.github.forax.zen.PointerEvent;
 
-import board.Board;
 import card.ManagementCard;
+import card.ScoringPhase;
 import game.Game;
 import model.Animal;
 import player.ManagementPlayers;
@@ -40,19 +40,20 @@ public class ManageGraphic {
    * Manages click events on the hexagonal board to place tiles or fauna tokens.
    *
    * @param context The application context used for handling events.
-   * @param env The game board environment.
+   * @param player The current player.
+   * @param game The current game state.
+   * @param choice The index of the chosen tile and fauna token.
    * @param startx The starting X-coordinate of the board.
    * @param starty The starting Y-coordinate of the board.
    * @param radius The radius of the hexagons.
-   * @param item The item to be placed (tile or fauna token).
    * @param isTuile True if the item is a tile, false if it is a fauna token.
    * @return True if the item was successfully placed, false otherwise.
    */
-  private boolean manageClicHexagone(ApplicationContext context, Board env, float startx, float starty, float radius, Object item, boolean isTuile) {
+  private boolean manageClicHexagone(ApplicationContext context, Player player, Game game, int choice, float startx, float starty, float radius, boolean isTuile) {
     var event = context.pollOrWaitEvent(10);
     if(event instanceof PointerEvent pointerEvent) {
       var location = pointerEvent.location();
-      return click.checkAndPlaceTokenOrTile(env, location.x(), location.y(), startx, starty, radius, item, isTuile);
+      return click.checkAndPlaceTokenOrTile(player, game, choice, location.x(), location.y(), startx, starty, radius, isTuile);
     }
     return false;
   }
@@ -75,16 +76,15 @@ public class ManageGraphic {
    * @return True when placement is complete, false otherwise.
    */
   private boolean handleHexagonalPlacement(ApplicationContext context, Player player, Game game, float startx, float starty, float radius, float width, float height, int choice) {
-    while (!manageClicHexagone(context, player.getEnv(), startx, starty, radius, game.getChoiceTile()[choice], true)) {
+    while (!manageClicHexagone(context, player, game, choice, startx, starty, radius, true)) {
       display.displayPOHexagonal(context, player, game, radius, startx, starty, width / 2f - 200, height - 150, width, height);
     }
     if (player.getEnv().possiblePlaceFTInEnv(game.getChoiceToken()[choice])) {
-      while (!manageClicHexagone(context, player.getEnv(), startx, starty, radius, game.getChoiceToken()[choice], false)) {
+      while (!manageClicHexagone(context, player, game, choice, startx, starty, radius, false)) {
         display.displayPOHexagonal(context, player, game, radius, startx, starty, width / 2f - 200, height - 150, width, height);
       }
     }
-    game.removeChoice(choice);
-    game.fill();
+    game.endTurn(player, choice);
     return true;
   }
   
@@ -158,17 +158,16 @@ public class ManageGraphic {
     while(choice ==-1) {
       choice = click.clickOptions(context,optionx, optiony, 100,game.getChoiceTile());
     }
-    while(!click.clickBoard(context,player, startx,starty,espacement,game.getChoiceTile()[choice],game.getChoiceToken()[choice],true)) {
+    while(!click.clickBoard(context,player,game,choice, startx,starty,espacement,true)) {
       display.displayPOCarre(context, player, game, size, espacement, startx, starty, optionx, optiony,width,height);
     }
     if(player.getEnv().possiblePlaceFTInEnv(game.getChoiceToken()[choice])) {
-      while(!click.clickBoard(context,player, startx, starty,espacement,game.getChoiceTile()[choice],game.getChoiceToken()[choice],false)) {
+      while(!click.clickBoard(context,player,game,choice, startx, starty,espacement,false)) {
         display.displayPOCarre(context, player, game, size, espacement, startx, starty, optionx, optiony,width,height);
       }
     }
     display.displayPOCarre(context, player, game, size, espacement, startx, starty, optionx, optiony,width,height);
-    game.removeChoice(choice);
-    game.fill();	
+    game.endTurn(player, choice);
   }
   
   /**
@@ -288,7 +287,6 @@ public class ManageGraphic {
     for(int i=0; i<players.getNbPlayer();i++) {
       var player = players.getPlayerI(i);
       tourGraphic(context,player,game,espacement,startx,starty,size,width,height);
-      player.getEnv().EnlargeEnv();
     }
   }
   
@@ -310,7 +308,6 @@ public class ManageGraphic {
     for(int i=0; i<players.getNbPlayer();i++) {
       var player = players.getPlayerI(i);
       hexagonalTour(context,player,game,espacement,startx,starty,width,height);
-      player.getEnv().EnlargeEnv();
     }
   }
 
@@ -329,7 +326,7 @@ public class ManageGraphic {
    * @param height The height of the rendering area.
    */
   private void performTour(ApplicationContext context,ManagementPlayers players, Game game,float espacement,float startx,float starty,int size,float width,float height) {
-    for(int i = 0 ; i<20; i++) {
+    for(; game.getRound() < Game.NB_ROUNDS; game.setRound(game.getRound() + 1)) {
       try {
         if(game.getTypeTile()) {
           performTurnPlayersSquare(context,players,game,espacement,startx,starty,size,width,height);
@@ -358,16 +355,14 @@ public class ManageGraphic {
       var screenInfo = context.getScreenInfo();
       var width = screenInfo.width();
       var height = screenInfo.height();
-      var size = players.getPlayerI(0).getEnv().getSize();
+      var env = players.getPlayerI(0).getEnv();
+      var size = env.getSize();
       var espacement = 40; 
-      var startx = (width - size * espacement) /2; 
-      var starty = (height -size * espacement) /2; 
+      var startx = (width - size * espacement) /2 - env.getMinY() * espacement; 
+      var starty = (height -size * espacement) /2 - env.getMinX() * espacement; 
       startPart(context,startx,starty,width,height,cards,game);
       performTour(context,players,game,espacement,startx,starty,size,width,height);
-      for(int i = 0; i<players.getNbPlayer();i++)  {
-        cards.counterScore(players.getPlayerI(i));
-      }
-      players.BonusMajorite(game.getTypeTile());
+      new ScoringPhase().score(cards, players, game.getTypeTile());
       display.displayWinnerGraphic(context,players);      
    });
   }
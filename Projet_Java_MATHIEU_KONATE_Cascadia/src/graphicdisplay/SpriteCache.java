@@ -0,0 +1,149 @@
+package graphicdisplay;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+
+import board.Tile;
+import model.Angle;
+import model.Landscape;
+
+/**
+ * Images of the tiles drawn once and reused at each frame.
+ * <p>
+ * The drawing of a tile only depends on its definition, its rotation and its fauna token,
+ * so a sprite is kept for each combination of the three, packed in a long: a tile rotated or
+ * receiving a token gets the sprite of its new state, and a sprite never needs to be redrawn.
+ * The sprites are dropped when the size of the tiles changes. The vertices of the hexagons are
+ * computed once for a radius of one and the colors of the landscapes are constants, so drawing
+ * a sprite does not compute any sine nor allocate any color.
+ * </p>
+ */
+final class SpriteCache {
+  private static final Color[] COLORS = new Color[Landscape.values().length];
+  private static final double[] COS = new double[6];
+  private static final double[] SIN = new double[6];
+  static {
+    for(var landscape : Landscape.values()) {
+      COLORS[landscape.ordinal()] = switch (landscape) {
+        case MONTAGNE -> new Color(101,67,33);
+        case FORET -> new Color(34,139,34);
+        case PRAIRIE -> Color.GREEN;
+        case MARAIS -> new Color(85,107,47);
+        case RIVIERE -> new Color(135,206,235);
+        default -> Color.LIGHT_GRAY;
+      };
+    }
+    for(int i = 0; i < 6; i++) {
+      COS[i] = Math.cos(i * Math.PI / 3 + Math.PI / 6);
+      SIN[i] = Math.sin(i * Math.PI / 3 + Math.PI / 6);
+    }
+  }
+  private static final Font HEXAGON_FONT = new Font("Arial", Font.BOLD, 12);
+  private static final Font SQUARE_FONT = new Font("Arial", Font.PLAIN, 10);
+
+  private final HashMap<Long, BufferedImage> hexagons = new HashMap<>();
+  private final HashMap<Long, BufferedImage> squares = new HashMap<>();
+  private final Graphics2D measure = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+  private float radius = -1;
+  private float size = -1;
+
+  /**
+   * Gets the color of a landscape.
+   *
+   * @param landscape the landscape
+   * @return the color, shared by all the tiles
+   */
+  static Color color(Landscape landscape) {
+    return COLORS[landscape.ordinal()];
+  }
+
+  private static long key(Tile tile) {
+    var token = tile.getfaunatoken();
+    return (long) tile.getType().id() << 8 | tile.getRotation() % 6 << 4 | (token == null ? 0 : token.token().ordinal() + 1);
+  }
+
+  /**
+   * Gets the sprite of a hexagonal tile, the center of the hexagon being at the center of the image.
+   *
+   * @param tile the tile
+   * @param radius the radius of the hexagons
+   * @return the sprite
+   */
+  BufferedImage hexagon(Tile tile, float radius) {
+    if(radius != this.radius) {
+      hexagons.clear();
+      this.radius = radius;
+    }
+    return hexagons.computeIfAbsent(key(tile), key -> drawHexagon(tile, radius));
+  }
+
+  /**
+   * Gets the sprite of a square tile, the corner of the square being at the corner of the image.
+   *
+   * @param tile the tile
+   * @param size the size of the squares
+   * @return the sprite
+   */
+  BufferedImage square(Tile tile, float size) {
+    if(size != this.size) {
+      squares.clear();
+      this.size = size;
+    }
+    return squares.computeIfAbsent(key(tile), key -> drawSquare(tile, size));
+  }
+
+  private BufferedImage drawHexagon(Tile tile, float radius) {
+    var text = tile.toStringForTile();
+    var bounds = measure.getFontMetrics(HEXAGON_FONT).getStringBounds(text, measure);
+    var half = (int) Math.ceil(Math.max(radius, bounds.getWidth() / 2)) + 1;
+    var image = new BufferedImage(2 * half, 2 * half, BufferedImage.TYPE_INT_ARGB);
+    var graphics = image.createGraphics();
+    try {
+      var xpoints = new int[6];
+      var ypoints = new int[6];
+      for(int i = 0; i < 6; i++) {
+        xpoints[i] = (int) (half + radius * COS[i]);
+        ypoints[i] = (int) (half + radius * SIN[i]);
+      }
+      var landscape2 = tile.getLandscape2();
+      var color1 = color(tile.getLandscape1());
+      var color2 = landscape2 != null ? color(landscape2) : Color.WHITE;
+      var landscape1right = tile.getAngle1() == Angle.E;
+      graphics.setColor(landscape1right ? color2 : color1);
+      graphics.fillPolygon(new int[]{xpoints[0], xpoints[5], xpoints[4], xpoints[3]},
+          new int[]{ypoints[0], ypoints[5], ypoints[4], ypoints[3]}, 4);
+      graphics.setColor(landscape1right ? color1 : color2);
+      graphics.fillPolygon(new int[]{xpoints[0], xpoints[1], xpoints[2], xpoints[3]},
+          new int[]{ypoints[0], ypoints[1], ypoints[2], ypoints[3]}, 4);
+      graphics.setColor(Color.BLACK);
+      graphics.drawPolygon(xpoints, ypoints, 6);
+      graphics.setFont(HEXAGON_FONT);
+      graphics.drawString(text, half - (float) bounds.getWidth() / 2, half + (float) bounds.getHeight() / 4);
+    }finally {
+      graphics.dispose();
+    }
+    return image;
+  }
+
+  private BufferedImage drawSquare(Tile tile, float size) {
+    var text = tile.toStringForTile();
+    var textx = size / 6;
+    var width = (int) Math.ceil(Math.max(size, textx + measure.getFontMetrics(SQUARE_FONT).stringWidth(text))) + 1;
+    var image = new BufferedImage(width, (int) Math.ceil(size) + 1, BufferedImage.TYPE_INT_ARGB);
+    var graphics = image.createGraphics();
+    try {
+      graphics.setColor(color(tile.getLandscape1()));
+      graphics.fillRect(0, 0, (int) size, (int) size);
+      graphics.setColor(Color.BLACK);
+      graphics.drawRect(0, 0, (int) size, (int) size);
+      graphics.setFont(SQUARE_FONT);
+      graphics.drawString(text, textx, size / 2);
+    }finally {
+      graphics.dispose();
+    }
+    return image;
+  }
+}
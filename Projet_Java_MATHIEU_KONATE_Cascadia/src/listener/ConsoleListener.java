@@ -0,0 +1,18 @@
+package listener;
+
+/**
+ * Listener printing the messages of the game on the standard output, as the engine always did.
+ */
+public final class ConsoleListener extends TextListener {
+
+  /**
+   * Creates a listener printing on the standard output.
+   */
+  public ConsoleListener() {
+  }
+
+  @Override
+  void write(String line) {
+    System.out.println(line);
+  }
+}
@@ -0,0 +1,108 @@
+package listener;
+
+import board.PlacementResult;
+import model.Animal;
+import model.Landscape;
+
+/**
+ * Listener of the engine, notified of the placements, of the scoring and of the achievements.
+ * <p>
+ * The engine never prints anything itself: it notifies the listener set in {@link EngineListeners},
+ * which does nothing by default, so a game without display does not pay for formatting and
+ * printing messages nobody reads. {@link ConsoleListener} prints the messages of the game on the
+ * standard output and {@link FileListener} writes them to a file on a background thread.
+ * Every method does nothing by default, a listener only overrides the notifications it needs.
+ * </p>
+ */
+public interface EngineListener {
+
+  /**
+   * Listener ignoring every notification.
+   */
+  EngineListener NONE = new EngineListener() {
+  };
+
+  /**
+   * Called after a tile has been placed on a board, or rejected.
+   *
+   * @param x the x-coordinate of the tile
+   * @param y the y-coordinate of the tile
+   * @param result the outcome of the placement
+   */
+  default void tilePlacement(int x, int y, PlacementResult result) {
+  }
+
+  /**
+   * Called after a fauna token has been placed on a board, or rejected.
+   *
+   * @param animal the animal of the token
+   * @param x the x-coordinate of the tile receiving the token
+   * @param y the y-coordinate of the tile receiving the token
+   * @param result the outcome of the placement
+   */
+  default void tokenPlacement(Animal animal, int x, int y, PlacementResult result) {
+  }
+
+  /**
+   * Called before the points of a scoring card are added to a player.
+   *
+   * @param card the description of the card
+   */
+  default void cardScoring(String card) {
+  }
+
+  /**
+   * Called when the largest corridor of a landscape is added to the score of a player.
+   *
+   * @param player the name of the player
+   * @param landscape the landscape
+   * @param size the number of tiles of the largest corridor
+   */
+  default void landscapeScored(String player, Landscape landscape, int size) {
+  }
+
+  /**
+   * Called when a player has scored more than a milestone.
+   *
+   * @param player the name of the player
+   * @param points the milestone
+   */
+  default void scoreAchievement(String player, int points) {
+  }
+
+  /**
+   * Called when a player has no fauna token of an animal on their board.
+   *
+   * @param player the name of the player
+   * @param animal the animal
+   */
+  default void animalAchievement(String player, Animal animal) {
+  }
+
+  /**
+   * Called once the achievements of a player have been evaluated.
+   *
+   * @param player the name of the player
+   * @param count the number of achievements
+   */
+  default void achievements(String player, int count) {
+  }
+
+  /**
+   * Called when an option of the choices has been clicked.
+   *
+   * @param index the index of the option
+   * @param option the description of the tile of the option
+   */
+  default void optionChosen(int index, String option) {
+  }
+
+  /**
+   * Called when a tile already placed has been rotated by a click.
+   *
+   * @param x the x-coordinate of the tile
+   * @param y the y-coordinate of the tile
+   */
+  default void tileRotated(int x, int y) {
+  }
+}
@@ -0,0 +1,36 @@
+package listener;
+
+import java.util.Objects;
+
+/**
+ * Holder of the listener of the engine, {@link EngineListener#NONE} until another one is set.
+ * <p>
+ * The listener is shared by all the games of the JVM, like the console it replaces: it is set
+ * once at startup, before the games start, and must accept notifications from several threads.
+ * </p>
+ */
+public final class EngineListeners {
+  private static volatile EngineListener listener = EngineListener.NONE;
+
+  private EngineListeners() {
+  }
+
+  /**
+   * Gets the listener of the engine.
+   *
+   * @return the listener
+   */
+  public static EngineListener get() {
+    return listener;
+  }
+
+  /**
+   * Sets the listener of the engine.
+   *
+   * @param listener the listener, {@link EngineListener#NONE} to ignore the notifications
+   * @throws NullPointerException if the listener is null
+   */
+  public static void set(EngineListener listener) {
+    EngineListeners.listener = Objects.requireNonNull(listener);
+  }
+}
@@ -0,0 +1,99 @@
+package listener;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Listener writing the messages of the game to a file on a background thread.
+ * <p>
+ * A notification only puts its message in a queue: a daemon thread takes the messages
+ * waiting in the queue, writes them to a buffered file and flushes the file once the queue
+ * is empty, so the threads of the games never wait for the disk. The messages notified after
+ * the listener has been closed are ignored.
+ * </p>
+ */
+public final class FileListener extends TextListener implements AutoCloseable {
+
+  /**
+   * Message put in the queue by {@link #close()}, compared by identity.
+   */
+  private static final String END = new String("fin");
+
+  private final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+  private final BufferedWriter writer;
+  private final Thread thread;
+  private volatile boolean closed;
+
+  /**
+   * Creates a listener writing to a file, replacing the file if it exists.
+   *
+   * @param path the file
+   * @throws IOException if the file cannot be created
+   * @throws NullPointerException if the path is null
+   */
+  public FileListener(Path path) throws IOException {
+    Objects.requireNonNull(path);
+    writer = Files.newBufferedWriter(path);
+    thread = Thread.ofPlatform().name("journal-moteur").daemon().start(this::run);
+  }
+
+  @Override
+  void write(String line) {
+    if(!closed) {
+      lines.add(line);
+    }
+  }
+
+  /**
+   * Writes the messages of the queue until the listener is closed, on the background thread.
+   */
+  private void run() {
+    var batch = new ArrayList<String>();
+    try {
+      for(;;) {
+        batch.add(lines.take());
+        lines.drainTo(batch);
+        for(var line : batch) {
+          if(line == END) {
+            writer.flush();
+            return;
+          }
+          writer.write(line);
+          writer.newLine();
+        }
+        batch.clear();
+        if(lines.isEmpty()) {
+          writer.flush();
+        }
+      }
+    }catch (IOException e) {
+      closed = true;
+      System.err.println(e.getMessage());
+    }catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Writes the messages waiting in the queue and closes the file.
+   *
+   * @throws IOException if the file cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    closed = true;
+    lines.add(END);
+    try {
+      thread.join();
+    }catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    writer.close();
+  }
+}
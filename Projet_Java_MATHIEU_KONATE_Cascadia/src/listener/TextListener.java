@@ -0,0 +1,78 @@
+package listener;
+
+import board.PlacementResult;
+import model.Animal;
+import model.Landscape;
+
+/**
+ * Listener writing the messages of the game, one line per notification.
+ * The messages are the ones the engine used to print on the console.
+ */
+abstract class TextListener implements EngineListener {
+
+  /**
+   * Writes a message.
+   *
+   * @param line the message, without line separator
+   */
+  abstract void write(String line);
+
+  @Override
+  public void tilePlacement(int x, int y, PlacementResult result) {
+    write(switch(result) {
+      case PLACED -> "La tuile a ete place\n";
+      case OUTSIDE -> "cette position est en dehors du plateau \n";
+      case OCCUPIED -> "Une tuile est déja present sur cet emplacement\n";
+      case NOT_ADJACENT -> "La tuile doit être placer à côté d'une autre tuile\n";
+      default -> throw new IllegalArgumentException("Resultat invalide pour une tuile : " + result);
+    });
+  }
+
+  @Override
+  public void tokenPlacement(Animal animal, int x, int y, PlacementResult result) {
+    write(switch(result) {
+      case PLACED -> "Le jeton " + animal + " a ete place\n";
+      case OUTSIDE -> "cette position est en dehors du plateau\n";
+      case NO_TILE -> "il n'y a pas de tuile a cette emplacement\n";
+      case TOKEN_PRESENT -> "la tuile contient déja un jeton faune\n";
+      case INCOMPATIBLE -> "Le jeton " + animal + " n'est pas compatible avec cette tuile\n";
+      default -> throw new IllegalArgumentException("Resultat invalide pour un jeton : " + result);
+    });
+  }
+
+  @Override
+  public void cardScoring(String card) {
+    write("Calcul du score pour la carte : " + card);
+  }
+
+  @Override
+  public void landscapeScored(String player, Landscape landscape, int size) {
+    write(player + ":" + "Le nombre le plus grand de " + landscape + " adjacent est de :" + size);
+  }
+
+  @Override
+  public void scoreAchievement(String player, int points) {
+    write("succes : Marquer " + points + " pts ou + realise par :" + player);
+  }
+
+  @Override
+  public void animalAchievement(String player, Animal animal) {
+    write("succes : Ne pas avoir  " + animal + "realise par :" + player);
+  }
+
+  @Override
+  public void achievements(String player, int count) {
+    write("le nombre de succes realise est de  :" + count + "par le player :" + player);
+  }
+
+  @Override
+  public void optionChosen(int index, String option) {
+    write("Option cliquée, indice : " + index);
+    write("Option choisie : " + option);
+  }
+
+  @Override
+  public void tileRotated(int x, int y) {
+    write("Tuile en position (" + x + ", " + y + ") tournée.");
+  }
+}
@@ -1,12 +1,23 @@
 package main;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
 
 import card.ManagementCard;
+import game.AutoSaver;
 import game.Game;
+import game.GameLog;
 import game.Interaction;
 import game.Save;
+import listener.ConsoleListener;
+import listener.EngineListeners;
+import metrics.MetricsRegistry;
 import player.ManagementPlayers;
+import server.GameServer;
+import simulation.BatchSimulation;
+import simulation.FlatMonteCarloStrategy;
 
 /**
  * The `Main` class serves as the entry point for the game application.
@@ -14,29 +25,72 @@ import player.ManagementPlayers;
  * either graphical or terminal-based gameplay.
  */
 public class Main { 
+  /**
+   * File of the journal of the new games.
+   */
+  public static final String JOURNAL = "journal.bin";
+  
+  /**
+   * File of the automatic saves, loaded when it is more recent than the save written by the player.
+   */
+  public static final String AUTOSAVE = Save.AUTOSAVE_FILE;
+  
+  /**
+   * File receiving the counters and durations measured during the game, see {@link MetricsRegistry}.
+   */
+  public static final String METRICS = "metriques.txt";
+  
   /**
    * The main method to launch the game application.
    *
-   * @param args Command-line arguments (not used in this application).
+   * @param args Command-line arguments: "simulation" followed by the arguments of
+   *             {@link BatchSimulation#main(String[])} plays games without display,
+   *             "serveur" followed by the arguments of {@link GameServer#main(String[])}
+   *             hosts games for remote players, otherwise the arguments are not used.
+   *             The events of a new game are logged in the file {@value #JOURNAL}, the game is saved automatically
+   *             after each turn in the file {@value #AUTOSAVE}, and the measures of the game
+   *             are written in the file {@value #METRICS} at the end of the game.
    * @throws IOException If an I/O error occurs during save loading or game initialization.
+   * @throws InterruptedException If the simulation is interrupted.
+   * @throws ExecutionException If a game of the simulation fails.
    */
-  public static void main(String[] args) throws IOException {
+  public static void main(String[] args) throws IOException, InterruptedException, ExecutionException {
+    if(args.length > 0 && args[0].equals("simulation")) {
+      BatchSimulation.main(Arrays.copyOfRange(args, 1, args.length));
+      return;
+    }
+    if(args.length > 0 && args[0].equals("serveur")) {
+      GameServer.main(Arrays.copyOfRange(args, 1, args.length));
+      return;
+    }
+    EngineListeners.set(new ConsoleListener());
     var cards = new ManagementCard();
     var players = new ManagementPlayers();
     var save = new Save(0,cards,players,true);
     var interaction = new Interaction();
     if(!save.loadSave(interaction)) {
-      var game = new Game();
+      var game = new Game(interaction);
+      game.setComputerStrategy(seed -> new FlatMonteCarloStrategy(cards.getCards(), seed));
       players.initializePlayers(interaction);;
+      GameLog.create(Path.of(JOURNAL), game, players);
       game.initializeGame(players.getNbPlayer());
       var choix = game.choiceGame(interaction);
-      game.startGame(players,cards,game,interaction,choix);
+      try(var autosaver = new AutoSaver(Path.of(AUTOSAVE), game, cards, players)) {
+        game.setAutoSaver(autosaver);
+        game.startGame(players,cards,game,interaction,choix);
+      }
   	  }else {
-     var game = new Game();
+     var game = new Game(save.getTypeTile(), save.getSeed());
+     game.setComputerStrategy(seed -> new FlatMonteCarloStrategy(cards.getCards(), seed));
+     game.setRound(Math.min(save.getRound() + 1, Game.NB_ROUNDS));
      game.initializeGame(players.getNbPlayer());
      var choix = game.choiceGame(interaction);
-     game.startGame(players,cards,game,interaction,choix);
+     try(var autosaver = new AutoSaver(Path.of(AUTOSAVE), game, cards, players)) {
+       game.setAutoSaver(autosaver);
+       game.startGame(players,cards,game,interaction,choix);
+     }
   	  }
+    MetricsRegistry.global().dump(Path.of(METRICS));
    }
 
 }
\ No newline at end of file
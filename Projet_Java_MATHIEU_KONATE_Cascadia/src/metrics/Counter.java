@@ -0,0 +1,53 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counter of a {@link MetricsRegistry}, such as the number of turns played.
+ * <p>
+ * The counter can be incremented by several threads at the same time without contention,
+ * the games of a simulation sharing the counters of the registry.
+ * </p>
+ */
+public final class Counter {
+  private final String name;
+  private final LongAdder count = new LongAdder();
+
+  Counter(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Gets the name of the counter.
+   *
+   * @return the name
+   */
+  public String name() {
+    return name;
+  }
+
+  /**
+   * Adds one to the counter.
+   */
+  public void increment() {
+    count.increment();
+  }
+
+  /**
+   * Gets the value of the counter.
+   *
+   * @return the number of increments since the counter was created or reset
+   */
+  public long count() {
+    return count.sum();
+  }
+
+  void reset() {
+    count.reset();
+  }
+
+  @Override
+  public String toString() {
+    return "compteur " + name + " " + count();
+  }
+}
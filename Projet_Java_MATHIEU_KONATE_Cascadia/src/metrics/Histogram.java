@@ -0,0 +1,141 @@
+package metrics;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of durations of a {@link MetricsRegistry}, such as the duration of the turns.
+ * <p>
+ * The durations are counted in buckets of powers of two nanoseconds: bucket {@code i} counts
+ * the durations between {@code 2^(i-1)} and {@code 2^i - 1}, so recording a duration is an
+ * increment without allocation nor lock, and a percentile is known within a factor of two,
+ * which is enough to see where the time of a turn goes. A histogram of
+ * {@linkplain MetricsRegistry#sizes(String) sizes} records numbers of bytes the same way.
+ * </p>
+ */
+public final class Histogram {
+  private static final int BUCKETS = 64;
+
+  private final String name;
+  private final boolean bytes;
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder total = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  Histogram(String name, boolean bytes) {
+    this.name = name;
+    this.bytes = bytes;
+  }
+
+  /**
+   * Gets the name of the histogram.
+   *
+   * @return the name
+   */
+  public String name() {
+    return name;
+  }
+
+  /**
+   * Records a duration.
+   *
+   * @param nanos the duration in nanoseconds, a negative duration being counted as zero
+   */
+  public void record(long nanos) {
+    var duration = Math.max(0, nanos);
+    buckets.incrementAndGet(BUCKETS - Long.numberOfLeadingZeros(duration));
+    count.increment();
+    total.add(duration);
+    max.accumulate(duration);
+  }
+
+  /**
+   * Records the duration elapsed since an instant.
+   *
+   * @param start the instant, as returned by {@link System#nanoTime()}
+   */
+  public void recordSince(long start) {
+    record(System.nanoTime() - start);
+  }
+
+  /**
+   * Gets the number of recorded durations.
+   *
+   * @return the number of durations
+   */
+  public long count() {
+    return count.sum();
+  }
+
+  /**
+   * Gets the mean of the recorded durations.
+   *
+   * @return the mean in nanoseconds, 0 if no duration has been recorded
+   */
+  public double mean() {
+    var n = count.sum();
+    return n == 0 ? 0 : (double) total.sum() / n;
+  }
+
+  /**
+   * Gets the longest recorded duration.
+   *
+   * @return the longest duration in nanoseconds
+   */
+  public long max() {
+    return max.get();
+  }
+
+  /**
+   * Gets an upper bound of a percentile of the recorded durations.
+   *
+   * @param percentile the percentile, between 0 and 100
+   * @return the upper bound of the bucket of the percentile in nanoseconds, 0 if no duration has been recorded
+   * @throws IllegalArgumentException if the percentile is not between 0 and 100
+   */
+  public long percentile(double percentile) {
+    if(!(percentile >= 0 && percentile <= 100)) {
+      throw new IllegalArgumentException("Centile invalide : " + percentile);
+    }
+    var counts = new long[BUCKETS];
+    var n = 0L;
+    for(int i = 0; i < BUCKETS; i++) {
+      counts[i] = buckets.get(i);
+      n += counts[i];
+    }
+    if(n == 0) {
+      return 0;
+    }
+    var rank = Math.max(1, (long) Math.ceil(n * percentile / 100));
+    var seen = 0L;
+    for(int i = 0; i < BUCKETS; i++) {
+      seen += counts[i];
+      if(seen >= rank) {
+        return i == 0 ? 0 : Math.min(max(), (1L << i) - 1);
+      }
+    }
+    return max();
+  }
+
+  void reset() {
+    for(int i = 0; i < BUCKETS; i++) {
+      buckets.set(i, 0);
+    }
+    count.reset();
+    total.reset();
+    max.reset();
+  }
+
+  @Override
+  public String toString() {
+    if(bytes) {
+      return String.format(Locale.ROOT, "histogramme %s n=%d moyenne=%.0fo p50<=%do p99<=%do max=%do",
+          name, count(), mean(), percentile(50), percentile(99), max());
+    }
+    return String.format(Locale.ROOT, "histogramme %s n=%d moyenne=%.1fus p50<=%.1fus p99<=%.1fus max=%.1fus",
+        name, count(), mean() / 1_000, percentile(50) / 1_000.0, percentile(99) / 1_000.0, max() / 1_000.0);
+  }
+}
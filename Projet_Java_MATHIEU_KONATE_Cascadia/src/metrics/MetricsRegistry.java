@@ -0,0 +1,113 @@
+package metrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the counters and histograms of durations of the engine.
+ * <p>
+ * The engine records its measures in the {@linkplain #global() global registry}, which is
+ * shared by all the games of the JVM and can be written to a file at the end of a game.
+ * The counters and histograms are created on their first use and kept in static fields by
+ * the classes recording them, so a measure costs an increment and never a lookup.
+ * The same points of the engine also commit {@linkplain jdk.jfr.Event JFR events}, see
+ * {@link TurnEvent}, {@link PlacementEvent}, {@link ScoringEvent} and {@link SaveEvent},
+ * to follow a single game with a flight recording.
+ * </p>
+ */
+public final class MetricsRegistry {
+  private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+  private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+  /**
+   * Creates an empty registry.
+   */
+  public MetricsRegistry() {
+  }
+
+  /**
+   * Gets the registry of the engine.
+   *
+   * @return the global registry
+   */
+  public static MetricsRegistry global() {
+    return GLOBAL;
+  }
+
+  /**
+   * Gets a counter, creating it if it does not exist.
+   *
+   * @param name the name of the counter
+   * @return the counter
+   * @throws NullPointerException if the name is null
+   */
+  public Counter counter(String name) {
+    Objects.requireNonNull(name);
+    return counters.computeIfAbsent(name, Counter::new);
+  }
+
+  /**
+   * Gets a histogram of durations, creating it if it does not exist.
+   *
+   * @param name the name of the histogram
+   * @return the histogram
+   * @throws NullPointerException if the name is null
+   */
+  public Histogram histogram(String name) {
+    Objects.requireNonNull(name);
+    return histograms.computeIfAbsent(name, key -> new Histogram(key, false));
+  }
+
+  /**
+   * Gets a histogram of sizes in bytes, creating it if it does not exist.
+   * The sizes are recorded with {@link Histogram#record(long)} like durations.
+   *
+   * @param name the name of the histogram
+   * @return the histogram
+   * @throws NullPointerException if the name is null
+   */
+  public Histogram sizes(String name) {
+    Objects.requireNonNull(name);
+    return histograms.computeIfAbsent(name, key -> new Histogram(key, true));
+  }
+
+  /**
+   * Resets all the counters and histograms, for instance before a new game.
+   */
+  public void reset() {
+    counters.values().forEach(Counter::reset);
+    histograms.values().forEach(Histogram::reset);
+  }
+
+  /**
+   * Writes the counters and then the histograms to a file, one per line sorted by name,
+   * replacing the file if it exists.
+   *
+   * @param path the file
+   * @throws IOException if the file cannot be written
+   * @throws NullPointerException if the path is null
+   */
+  public void dump(Path path) throws IOException {
+    Objects.requireNonNull(path);
+    Files.write(path, lines());
+  }
+
+  private ArrayList<String> lines() {
+    var lines = new ArrayList<String>();
+    counters.values().stream().sorted(Comparator.comparing(Counter::name)).forEach(counter -> lines.add(counter.toString()));
+    histograms.values().stream().sorted(Comparator.comparing(Histogram::name)).forEach(histogram -> lines.add(histogram.toString()));
+    return lines;
+  }
+
+  @Override
+  public String toString() {
+    return String.join(System.lineSeparator(), lines());
+  }
+}
@@ -0,0 +1,42 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event of the validation and placement of a tile or a fauna token on a board.
+ */
+@Name("cascadia.Placement")
+@Label("Placement")
+@Category("Cascadia")
+@Description("Validation et placement d'une tuile ou d'un jeton faune")
+@StackTrace(false)
+public final class PlacementEvent extends jdk.jfr.Event {
+
+  /**
+   * True for a tile, false for a fauna token.
+   */
+  @Label("Tuile")
+  public boolean tile;
+
+  /**
+   * The x-coordinate of the placement.
+   */
+  @Label("X")
+  public int x;
+
+  /**
+   * The y-coordinate of the placement.
+   */
+  @Label("Y")
+  public int y;
+
+  /**
+   * True if the placement has been accepted.
+   */
+  @Label("Accepte")
+  public boolean accepted;
+}
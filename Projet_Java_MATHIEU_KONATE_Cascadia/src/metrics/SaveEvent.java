@@ -0,0 +1,36 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event of the writing or the reading of a save.
+ */
+@Name("cascadia.Save")
+@Label("Sauvegarde")
+@Category("Cascadia")
+@Description("Ecriture ou lecture d'une sauvegarde")
+@StackTrace(false)
+public final class SaveEvent extends jdk.jfr.Event {
+
+  /**
+   * The file of the save.
+   */
+  @Label("Fichier")
+  public String file;
+
+  /**
+   * True for a reading, false for a writing.
+   */
+  @Label("Chargement")
+  public boolean load;
+
+  /**
+   * True for the binary format, false for the text format.
+   */
+  @Label("Binaire")
+  public boolean binary;
+}
@@ -0,0 +1,36 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event of the evaluation of a scoring card, or of the landscapes, on the board of a player.
+ */
+@Name("cascadia.Scoring")
+@Label("Decompte")
+@Category("Cascadia")
+@Description("Evaluation d'une carte de decompte ou des paysages sur le plateau d'un joueur")
+@StackTrace(false)
+public final class ScoringEvent extends jdk.jfr.Event {
+
+  /**
+   * Name of the player.
+   */
+  @Label("Joueur")
+  public String player;
+
+  /**
+   * The card, or "paysages" for the landscapes.
+   */
+  @Label("Carte")
+  public String card;
+
+  /**
+   * The points given by the card.
+   */
+  @Label("Points")
+  public int points;
+}
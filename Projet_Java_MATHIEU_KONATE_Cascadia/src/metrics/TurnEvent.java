@@ -0,0 +1,39 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event of a turn, from the end of the previous turn, or the start of the game,
+ * to the end of the turn of a player.
+ */
+@Name("cascadia.Turn")
+@Label("Tour")
+@Category("Cascadia")
+@Description("Tour d'un joueur, de la fin du tour precedent a la fin de son tour")
+@StackTrace(false)
+public final class TurnEvent extends jdk.jfr.Event {
+
+  /**
+   * Name of the player.
+   */
+  @Label("Joueur")
+  public String player;
+
+  /**
+   * Index of the choice used during the turn.
+   */
+  @Label("Choix")
+  public int choice;
+
+  /**
+   * Bytes allocated by the game thread during the turn, -1 if the JVM does not measure them.
+   */
+  @Label("Octets alloues")
+  @DataAmount(DataAmount.BYTES)
+  public long allocated;
+}
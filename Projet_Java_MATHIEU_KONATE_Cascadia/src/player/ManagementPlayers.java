@@ -3,9 +3,11 @@ package player;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import card.CartdScoreLandscape;
+import card.ScoreBreakdown;
 import game.Interaction;
 import model.Landscape;
 /**
@@ -67,12 +69,35 @@ public class ManagementPlayers {
    * @param istuilecarre true if square tiles are used, false otherwise
    */
   public void BonusMajorite(boolean istuilecarre) {
-    Landscape[] landscapes = {Landscape.MONTAGNE,Landscape.FORET,Landscape.PRAIRIE, Landscape.MARAIS,Landscape.RIVIERE};
     var score = new CartdScoreLandscape(istuilecarre);
+    var habitats = new ArrayList<ScoreBreakdown>(players.size());
     for(var player : players) {
+      habitats.add(score.evaluate(player.getEnv()));
+    }
+    BonusMajorite(istuilecarre, habitats);
+  }
+
+  /**
+   * Adds bonus points to players with majority control of specific landscapes,
+   * from the scores of their landscapes already evaluated.
+   *
+   * @param istuilecarre true if square tiles are used, false otherwise
+   * @param habitats the score of the landscapes of each player, in the order of the players
+   * @throws NullPointerException if the scores are null
+   * @throws IllegalArgumentException if there is not one score per player
+   */
+  public void BonusMajorite(boolean istuilecarre, List<ScoreBreakdown> habitats) {
+    Objects.requireNonNull(habitats);
+    if(habitats.size() != players.size()) {
+      throw new IllegalArgumentException("Il faut un score par joueur");
+    }
+    Landscape[] landscapes = {Landscape.MONTAGNE,Landscape.FORET,Landscape.PRAIRIE, Landscape.MARAIS,Landscape.RIVIERE};
+    var score = new CartdScoreLandscape(istuilecarre);
+    for(int i = 0; i < players.size(); i++) {
+      var player = players.get(i);
       int max_score = 0;
       var players_winner = new ArrayList<Player>();
-      var nb_habitat = score.CompterScore(player);
+      var nb_habitat = score.CompterScore(player, habitats.get(i));
       for(var landscape : landscapes) {
         int score_landscape = nb_habitat.getOrDefault(landscape, 0);
         if(score_landscape > max_score) {
@@ -27,6 +27,22 @@ public class Player {
     score = 0;
     environnement = new Board(taille);  
   }
+  
+  private Player(Player player) {
+    nom = player.nom;
+    score = player.score;
+    environnement = player.environnement.copy();
+  }
+  
+  /**
+   * Creates a copy of the player, with a deep copy of their board.
+   * The copy does not change when the player plays, so it can be saved on another thread.
+   *
+   * @return the copy of the player
+   */
+  public Player copy() {
+    return new Player(this);
+  }
   /**
    * Gets the player's current score.
    *
@@ -4,8 +4,8 @@ package player;
 import java.util.Objects;
 
 import board.FaunaToken;
+import listener.EngineListeners;
 import model.Animal;
-import model.Pos;
 /**
  * The `Succes` class evaluates achievements for a player based on their score and game state.
  */
@@ -31,7 +31,7 @@ public class Succes {
     int[] scores = {80, 85, 90, 95, 100, 105, 110}; 
     for(var ele : scores) {
       if(player.getScore() > ele) {
-        System.out.println("succes : Marquer " + ele + " pts ou + realise par :" + player.getNom());
+        EngineListeners.get().scoreAchievement(player.getNom(), ele);
         nb_succes++;
       }
     }
@@ -46,9 +46,9 @@ public class Succes {
   private boolean SearchToken(Animal animal) {
     var jetonfaune = new FaunaToken(animal);
     var env = player.getEnv();
-    for(int i = 0; i < env.getSize(); i++) {
-      for(int j = 0; j < env.getSize(); j++) {
-        var tuile = env.getEnv().get(new Pos(i, j));
+    for(int i = env.getMinX(); i < env.getMaxX(); i++) {
+      for(int j = env.getMinY(); j < env.getMaxY(); j++) {
+        var tuile = env.tileAt(i, j);
         if(tuile != null && jetonfaune.equals(tuile.getfaunatoken())) {
           return true;
         }
@@ -65,7 +65,7 @@ public class Succes {
     Animal[] animaux = {Animal.OURS,Animal.AIGLE,Animal.RENARD,Animal.SAUMON,Animal.WAPITI};
     for(var ele : animaux) {
       if(!SearchToken(ele)) {
-        System.out.println("succes : Ne pas avoir  " + ele + "realise par :" + player.getNom());
+        EngineListeners.get().animalAchievement(player.getNom(), ele);
         nb_succes++;
       }
     }
@@ -77,7 +77,7 @@ public class Succes {
   public void Succesplayer() {
     SuccesFaunaToken();
     SuccesScore();
-    System.out.println("le nombre de succes realise est de  :" + nb_succes + "par le player :"+ player.getNom());
+    EngineListeners.get().achievements(player.getNom(), nb_succes);
   }
 
 }
@@ -0,0 +1,275 @@
+package server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import card.ManagementCard;
+import game.AsyncInput;
+import game.Game;
+import game.Interaction;
+import player.ManagementPlayers;
+import player.Player;
+
+/**
+ * Server hosting many games in terminal mode at the same time, each player playing from
+ * their own connection.
+ * <p>
+ * Each connection is a seat, served by its own virtual thread reading the lines of the player
+ * into an {@link AsyncInput}. Another virtual thread asks the name of the player and waits at a
+ * table until the table is full, then plays the game of the table, asking each player through
+ * the {@link Interaction} of their connection. A player leaving a table before it is full is
+ * removed from it and the players still waiting are told so; a player leaving during a game
+ * interrupts it. A player waiting for their turn or for the other players only blocks virtual
+ * threads, so a server hosts dozens of tables without a platform thread per player. The games use square tiles and
+ * get their seeds from the seed of the server, the first player of a table chooses the cards.
+ * </p>
+ * <p>
+ * The protocol is the text of the terminal game, one line per question or answer, in UTF-8,
+ * so a player connects with a simple TCP client, and {@link ScriptedClient} plays over the
+ * loopback to test the server.
+ * </p>
+ */
+public final class GameServer implements AutoCloseable {
+
+  /**
+   * Port of the server when none is given.
+   */
+  public static final int PORT = 4444;
+
+  private final ServerSocket server;
+  private final int nbseats;
+  private final long seed;
+  private final ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor();
+  private final ConcurrentHashMap.KeySetView<Socket, Boolean> clients = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger tables = new AtomicInteger();
+  private final Object lock = new Object();
+  private ArrayList<Seat> waiting = new ArrayList<>();
+
+  /**
+   * A player seated at a table, with their connection.
+   */
+  private record Seat(String name, Interaction interaction, Socket client) {
+  }
+
+  /**
+   * Creates a server listening on a port.
+   *
+   * @param port the port, 0 to choose a free port
+   * @param nbseats the number of players of each table, between 1 and 4
+   * @param seed the seed of the server, from which the seeds of the games are computed
+   * @throws IOException if the port cannot be opened
+   * @throws IllegalArgumentException if the number of players is not between 1 and 4
+   */
+  public GameServer(int port, int nbseats, long seed) throws IOException {
+    if(nbseats < 1 || nbseats > 4) {
+      throw new IllegalArgumentException("Le nombre de joueurs par table doit etre entre 1 et 4 : " + nbseats);
+    }
+    this.nbseats = nbseats;
+    this.seed = seed;
+    server = new ServerSocket(port);
+  }
+
+  /**
+   * Gets the port the server listens on.
+   *
+   * @return the port
+   */
+  public int port() {
+    return server.getLocalPort();
+  }
+
+  /**
+   * Accepts the connections on a virtual thread and returns immediately.
+   */
+  public void start() {
+    threads.submit(() -> {
+      serve();
+      return null;
+    });
+  }
+
+  /**
+   * Accepts the connections until the server is closed, each connection being seated on its own virtual thread.
+   *
+   * @throws IOException if a connection cannot be accepted
+   */
+  public void serve() throws IOException {
+    try {
+      for(;;) {
+        var client = server.accept();
+        clients.add(client);
+        threads.submit(() -> seat(client));
+      }
+    }catch (SocketException e) {
+      if(!server.isClosed()) {
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Serves a connection: reads the lines of the player until the connection is closed,
+   * while another virtual thread seats the player.
+   */
+  private void seat(Socket client) {
+    var input = new AsyncInput();
+    Interaction interaction = null;
+    try(client) {
+      var reader = new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+      var out = new PrintStream(client.getOutputStream(), true, StandardCharsets.UTF_8);
+      var player = new Interaction(input, out);
+      interaction = player;
+      threads.submit(() -> welcome(player, client));
+      String line;
+      while((line = reader.readLine()) != null) {
+        input.submit(line);
+      }
+    }catch (SocketException e) {
+      // the connection is closed at the end of the game or by the server
+    }catch (IOException e) {
+      System.err.println(e.getMessage());
+    }finally {
+      input.close();
+      clients.remove(client);
+      if(interaction != null) {
+        leave(interaction);
+      }
+    }
+  }
+
+  /**
+   * Asks the name of the player, seats the player and plays the game if the player completes the table.
+   */
+  private void welcome(Interaction interaction, Socket client) {
+    try {
+      var seat = new Seat(interaction.requestName(), interaction, client);
+      interaction.display("Bienvenue " + seat.name() + ", en attente des autres joueurs");
+      var table = join(seat);
+      if(table != null) {
+        play(table);
+      }
+    }catch (IOException e) {
+      // the player left before giving their name
+    }
+  }
+
+  /**
+   * Seats a player at the table being filled, unless the player has already left.
+   *
+   * @return the players of the table if the player completes it, null otherwise
+   */
+  private List<Seat> join(Seat seat) {
+    synchronized(lock) {
+      if(seat.client().isClosed()) {
+        return null;
+      }
+      waiting.add(seat);
+      if(waiting.size() < nbseats) {
+        return null;
+      }
+      var table = waiting;
+      waiting = new ArrayList<>();
+      return table;
+    }
+  }
+
+  /**
+   * Removes a player who left from the table being filled and tells the players still waiting.
+   * Nothing is done if the player is not waiting, for instance if their game has started.
+   */
+  private void leave(Interaction interaction) {
+    Seat gone = null;
+    List<Seat> others;
+    synchronized(lock) {
+      for(var seat : waiting) {
+        if(seat.interaction() == interaction) {
+          gone = seat;
+        }
+      }
+      if(gone == null) {
+        return;
+      }
+      waiting.remove(gone);
+      others = List.copyOf(waiting);
+    }
+    for(var seat : others) {
+      seat.interaction().display("Le joueur " + gone.name() + " a quitte la table, en attente des autres joueurs");
+    }
+  }
+
+  /**
+   * Plays the game of a full table, then closes the connections of its players.
+   */
+  private void play(List<Seat> table) {
+    var interactions = table.stream().map(Seat::interaction).toList();
+    try {
+      var players = new ManagementPlayers();
+      for(var seat : table) {
+        players.add(new Player(seat.name(), 5));
+      }
+      var game = new Game(true, seed + tables.getAndIncrement() * 0x9E3779B97F4A7C15L);
+      game.initializeGame(players.getNbPlayer());
+      game.playSession(players, new ManagementCard(), interactions);
+    }catch (IOException e) {
+      for(var interaction : interactions) {
+        interaction.display("Partie interrompue : " + e.getMessage());
+      }
+    }finally {
+      for(var seat : table) {
+        try {
+          seat.client().close();
+        }catch (IOException e) {
+          System.err.println(e.getMessage());
+        }
+      }
+    }
+  }
+
+  /**
+   * Stops accepting connections and closes the connections of the players.
+   *
+   * @throws IOException if the server cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    server.close();
+    for(var client : clients) {
+      client.close();
+    }
+    threads.shutdownNow();
+  }
+
+  /**
+   * Runs a server from the command line until the process is stopped.
+   * <p>
+   * Arguments, all optional: port ({@value #PORT}), number of players of each table (2), seed (random).
+   * </p>
+   *
+   * @param args the arguments of the server
+   * @throws IOException if the server cannot listen on the port
+   */
+  public static void main(String[] args) throws IOException {
+    Objects.requireNonNull(args);
+    var port = args.length > 0 ? Integer.parseInt(args[0]) : PORT;
+    var nbseats = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+    var seed = args.length > 2 ? Long.parseLong(args[2]) : new SplittableRandom().nextLong();
+    try(var server = new GameServer(port, nbseats, seed)) {
+      System.out.println("Serveur en attente de joueurs sur le port " + server.port() + ", " + nbseats + " joueurs par table");
+      server.serve();
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Client of a {@link GameServer} answering the questions of the game with a script,
+ * to test the server over the loopback without human players.
+ * <p>
+ * The client reads the lines sent by the server and gives each one to its script, which
+ * returns the answer to send, or null if the line is not a question.
+ * </p>
+ */
+public final class ScriptedClient implements Callable<List<String>> {
+  private final InetSocketAddress address;
+  private final Function<String, String> script;
+
+  /**
+   * Creates a client.
+   *
+   * @param address the address of the server
+   * @param script gives the answer to a line sent by the server, or null to send nothing
+   * @throws NullPointerException if the address or the script is null
+   */
+  public ScriptedClient(InetSocketAddress address, Function<String, String> script) {
+    this.address = Objects.requireNonNull(address);
+    this.script = Objects.requireNonNull(script);
+  }
+
+  /**
+   * Creates the script of a player answering at random: the cards are the first card of
+   * each animal, the three identical tokens are kept, the option is chosen at random and
+   * the coordinates are tried at random around the starting tiles until they are accepted.
+   *
+   * @param name the name of the player
+   * @param seed the seed of the random answers
+   * @return the script
+   * @throws NullPointerException if the name is null
+   */
+  public static Function<String, String> randomPlayer(String name, long seed) {
+    Objects.requireNonNull(name);
+    var random = new SplittableRandom(seed);
+    return line -> {
+      if(line.startsWith("Nom du joueur")) {
+        return name;
+      }
+      if(line.startsWith("Quelle variante")) {
+        return "3";
+      }
+      if(line.startsWith("Quelle carte decompte")) {
+        return "1";
+      }
+      if(line.contains("repiocher")) {
+        return "n";
+      }
+      if(line.startsWith("Veuillez choisir une des option")) {
+        return String.valueOf(random.nextInt(1, 5));
+      }
+      if(line.startsWith("Veuillez entrer les coordonnees")) {
+        return random.nextInt(-8, 9) + "," + random.nextInt(-8, 9);
+      }
+      return null;
+    };
+  }
+
+  /**
+   * Connects to the server and answers its questions until the server closes the connection.
+   *
+   * @return the lines sent by the server
+   * @throws IOException if the connection fails
+   */
+  @Override
+  public List<String> call() throws IOException {
+    var lines = new ArrayList<String>();
+    try(var socket = new Socket(address.getAddress(), address.getPort())) {
+      var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+      var out = new PrintStream(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+      String line;
+      while((line = reader.readLine()) != null) {
+        lines.add(line);
+        var answer = script.apply(line);
+        if(answer != null) {
+          out.println(answer);
+        }
+      }
+    }
+    return lines;
+  }
+
+  /**
+   * Plays the games of a server with random players, each client on its own virtual thread,
+   * and prints the last line received by each client.
+   * <p>
+   * Arguments, all optional: port ({@value GameServer#PORT}), number of clients (2), seed (0).
+   * The clients connect to the loopback address.
+   * </p>
+   *
+   * @param args the arguments of the clients
+   * @throws InterruptedException if the clients are interrupted
+   * @throws ExecutionException if a client fails
+   */
+  public static void main(String[] args) throws InterruptedException, ExecutionException {
+    Objects.requireNonNull(args);
+    var port = args.length > 0 ? Integer.parseInt(args[0]) : GameServer.PORT;
+    var nbclients = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+    var seed = args.length > 2 ? Long.parseLong(args[2]) : 0L;
+    var address = new InetSocketAddress("localhost", port);
+    try(var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var futures = new ArrayList<Future<List<String>>>();
+      for(int i = 0; i < nbclients; i++) {
+        futures.add(executor.submit(new ScriptedClient(address, randomPlayer("joueur" + (i + 1), seed + i))));
+      }
+      for(int i = 0; i < nbclients; i++) {
+        var lines = futures.get(i).get();
+        System.out.println("joueur" + (i + 1) + " : " + (lines.isEmpty() ? "" : lines.getLast()));
+      }
+    }
+  }
+}
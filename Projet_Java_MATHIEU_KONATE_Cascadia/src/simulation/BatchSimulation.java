@@ -0,0 +1,206 @@
+package simulation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongFunction;
+
+import card.Card;
+import card.CardAigle;
+import card.CardOurs;
+import card.CardRenard;
+import card.CardSaumon;
+import card.CardWapiti;
+import game.PlayerStrategy;
+import listener.EngineListener;
+import listener.EngineListeners;
+import listener.FileListener;
+
+/**
+ * Plays many games without console nor graphic display on a pool of threads,
+ * and reports the throughput and the distribution of the scores of each player.
+ * <p>
+ * Each game gets its own seed computed from the seed of the simulation, so a
+ * simulation always gives the same scores whatever the number of threads.
+ * The messages of the engine go to its {@linkplain EngineListeners listener}, which ignores
+ * them unless a file of messages is given.
+ * </p>
+ */
+public class BatchSimulation {
+  private final boolean istilesquare;
+  private final List<Card> cards;
+  private final List<LongFunction<PlayerStrategy>> seats;
+  private final long seed;
+  
+  /**
+   * Creates a simulation.
+   * 
+   * @param istilesquare true to play with square tiles, false with hexagonal tiles
+   * @param cards the scoring cards of every game
+   * @param seats for each player, creates its strategy from the seed of a game
+   * @param seed the seed of the simulation
+   */
+  public BatchSimulation(boolean istilesquare, List<Card> cards, List<LongFunction<PlayerStrategy>> seats, long seed) {
+    this.istilesquare = istilesquare;
+    this.cards = List.copyOf(cards);
+    this.seats = List.copyOf(seats);
+    this.seed = seed;
+  }
+  
+  /**
+   * Statistics of a simulation.
+   * 
+   * @param nbgames the number of games played
+   * @param nanos the duration of the simulation in nanoseconds
+   * @param scores the statistics of the final scores of each player
+   * @param variances the variance of the final scores of each player
+   */
+  public record Report(int nbgames, long nanos, List<IntSummaryStatistics> scores, List<Double> variances) {
+    
+    /**
+     * Gets the number of games played per second.
+     * 
+     * @return the throughput of the simulation
+     */
+    public double gamesPerSecond() {
+      return nbgames / (nanos / 1_000_000_000.0);
+    }
+    
+    @Override
+    public String toString() {
+      var sb = new StringBuilder();
+      sb.append(String.format("Parties jouees : %d en %.2f s (%.1f parties/s)%n", nbgames, nanos / 1_000_000_000.0, gamesPerSecond()));
+      for(int i = 0; i < scores.size(); i++) {
+        var stats = scores.get(i);
+        sb.append(String.format("Joueur %d : moyenne %.2f, ecart type %.2f, min %d, max %d%n",
+            i + 1, stats.getAverage(), Math.sqrt(variances.get(i)), stats.getMin(), stats.getMax()));
+      }
+      return sb.toString();
+    }
+  }
+  
+  /**
+   * Computes the seed of a game from the seed of the simulation.
+   * 
+   * @param index the index of the game
+   * @return the seed of the game
+   */
+  private long gameSeed(int index) {
+    return seed + index * 0x9E3779B97F4A7C15L;
+  }
+  
+  /**
+   * Plays one game.
+   * 
+   * @param index the index of the game
+   * @return the final score of each player
+   */
+  private int[] playGame(int index) {
+    var gameseed = gameSeed(index);
+    var strategies = new ArrayList<PlayerStrategy>();
+    for(int i = 0; i < seats.size(); i++) {
+      strategies.add(seats.get(i).apply(gameseed + i));
+    }
+    try {
+      return new HeadlessGame(istilesquare, cards, strategies, gameseed).play();
+    }catch(IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+  
+  /**
+   * Plays the games on a pool of threads.
+   * 
+   * @param nbgames the number of games to play
+   * @param nbthreads the number of threads of the pool
+   * @return the statistics of the simulation
+   * @throws InterruptedException if the current thread is interrupted while waiting for the games
+   * @throws ExecutionException if a game fails
+   */
+  public Report run(int nbgames, int nbthreads) throws InterruptedException, ExecutionException {
+    if(nbgames < 1 || nbthreads < 1) {
+      throw new IllegalArgumentException("Le nombre de parties et de threads doit etre positif");
+    }
+    var start = System.nanoTime();
+    var results = new ArrayList<int[]>();
+    try(var executor = Executors.newFixedThreadPool(nbthreads)) {
+      var futures = new ArrayList<Future<int[]>>();
+      for(int i = 0; i < nbgames; i++) {
+        var index = i;
+        futures.add(executor.submit(() -> playGame(index)));
+      }
+      for(var future : futures) {
+        results.add(future.get());
+      }
+    }
+    var nanos = System.nanoTime() - start;
+    var scores = new ArrayList<IntSummaryStatistics>();
+    var variances = new ArrayList<Double>();
+    for(int i = 0; i < seats.size(); i++) {
+      var stats = new IntSummaryStatistics();
+      for(var result : results) {
+        stats.accept(result[i]);
+      }
+      var variance = 0.0;
+      for(var result : results) {
+        variance += (result[i] - stats.getAverage()) * (result[i] - stats.getAverage());
+      }
+      scores.add(stats);
+      variances.add(variance / results.size());
+    }
+    return new Report(nbgames, nanos, scores, variances);
+  }
+  
+  /**
+   * Runs a simulation of random players from the command line.
+   * <p>
+   * Arguments, all optional: number of games (1000), number of threads (number of processors),
+   * type of tiles C or H (C), number of players (2), seed (0), strategy of the first player
+   * random or montecarlo (random), file receiving the messages of the engine (none).
+   * The other players are random players.
+   * The scoring cards are the first card of each animal.
+   * </p>
+   *
+   * @param args the arguments of the simulation
+   * @throws InterruptedException if the simulation is interrupted
+   * @throws ExecutionException if a game fails
+   * @throws IOException if the file of the messages cannot be written
+   */
+  public static void main(String[] args) throws InterruptedException, ExecutionException, IOException {
+    Objects.requireNonNull(args);
+    var nbgames = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+    var nbthreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+    var istilesquare = args.length > 2 ? !args[2].equalsIgnoreCase("H") : true;
+    var nbplayers = args.length > 3 ? Integer.parseInt(args[3]) : 2;
+    var seed = args.length > 4 ? Long.parseLong(args[4]) : 0L;
+    var montecarlo = args.length > 5 && args[5].equalsIgnoreCase("montecarlo");
+    List<Card> cards = List.of(new CardOurs(1, istilesquare), new CardAigle(1, istilesquare), new CardRenard(1, istilesquare),
+        new CardSaumon(1, istilesquare), new CardWapiti(1, istilesquare));
+    var seats = new ArrayList<LongFunction<PlayerStrategy>>();
+    for(int i = 0; i < nbplayers; i++) {
+      if(i == 0 && montecarlo) {
+        seats.add(gameseed -> new FlatMonteCarloStrategy(cards, gameseed));
+      }else {
+        seats.add(RandomStrategy::new);
+      }
+    }
+    var simulation = new BatchSimulation(istilesquare, cards, seats, seed);
+    if(args.length <= 6) {
+      System.out.print(simulation.run(nbgames, nbthreads));
+      return;
+    }
+    try(var messages = new FileListener(Path.of(args[6]))) {
+      EngineListeners.set(messages);
+      System.out.print(simulation.run(nbgames, nbthreads));
+    }finally {
+      EngineListeners.set(EngineListener.NONE);
+    }
+  }
+}
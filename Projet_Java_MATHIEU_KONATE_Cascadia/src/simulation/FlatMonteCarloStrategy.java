@@ -0,0 +1,389 @@
+package simulation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+import board.Board;
+import board.FaunaToken;
+import board.PlacementResult;
+import board.Tile;
+import board.Topology;
+import card.Card;
+import card.CartdScoreLandscape;
+import card.ManagementCard;
+import game.Game;
+import game.Move;
+import game.PlayerStrategy;
+import model.Animal;
+import model.Pos;
+import player.Player;
+
+/**
+ * Strategy choosing its moves with a flat Monte Carlo search.
+ * <p>
+ * The candidate moves of the turn (option, position and rotation of the tile, position
+ * of the fauna token) are first ranked by the score they give immediately, and the best
+ * ones become the arms of a UCB1 bandit. The search does not build a tree: the turns
+ * after the move are only played randomly, never selected. To stay within the time budget, the placements of
+ * each option are first sorted by the number of edges matching their neighbors, without
+ * copying the board, and only the best of them are played on a copy to be scored; the
+ * generation of the candidates also stops when half of the time budget is spent. Moves leading to the same board, recognized by
+ * its Zobrist hash, are only kept once. Each iteration selects a candidate with the UCB1
+ * formula, plays it on a copy of the board, then plays random tiles drawn from all the
+ * tiles of the game for the next turns of the player, and uses the final score of the
+ * board as the reward.
+ * </p>
+ * <p>
+ * Several searches run in parallel on the common fork-join pool, each with its own
+ * random generator, and their statistics are summed before choosing the most visited move.
+ * The search stops when the time budget or the iteration budget is spent.
+ * </p>
+ */
+public class FlatMonteCarloStrategy implements PlayerStrategy {
+
+  /**
+   * Number of placements of each option played on a copy of the board to be scored.
+   */
+  private static final int MAX_RANKED_PLACEMENTS = 12;
+
+  /**
+   * Number of tile placements kept before trying the positions of the fauna token.
+   */
+  private static final int MAX_TILE_CANDIDATES = 8;
+
+  /**
+   * Number of moves kept as candidates of the search.
+   */
+  private static final int MAX_MOVES = 16;
+
+  /**
+   * Exploration constant of the UCB1 formula, for rewards between 0 and 1.
+   */
+  private static final double EXPLORATION = 0.7;
+
+  private static final Animal[] ANIMALS = Animal.values();
+
+  private final ManagementCard cards = new ManagementCard();
+  private final long millis;
+  private final int iterations;
+  private final int nbsearches;
+  private final int depth;
+  private final SplittableRandom random;
+
+  /**
+   * Candidate move with the score of the board after it.
+   */
+  private record Candidate(Move move, int score) {
+  }
+
+  /**
+   * Board reached by placing a tile, with the fauna token of the option still to place.
+   */
+  private record Placement(long hash, FaunaToken token) {
+  }
+
+  /**
+   * Creates a strategy with a budget of 80 milliseconds per move, one search per processor
+   * and random playouts of 3 turns.
+   *
+   * @param cards the scoring cards of the game
+   * @param seed the seed of the random choices
+   */
+  public FlatMonteCarloStrategy(List<Card> cards, long seed) {
+    this(cards, seed, 80, Integer.MAX_VALUE, Runtime.getRuntime().availableProcessors(), 3);
+  }
+
+  /**
+   * Creates a strategy.
+   *
+   * @param cards the scoring cards of the game
+   * @param seed the seed of the random choices
+   * @param millis the maximal time spent to choose a move, in milliseconds
+   * @param iterations the maximal number of iterations of all the searches for one move
+   * @param nbsearches the number of searches run in parallel
+   * @param depth the number of turns played randomly after the move
+   */
+  public FlatMonteCarloStrategy(List<Card> cards, long seed, long millis, int iterations, int nbsearches, int depth) {
+    Objects.requireNonNull(cards);
+    if(millis < 1 || iterations < 1 || nbsearches < 1 || depth < 0) {
+      throw new IllegalArgumentException("Budget de recherche invalide");
+    }
+    for(var card : cards) {
+      this.cards.addCard(card);
+    }
+    this.millis = millis;
+    this.iterations = iterations;
+    this.nbsearches = nbsearches;
+    this.depth = depth;
+    random = new SplittableRandom(seed);
+  }
+
+  @Override
+  public Move chooseMove(Game game, Player player) {
+    Objects.requireNonNull(game);
+    Objects.requireNonNull(player);
+    var start = System.nanoTime();
+    var deadline = start + millis * 1_000_000;
+    var landscapes = new CartdScoreLandscape(game.getTypeTile());
+    var candidates = candidates(game, player.getEnv(), landscapes, start + millis * 500_000);
+    if(candidates.size() == 1) {
+      return candidates.getFirst().move();
+    }
+    var remaining = Game.NB_ROUNDS - (player.getEnv().getNbTiles() - 3) - 1;
+    var turns = Math.max(0, Math.min(depth, remaining));
+    var searches = new ArrayList<CompletableFuture<double[][]>>();
+    for(int i = 0; i < nbsearches; i++) {
+      var searchrandom = random.split();
+      var budget = iterations / nbsearches + (i < iterations % nbsearches ? 1 : 0);
+      searches.add(CompletableFuture.supplyAsync(
+          () -> search(game, player.getEnv(), landscapes, candidates, turns, budget, deadline, searchrandom), ForkJoinPool.commonPool()));
+    }
+    var visits = new double[candidates.size()];
+    var rewards = new double[candidates.size()];
+    for(var search : searches) {
+      var result = search.join();
+      for(int i = 0; i < candidates.size(); i++) {
+        visits[i] += result[0][i];
+        rewards[i] += result[1][i];
+      }
+    }
+    var best = 0;
+    for(int i = 1; i < candidates.size(); i++) {
+      if(visits[i] > visits[best] || (visits[i] == visits[best] && rewards[i] * visits[best] > rewards[best] * visits[i])) {
+        best = i;
+      }
+    }
+    return candidates.get(best).move();
+  }
+
+  /**
+   * Runs one search.
+   *
+   * @return the number of visits and the sum of the rewards of each candidate
+   */
+  private double[][] search(Game game, Board env, CartdScoreLandscape landscapes, List<Candidate> candidates,
+                            int turns, int budget, long deadline, SplittableRandom searchrandom) {
+    var visits = new double[candidates.size()];
+    var rewards = new double[candidates.size()];
+    var min = Integer.MAX_VALUE;
+    var max = Integer.MIN_VALUE;
+    for(int iteration = 0; iteration < budget && System.nanoTime() < deadline; iteration++) {
+      var index = select(visits, rewards, iteration, min, max, searchrandom);
+      var score = playout(game, env, landscapes, candidates.get(index).move(), turns, searchrandom);
+      min = Math.min(min, score);
+      max = Math.max(max, score);
+      visits[index]++;
+      rewards[index] += score;
+    }
+    return new double[][] {visits, rewards};
+  }
+
+  /**
+   * Selects the candidate to explore with the UCB1 formula, the candidates never visited first.
+   */
+  private static int select(double[] visits, double[] rewards, int iteration, int min, int max, SplittableRandom searchrandom) {
+    var unvisited = 0;
+    for(var visit : visits) {
+      if(visit == 0) {
+        unvisited++;
+      }
+    }
+    if(unvisited != 0) {
+      var rank = searchrandom.nextInt(unvisited);
+      for(int i = 0; i < visits.length; i++) {
+        if(visits[i] == 0 && rank-- == 0) {
+          return i;
+        }
+      }
+    }
+    var range = Math.max(1, max - min);
+    var best = 0;
+    var bestvalue = Double.NEGATIVE_INFINITY;
+    for(int i = 0; i < visits.length; i++) {
+      var mean = (rewards[i] / visits[i] - min) / range;
+      var value = mean + EXPLORATION * Math.sqrt(Math.log(iteration) / visits[i]);
+      if(value > bestvalue) {
+        bestvalue = value;
+        best = i;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Plays a move on a copy of the board, then random tiles for the next turns.
+   *
+   * @return the score of the board at the end of the playout
+   */
+  private int playout(Game game, Board env, CartdScoreLandscape landscapes, Move move, int turns, SplittableRandom searchrandom) {
+    var copy = env.copy();
+    apply(copy, game.getChoiceTile()[move.choice()], game.getChoiceToken()[move.choice()], move, game.getTypeTile());
+    var alltiles = game.getAllTiles();
+    for(int turn = 0; turn < turns; turn++) {
+      var model = alltiles.get(searchrandom.nextInt(alltiles.size()));
+      var tile = new Tile(model.getType());
+      var istilesquare = game.getTypeTile();
+      var position = searchrandom.nextInt(copy.frontierSize(istilesquare));
+      if(!istilesquare) {
+        rotate(tile, searchrandom.nextInt(6));
+      }
+      placed(copy.tilePlacement(tile, copy.frontierX(position, istilesquare), copy.frontierY(position, istilesquare), istilesquare));
+      var animal = ANIMALS[searchrandom.nextInt(ANIMALS.length)];
+      if(copy.faunaTargetCount(animal) > 0) {
+        var target = searchrandom.nextInt(copy.faunaTargetCount(animal));
+        placed(copy.faunaTokenPlacement(new FaunaToken(animal), copy.faunaTargetX(animal, target), copy.faunaTargetY(animal, target)));
+      }
+    }
+    return score(copy, landscapes);
+  }
+
+  /**
+   * Ranks the moves of the turn by the score they give immediately and keeps the best ones,
+   * the moves found when the deadline is reached being kept if there is at least one.
+   */
+  private List<Candidate> candidates(Game game, Board env, CartdScoreLandscape landscapes, long deadline) {
+    var istilesquare = game.getTypeTile();
+    var positions = frontier(env, istilesquare);
+    var placements = new ArrayList<Candidate>();
+    var seen = new HashSet<Placement>();
+    for(int choice = 0; choice < game.getChoiceTile().length; choice++) {
+      var tile = game.getChoiceTile()[choice];
+      if(tile == null) {
+        continue;
+      }
+      var token = game.getChoiceToken()[choice];
+      var orientations = (istilesquare || tile.getLandscape2() == null) ? 1 : 6;
+      var ranked = new ArrayList<Candidate>(positions.size() * orientations);
+      for(var position : positions) {
+        for(int rotation = 0; rotation < orientations; rotation++) {
+          ranked.add(new Candidate(new Move(choice, position.x(), position.y(), rotation, null),
+              matchingEdges(env, tile, position.x(), position.y(), rotation, istilesquare)));
+        }
+      }
+      ranked.sort(Comparator.comparingInt(Candidate::score).reversed());
+      for(var placement : ranked.subList(0, Math.min(MAX_RANKED_PLACEMENTS, ranked.size()))) {
+        if(!placements.isEmpty() && System.nanoTime() >= deadline) {
+          break;
+        }
+        var copy = env.copy();
+        apply(copy, tile, null, placement.move(), istilesquare);
+        if(seen.add(new Placement(copy.zobristHash(), token))) {
+          placements.add(new Candidate(placement.move(), landscapes.points(copy)));
+        }
+      }
+    }
+    placements.sort(Comparator.comparingInt(Candidate::score).reversed());
+    var moves = new ArrayList<Candidate>();
+    for(var placement : placements.subList(0, Math.min(MAX_TILE_CANDIDATES, placements.size()))) {
+      var move = placement.move();
+      var tile = game.getChoiceTile()[move.choice()];
+      var token = game.getChoiceToken()[move.choice()];
+      var copy = env.copy();
+      apply(copy, tile, null, move, istilesquare);
+      moves.add(new Candidate(move, score(copy, landscapes)));
+      if(token == null) {
+        continue;
+      }
+      for(var target : targets(copy, token)) {
+        if(System.nanoTime() >= deadline) {
+          break;
+        }
+        var withtoken = new Move(move.choice(), move.tilex(), move.tiley(), move.rotation(), target);
+        var tokencopy = env.copy();
+        apply(tokencopy, tile, token, withtoken, istilesquare);
+        moves.add(new Candidate(withtoken, score(tokencopy, landscapes)));
+      }
+    }
+    moves.sort(Comparator.comparingInt(Candidate::score).reversed());
+    return List.copyOf(moves.subList(0, Math.min(MAX_MOVES, moves.size())));
+  }
+
+  /**
+   * Plays a move on a board, with a copy of the tile so the options of the game are not modified.
+   */
+  private static void apply(Board env, Tile tile, FaunaToken token, Move move, boolean istilesquare) {
+    var copy = tile.copy();
+    if(!istilesquare) {
+      rotate(copy, move.rotation());
+    }
+    placed(env.tilePlacement(copy, move.tilex(), move.tiley(), istilesquare));
+    if(token != null && move.token() != null) {
+      placed(env.faunaTokenPlacement(token, move.token().x(), move.token().y()));
+    }
+  }
+
+  /**
+   * Checks that a placement chosen among the free positions of the board has been done.
+   */
+  private static void placed(PlacementResult result) {
+    if(!result.isPlaced()) {
+      throw new IllegalStateException("Placement impossible : " + result);
+    }
+  }
+
+  /**
+   * Counts the edges of a tile matching the landscapes of its neighbors if it was placed at a position,
+   * the way the corridors of the board connect the tiles, without modifying the board.
+   */
+  private static int matchingEdges(Board env, Tile tile, int x, int y, int rotation, boolean istilesquare) {
+    var topology = Topology.of(istilesquare);
+    var type = tile.getType();
+    var matches = 0;
+    for(int direction = 0; direction < topology.degree(); direction++) {
+      var neighbor = env.tileAt(x + topology.dx(direction), y + topology.dy(direction));
+      if(neighbor == null) {
+        continue;
+      }
+      if(istilesquare) {
+        if(neighbor.getLandscape1() == type.landscape1()) {
+          matches++;
+        }
+      }else if(neighbor.getEdge(topology.opposite(direction)) == type.edge(direction, rotation)) {
+        matches++;
+      }
+    }
+    return matches;
+  }
+
+  private static void rotate(Tile tile, int rotation) {
+    for(int i = 0; i < rotation; i++) {
+      tile.hexagonalRotation();
+    }
+  }
+
+  /**
+   * Computes the score of a board with the scoring cards and the landscapes.
+   */
+  private int score(Board env, CartdScoreLandscape landscapes) {
+    return cards.points(env) + landscapes.points(env);
+  }
+
+  /**
+   * Gets the positions where a tile can be added.
+   */
+  private static List<Pos> frontier(Board env, boolean istilesquare) {
+    var positions = new ArrayList<Pos>(env.frontierSize(istilesquare));
+    for(int i = 0; i < env.frontierSize(istilesquare); i++) {
+      positions.add(new Pos(env.frontierX(i, istilesquare), env.frontierY(i, istilesquare)));
+    }
+    return positions;
+  }
+
+  /**
+   * Gets the positions of the tiles accepting a fauna token.
+   */
+  private static List<Pos> targets(Board env, FaunaToken token) {
+    var animal = token.token();
+    var positions = new ArrayList<Pos>(env.faunaTargetCount(animal));
+    for(int i = 0; i < env.faunaTargetCount(animal); i++) {
+      positions.add(new Pos(env.faunaTargetX(animal, i), env.faunaTargetY(animal, i)));
+    }
+    return positions;
+  }
+}
@@ -0,0 +1,93 @@
+package simulation;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+import card.Card;
+import card.ManagementCard;
+import card.ScoringPhase;
+import game.Game;
+import game.PlayerStrategy;
+import player.ManagementPlayers;
+import player.Player;
+
+/**
+ * Plays a complete game without console nor graphic display.
+ * <p>
+ * Every player is controlled by a {@link PlayerStrategy}. The game follows the
+ * same steps as a game in the terminal: 20 rounds, the fauna tokens being checked
+ * before each turn, then the scoring cards and the majority bonus are counted.
+ * </p>
+ */
+public class HeadlessGame {
+  
+  private final boolean istilesquare;
+  private final List<Card> cards;
+  private final List<PlayerStrategy> strategies;
+  private final long seed;
+  
+  /**
+   * Creates a game.
+   * 
+   * @param istilesquare true to play with square tiles, false with hexagonal tiles
+   * @param cards the scoring cards of the game
+   * @param strategies the strategy of each player, between 1 and 4 players
+   * @param seed the seed used to shuffle the tiles and the fauna tokens
+   */
+  public HeadlessGame(boolean istilesquare, List<Card> cards, List<PlayerStrategy> strategies, long seed) {
+    this.cards = List.copyOf(cards);
+    this.strategies = List.copyOf(strategies);
+    if(strategies.isEmpty() || strategies.size() > 4) {
+      throw new IllegalArgumentException("Le nombre de joueurs doit etre entre 1 et 4");
+    }
+    this.istilesquare = istilesquare;
+    this.seed = seed;
+  }
+  
+  /**
+   * Plays the game until the end.
+   * 
+   * @return the final score of each player, in the order of the strategies
+   * @throws IOException if the tiles cannot be loaded
+   * @throws IllegalStateException if a strategy chooses an invalid position for a tile
+   */
+  public int[] play() throws IOException {
+    var game = new Game(istilesquare, seed);
+    var players = new ManagementPlayers();
+    var managementcard = new ManagementCard();
+    for(int i = 0; i < strategies.size(); i++) {
+      players.add(new Player("Joueur " + (i + 1), 5));
+    }
+    for(var card : cards) {
+      managementcard.addCard(card);
+    }
+    game.initializeGame(players.getNbPlayer());
+    for(int round = 0; round < Game.NB_ROUNDS; round++) {
+      for(int i = 0; i < players.getNbPlayer(); i++) {
+        performTurn(game, players.getPlayerI(i), strategies.get(i));
+      }
+    }
+    new ScoringPhase().score(managementcard, players, istilesquare);
+    var scores = new int[players.getNbPlayer()];
+    for(int i = 0; i < scores.length; i++) {
+      scores[i] = players.getPlayerI(i).getScore();
+    }
+    return scores;
+  }
+  
+  /**
+   * Plays the turn of a player.
+   * 
+   * @param game the game being played
+   * @param player the player who plays
+   * @param strategy the strategy of the player
+   */
+  private void performTurn(Game game, Player player, PlayerStrategy strategy) {
+    game.changeChoiceFaunaToken(animal -> strategy.redraw(game, player, animal));
+    var move = Objects.requireNonNull(strategy.chooseMove(game, player));
+    if(!game.playTurn(player, move.choice(), move.tilex(), move.tiley(), move.rotation(), move.token())) {
+      throw new IllegalStateException("Coup invalide pour " + player.getNom() + " : " + move);
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package simulation;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+import game.Game;
+import game.Move;
+import game.PlayerStrategy;
+import model.Animal;
+import model.Pos;
+import player.Player;
+
+/**
+ * Strategy choosing a random option, a random valid position for the tile and
+ * a random tile accepting the fauna token.
+ */
+public class RandomStrategy implements PlayerStrategy {
+  private final SplittableRandom random;
+
+  /**
+   * Creates a random strategy.
+   * 
+   * @param seed the seed of the random choices
+   */
+  public RandomStrategy(long seed) {
+    random = new SplittableRandom(seed);
+  }
+
+  @Override
+  public Move chooseMove(Game game, Player player) {
+    Objects.requireNonNull(game);
+    Objects.requireNonNull(player);
+    var env = player.getEnv();
+    var istilesquare = game.getTypeTile();
+    var options = new ArrayList<Integer>();
+    for(int i = 0; i < game.getChoiceTile().length; i++) {
+      if(game.getChoiceTile()[i] != null) {
+        options.add(i);
+      }
+    }
+    var choice = options.get(random.nextInt(options.size()));
+    var index = random.nextInt(env.frontierSize(istilesquare));
+    var tile = new Pos(env.frontierX(index, istilesquare), env.frontierY(index, istilesquare));
+    var rotation = istilesquare ? 0 : random.nextInt(6);
+    var token = game.getChoiceToken()[choice];
+    var tokens = new ArrayList<Pos>();
+    if(token != null) {
+      var animal = token.token();
+      for(int i = 0; i < env.faunaTargetCount(animal); i++) {
+        tokens.add(new Pos(env.faunaTargetX(animal, i), env.faunaTargetY(animal, i)));
+      }
+      if(game.getChoiceTile()[choice].PossiblePlaceFT(token)) {
+        tokens.add(tile);
+      }
+    }
+    var position = tokens.isEmpty() ? null : tokens.get(random.nextInt(tokens.size()));
+    return new Move(choice, tile.x(), tile.y(), rotation, position);
+  }
+
+  @Override
+  public boolean redraw(Game game, Player player, Animal animal) {
+    return random.nextBoolean();
+  }
+}
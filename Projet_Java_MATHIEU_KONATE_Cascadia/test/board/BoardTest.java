@@ -0,0 +1,201 @@
+package board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import model.Animal;
+import model.Landscape;
+import model.Pos;
+
+public class BoardTest {
+  private static final int NB_TILES = 40;
+
+  /**
+   * Creates a board holding a single random tile of the catalog.
+   */
+  private static Board start(List<TileType> types, Random random) {
+    var board = new Board(5);
+    board.setPlateau(Map.of(new Pos(0, 0), new Tile(types.get(random.nextInt(types.size())))));
+    return board;
+  }
+
+  /**
+   * Adds a random tile of the catalog, randomly rotated, next to the tiles of the board.
+   */
+  private static void addRandomTile(Board board, List<TileType> types, Random random, boolean istilesquare) {
+    var tile = new Tile(types.get(random.nextInt(types.size())));
+    if(!istilesquare) {
+      for(var rotation = random.nextInt(6); rotation > 0; rotation--) {
+        tile.hexagonalRotation();
+      }
+    }
+    var index = random.nextInt(board.frontierSize(istilesquare));
+    var x = board.frontierX(index, istilesquare);
+    var y = board.frontierY(index, istilesquare);
+    assertEquals(PlacementResult.PLACED, board.tilePlacement(tile, x, y, istilesquare));
+  }
+
+  /**
+   * Gets the positions of the tiles of a board.
+   */
+  private static List<Pos> positions(Board board) {
+    var positions = new ArrayList<Pos>();
+    for(var entry : board.getEnv().entrySet()) {
+      if(entry.getValue() != null) {
+        positions.add(entry.getKey());
+      }
+    }
+    return positions;
+  }
+
+  /**
+   * Computes the largest corridor of a landscape with a flood fill of the whole board.
+   */
+  private static int floodFillLargestCorridor(Board board, Landscape landscape, boolean istilesquare) {
+    var topology = Topology.of(istilesquare);
+    var visited = new HashSet<Pos>();
+    var largest = 0;
+    for(var start : positions(board)) {
+      var tile = board.tileAt(start.x(), start.y());
+      var inside = istilesquare ? tile.getLandscape1() == landscape
+          : tile.getLandscape1() == landscape || tile.getLandscape2() == landscape;
+      if(!inside || !visited.add(start)) {
+        continue;
+      }
+      var size = 0;
+      var queue = new ArrayDeque<Pos>(List.of(start));
+      while(!queue.isEmpty()) {
+        var pos = queue.poll();
+        var current = board.tileAt(pos.x(), pos.y());
+        size++;
+        for(int direction = 0; direction < topology.degree(); direction++) {
+          var next = new Pos(pos.x() + topology.dx(direction), pos.y() + topology.dy(direction));
+          var neighbor = board.tileAt(next.x(), next.y());
+          if(neighbor == null) {
+            continue;
+          }
+          var connected = istilesquare
+              ? neighbor.getLandscape1() == landscape
+              : current.getEdge(direction) == landscape && neighbor.getEdge(topology.opposite(direction)) == landscape;
+          if(connected && visited.add(next)) {
+            queue.add(next);
+          }
+        }
+      }
+      largest = Math.max(largest, size);
+    }
+    return largest;
+  }
+
+  /**
+   * Computes the groups of connected tokens of an animal with a flood fill of the whole board.
+   */
+  private static Set<Set<Pos>> floodFillFaunaGroups(Board board, Animal animal, boolean istilesquare) {
+    var topology = Topology.of(istilesquare);
+    var visited = new HashSet<Pos>();
+    var groups = new HashSet<Set<Pos>>();
+    for(var start : positions(board)) {
+      var token = board.tileAt(start.x(), start.y()).getfaunatoken();
+      if(token == null || token.token() != animal || !visited.add(start)) {
+        continue;
+      }
+      var group = new HashSet<Pos>();
+      var queue = new ArrayDeque<Pos>(List.of(start));
+      while(!queue.isEmpty()) {
+        var pos = queue.poll();
+        group.add(pos);
+        for(int direction = 0; direction < topology.degree(); direction++) {
+          var next = new Pos(pos.x() + topology.dx(direction), pos.y() + topology.dy(direction));
+          var neighbor = board.tileAt(next.x(), next.y());
+          if(neighbor != null && neighbor.getfaunatoken() != null && neighbor.getfaunatoken().token() == animal
+              && visited.add(next)) {
+            queue.add(next);
+          }
+        }
+      }
+      groups.add(group);
+    }
+    return groups;
+  }
+
+  private static void assertFaunaGroups(Board board, boolean istilesquare) {
+    for(var animal : Animal.values()) {
+      var expected = floodFillFaunaGroups(board, animal, istilesquare);
+      var groups = board.faunaGroups(animal, istilesquare);
+      var actual = new HashSet<Set<Pos>>();
+      for(var group : groups) {
+        actual.add(Set.copyOf(group));
+      }
+      assertEquals(expected, actual, animal.toString());
+      assertEquals(expected.size(), groups.size(), animal.toString());
+      for(var group : expected) {
+        for(var pos : group) {
+          assertEquals(group.size(), board.faunaGroupSize(pos.x(), pos.y(), istilesquare), animal + " at " + pos);
+        }
+      }
+    }
+  }
+
+  private static void assertCorridors(Board board, boolean istilesquare) {
+    for(var landscape : Landscape.values()) {
+      assertEquals(floodFillLargestCorridor(board, landscape, istilesquare), board.largestCorridor(landscape, istilesquare),
+          landscape + " after " + board.getNbTiles() + " tiles");
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void largestCorridorMatchesFloodFill(boolean istilesquare) throws IOException {
+    var types = TileCatalog.tiles(istilesquare ? TileCatalog.SQUARE_TILES : TileCatalog.HEXAGONAL_TILES, istilesquare);
+    for(long seed = 0; seed < 20; seed++) {
+      var random = new Random(seed);
+      var board = start(types, random);
+      for(int i = 0; i < NB_TILES; i++) {
+        addRandomTile(board, types, random, istilesquare);
+        assertCorridors(board, istilesquare);
+      }
+      if(!istilesquare) {
+        var positions = positions(board);
+        for(int i = 0; i < 10; i++) {
+          var pos = positions.get(random.nextInt(positions.size()));
+          board.rotateTile(pos.x(), pos.y());
+          assertCorridors(board, istilesquare);
+        }
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void faunaGroupsMatchFloodFill(boolean istilesquare) throws IOException {
+    var types = TileCatalog.tiles(istilesquare ? TileCatalog.SQUARE_TILES : TileCatalog.HEXAGONAL_TILES, istilesquare);
+    var animals = Animal.values();
+    for(long seed = 0; seed < 20; seed++) {
+      var random = new Random(seed);
+      var board = start(types, random);
+      for(int i = 0; i < NB_TILES; i++) {
+        addRandomTile(board, types, random, istilesquare);
+        var animal = animals[random.nextInt(animals.length)];
+        var count = board.faunaTargetCount(animal);
+        if(count > 0) {
+          var index = random.nextInt(count);
+          var x = board.faunaTargetX(animal, index);
+          var y = board.faunaTargetY(animal, index);
+          assertEquals(PlacementResult.PLACED, board.faunaTokenPlacement(new FaunaToken(animal), x, y));
+        }
+        assertFaunaGroups(board, istilesquare);
+      }
+    }
+  }
+}
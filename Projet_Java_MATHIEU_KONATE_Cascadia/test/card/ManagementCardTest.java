@@ -0,0 +1,105 @@
+package card;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import board.Board;
+import board.FaunaToken;
+import board.PlacementResult;
+import board.Tile;
+import board.TileCatalog;
+import model.Animal;
+import model.Landscape;
+import model.Pos;
+
+public class ManagementCardTest {
+  private static final int NB_TILES = 40;
+
+  /**
+   * Creates a board of random tiles of the catalog holding random fauna tokens.
+   */
+  private static Board randomBoard(boolean istilesquare, Random random) throws IOException {
+    var types = TileCatalog.tiles(istilesquare ? TileCatalog.SQUARE_TILES : TileCatalog.HEXAGONAL_TILES, istilesquare);
+    var animals = Animal.values();
+    var board = new Board(5);
+    board.setPlateau(Map.of(new Pos(0, 0), new Tile(types.get(random.nextInt(types.size())))));
+    for(int i = 0; i < NB_TILES; i++) {
+      var tile = new Tile(types.get(random.nextInt(types.size())));
+      var index = random.nextInt(board.frontierSize(istilesquare));
+      assertEquals(PlacementResult.PLACED,
+          board.tilePlacement(tile, board.frontierX(index, istilesquare), board.frontierY(index, istilesquare), istilesquare));
+      var animal = animals[random.nextInt(animals.length)];
+      var count = board.faunaTargetCount(animal);
+      if(count > 0) {
+        var target = random.nextInt(count);
+        assertEquals(PlacementResult.PLACED,
+            board.faunaTokenPlacement(new FaunaToken(animal), board.faunaTargetX(animal, target), board.faunaTargetY(animal, target)));
+      }
+    }
+    return board;
+  }
+
+  /**
+   * Creates the manager of every variant of every scoring card.
+   */
+  private static ManagementCard allCards(boolean istilesquare) {
+    var cards = new ManagementCard();
+    for(int choice = 1; choice <= 4; choice++) {
+      cards.addCard(new CardOurs(choice, istilesquare));
+      cards.addCard(new CardSaumon(choice, istilesquare));
+      cards.addCard(new CardWapiti(choice, istilesquare));
+      cards.addCard(new CardAigle(choice, istilesquare));
+      cards.addCard(new CardRenard(choice, istilesquare));
+    }
+    cards.addCard(new CardVariante(0, istilesquare));
+    cards.addCard(new CardVariante(1, istilesquare));
+    return cards;
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void evaluateAddsThePointsOfEachCard(boolean istilesquare) throws IOException {
+    var cards = allCards(istilesquare);
+    var landscapes = new CartdScoreLandscape(istilesquare);
+    for(long seed = 0; seed < 20; seed++) {
+      var board = randomBoard(istilesquare, new Random(seed));
+      var score = cards.evaluate(board);
+      for(var card : cards.getCards()) {
+        assertEquals(card.points(board), score.getCardPoints(card), card.toString());
+      }
+      assertEquals(cards.points(board), score.total());
+      landscapes.evaluate(board, score);
+      for(var landscape : Landscape.values()) {
+        assertEquals(board.largestCorridor(landscape, istilesquare), score.getLandscapePoints(landscape), landscape.toString());
+      }
+      assertEquals(cards.points(board) + landscapes.points(board), score.total());
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void pointsDoNotAllocate(boolean istilesquare) throws IOException {
+    var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    var thread = Thread.currentThread().threadId();
+    var cards = allCards(istilesquare);
+    var landscapes = new CartdScoreLandscape(istilesquare);
+    var board = randomBoard(istilesquare, new Random(7));
+    var expected = cards.points(board) + landscapes.points(board);
+    threads.getThreadAllocatedBytes(thread);
+    var before = threads.getThreadAllocatedBytes(thread);
+    var total = 0;
+    for(int i = 0; i < 100; i++) {
+      total += cards.points(board) + landscapes.points(board);
+    }
+    var allocated = threads.getThreadAllocatedBytes(thread) - before;
+    assertEquals(100 * expected, total);
+    assertEquals(0, allocated);
+  }
+}
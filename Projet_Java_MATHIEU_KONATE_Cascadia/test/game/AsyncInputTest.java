@@ -0,0 +1,79 @@
+package game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.EOFException;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncInputTest {
+
+  @Test
+  public void futuresArePendingUntilLinesArePushed() throws Exception {
+    var input = new AsyncInput();
+    var futures = new ArrayList<CompletableFuture<String>>();
+    for(int i = 0; i < 100; i++) {
+      futures.add(input.nextLine());
+    }
+    for(var future : futures) {
+      assertFalse(future.isDone());
+    }
+    var writer = Thread.ofVirtual().start(() -> {
+      for(int i = 0; i < 100; i++) {
+        input.submit("ligne " + i);
+      }
+    });
+    for(int i = 0; i < 100; i++) {
+      assertEquals("ligne " + i, futures.get(i).get(5, TimeUnit.SECONDS));
+    }
+    writer.join();
+  }
+
+  @Test
+  public void linesPushedBeforeBeingAskedAreKeptInOrder() throws Exception {
+    var input = new AsyncInput();
+    input.submit("a");
+    input.submit("b");
+    assertEquals("a", input.readLine());
+    var future = input.nextLine();
+    assertTrue(future.isDone());
+    assertEquals("b", future.get());
+    assertFalse(input.nextLine().isDone());
+  }
+
+  @Test
+  public void readLineWaitsForAnotherThread() throws Exception {
+    var input = new AsyncInput();
+    Thread.ofVirtual().start(() -> {
+      try {
+        Thread.sleep(50);
+      }catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      input.submit("plus tard");
+    });
+    assertEquals("plus tard", input.readLine());
+  }
+
+  @Test
+  public void closeEndsTheInput() throws Exception {
+    var input = new AsyncInput();
+    input.submit("derniere");
+    var first = input.nextLine();
+    var waiting = input.nextLine();
+    input.close();
+    assertEquals("derniere", first.get());
+    var exception = assertThrows(ExecutionException.class, waiting::get);
+    assertInstanceOf(EOFException.class, exception.getCause());
+    assertThrows(EOFException.class, input::readLine);
+    assertThrows(IllegalStateException.class, () -> input.submit("trop tard"));
+  }
+}
@@ -0,0 +1,174 @@
+package game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import card.CardOurs;
+import card.ManagementCard;
+import metrics.MetricsRegistry;
+import player.ManagementPlayers;
+import player.Player;
+import simulation.RandomStrategy;
+
+public class AutoSaverTest {
+  private static final int NB_PLAYERS = 2;
+
+  private final PrintStream out = System.out;
+
+  @BeforeEach
+  public void silence() {
+    System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+  }
+
+  @AfterEach
+  public void restore() {
+    System.setOut(out);
+  }
+
+  /**
+   * Plays some rounds of a game with random players, the game being saved after each turn.
+   */
+  private static void play(Game game, ManagementPlayers players, int from, int to) {
+    for(int round = from; round < to; round++) {
+      game.setRound(round);
+      for(int i = 0; i < players.getNbPlayer(); i++) {
+        var player = players.getPlayerI(i);
+        var strategy = new RandomStrategy(round * NB_PLAYERS + i);
+        game.changeChoiceFaunaToken(animal -> strategy.redraw(game, player, animal));
+        var move = strategy.chooseMove(game, player);
+        assertTrue(game.playTurn(player, move.choice(), move.tilex(), move.tiley(), move.rotation(), move.token()));
+      }
+    }
+  }
+
+  private static ManagementPlayers players() throws IOException {
+    var players = new ManagementPlayers();
+    for(int i = 0; i < NB_PLAYERS; i++) {
+      players.add(new Player("J" + i, 5));
+    }
+    return players;
+  }
+
+  private static ManagementCard cards() {
+    var cards = new ManagementCard();
+    cards.addCard(new CardOurs(1, true));
+    return cards;
+  }
+
+  /**
+   * Loads the automatic save and checks it holds the last turn played.
+   */
+  private static void assertSaved(Path path, Game game, ManagementPlayers players) throws IOException {
+    var loaded = new ManagementPlayers();
+    var header = BinarySave.read(path, new ManagementCard(), loaded);
+    assertEquals(game.getRound(), header.round());
+    assertEquals(game.getSeed(), header.seed().orElseThrow());
+    assertEquals(players.getNbPlayer(), loaded.getNbPlayer());
+    for(int i = 0; i < players.getNbPlayer(); i++) {
+      var board = players.getPlayerI(i).getEnv();
+      var copy = loaded.getPlayerI(i).getEnv();
+      assertEquals(board.getNbTiles(), copy.getNbTiles());
+      assertEquals(board.zobristHash(), copy.zobristHash());
+    }
+  }
+
+  @Test
+  public void savedFileIsAlwaysComplete(@TempDir Path directory) throws Exception {
+    var path = directory.resolve(Save.AUTOSAVE_FILE);
+    var game = new Game(true, 11);
+    var players = players();
+    game.initializeGame(players.getNbPlayer());
+    var done = new AtomicBoolean();
+    var reader = Thread.ofVirtual().start(() -> {
+      while(!done.get()) {
+        try {
+          BinarySave.read(path, new ManagementCard(), new ManagementPlayers());
+        }catch (NoSuchFileException e) {
+          // not written yet
+        }catch (IOException e) {
+          throw new AssertionError("Sauvegarde incomplete", e);
+        }
+      }
+    });
+    try(var autosaver = new AutoSaver(path, game, cards(), players)) {
+      game.setAutoSaver(autosaver);
+      play(game, players, 0, Game.NB_ROUNDS);
+    }
+    done.set(true);
+    reader.join();
+    assertSaved(path, game, players);
+    assertEquals(Game.NB_ROUNDS - 1, game.getRound());
+    try(var files = Files.list(directory)) {
+      assertEquals(1, files.count());
+    }
+  }
+
+  @Test
+  public void burstOfSavesIsWrittenOnce(@TempDir Path directory) throws Exception {
+    var path = directory.resolve(Save.AUTOSAVE_FILE);
+    var game = new Game(false, 12);
+    var players = players();
+    game.initializeGame(players.getNbPlayer());
+    var writes = MetricsRegistry.global().histogram("sauvegarde.ecriture");
+    var busy = new CountDownLatch(1);
+    var writer = Executors.newSingleThreadExecutor();
+    writer.execute(() -> {
+      try {
+        busy.await();
+      }catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    var before = writes.count();
+    try(var autosaver = new AutoSaver(path, game, cards(), players, writer)) {
+      game.setAutoSaver(autosaver);
+      play(game, players, 0, 5);
+      assertFalse(Files.exists(path));
+      busy.countDown();
+    }
+    assertEquals(1, writes.count() - before);
+    assertSaved(path, game, players);
+  }
+
+  @Test
+  public void resumedGameSavesItsRound(@TempDir Path directory) throws Exception {
+    var path = directory.resolve(Save.AUTOSAVE_FILE);
+    var game = new Game(true, 13);
+    var players = players();
+    game.initializeGame(players.getNbPlayer());
+    try(var autosaver = new AutoSaver(path, game, cards(), players)) {
+      game.setAutoSaver(autosaver);
+      play(game, players, 0, 3);
+    }
+    var save = new Save(0, new ManagementCard(), new ManagementPlayers(), true);
+    assertEquals(2, save.load(path.toString()));
+
+    var resumed = new Game(save.getTypeTile(), save.getSeed());
+    resumed.setRound(save.getRound() + 1);
+    resumed.initializeGame(players.getNbPlayer());
+    try(var autosaver = new AutoSaver(path, resumed, cards(), players)) {
+      resumed.setAutoSaver(autosaver);
+      var player = players.getPlayerI(0);
+      var strategy = new RandomStrategy(0);
+      var move = strategy.chooseMove(resumed, player);
+      assertTrue(resumed.playTurn(player, move.choice(), move.tilex(), move.tiley(), move.rotation(), move.token()));
+    }
+    assertEquals(3, new Save(0, new ManagementCard(), new ManagementPlayers(), true).load(path.toString()));
+  }
+}
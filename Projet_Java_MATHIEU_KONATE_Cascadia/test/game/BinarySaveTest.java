@@ -0,0 +1,141 @@
+package game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import card.CardAigle;
+import card.CardOurs;
+import card.CardRenard;
+import card.CardSaumon;
+import card.CardWapiti;
+import card.ManagementCard;
+import player.ManagementPlayers;
+import player.Player;
+import simulation.RandomStrategy;
+
+public class BinarySaveTest {
+  private static final Pattern EMPTY_CELL = Pattern.compile("-?\\d+,-?\\d+,null");
+
+  private final PrintStream out = System.out;
+
+  @BeforeEach
+  public void silence() {
+    System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+  }
+
+  @AfterEach
+  public void restore() {
+    System.setOut(out);
+  }
+
+  /**
+   * Plays some rounds of a game with random players.
+   */
+  private static ManagementPlayers play(boolean istilesquare, long seed, int rounds) throws IOException {
+    var game = new Game(istilesquare, seed);
+    var players = new ManagementPlayers();
+    var strategies = new RandomStrategy[3];
+    for(int i = 0; i < strategies.length; i++) {
+      players.add(new Player("J" + i, 5));
+      strategies[i] = new RandomStrategy(seed + i);
+    }
+    game.initializeGame(players.getNbPlayer());
+    for(int round = 0; round < rounds; round++) {
+      for(int i = 0; i < players.getNbPlayer(); i++) {
+        var player = players.getPlayerI(i);
+        var strategy = strategies[i];
+        game.changeChoiceFaunaToken(animal -> strategy.redraw(game, player, animal));
+        var move = strategy.chooseMove(game, player);
+        game.playTurn(player, move.choice(), move.tilex(), move.tiley(), move.rotation(), move.token());
+      }
+    }
+    return players;
+  }
+
+  private static ManagementCard cards(boolean istilesquare) {
+    var cards = new ManagementCard();
+    cards.addCard(new CardOurs(2, istilesquare));
+    cards.addCard(new CardSaumon(4, istilesquare));
+    cards.addCard(new CardAigle(1, istilesquare));
+    cards.addCard(new CardRenard(3, istilesquare));
+    cards.addCard(new CardWapiti(1, istilesquare));
+    return cards;
+  }
+
+  /**
+   * Reads a text save without its empty cells, which depend on where the cells of the board start.
+   */
+  private static List<String> withoutEmptyCells(Path path) throws IOException {
+    return Files.readAllLines(path).stream().filter(line -> !EMPTY_CELL.matcher(line).matches()).toList();
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void textBinaryTextRoundTrip(boolean istilesquare, @TempDir Path directory) throws IOException {
+    var text = directory.resolve("partie.txt");
+    var binary = directory.resolve("partie.bin");
+    var copy = directory.resolve("copie.txt");
+    new Save(12, cards(istilesquare), play(istilesquare, 3, 12), istilesquare, 3).saveInFile(text.toString(), false);
+    assertFalse(BinarySave.isBinary(text));
+
+    var fromtext = new Save(0, new ManagementCard(), new ManagementPlayers(), !istilesquare);
+    fromtext.load(text.toString());
+    fromtext.saveInFile(binary.toString(), true);
+    assertTrue(BinarySave.isBinary(binary));
+    assertTrue(Files.size(binary) < Files.size(text));
+
+    var players = new ManagementPlayers();
+    var frombinary = new Save(0, new ManagementCard(), players, !istilesquare);
+    assertEquals(12, frombinary.load(binary.toString()));
+    assertEquals(istilesquare, frombinary.getTypeTile());
+    assertEquals(3, frombinary.getSeed());
+    assertEquals(3, players.getNbPlayer());
+    frombinary.saveInFile(copy.toString(), false);
+
+    assertEquals(withoutEmptyCells(text), withoutEmptyCells(copy));
+    assertEquals(Files.readAllLines(text).size(), Files.readAllLines(copy).size());
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void loadedBoardsKeepTheirTiles(boolean istilesquare, @TempDir Path directory) throws IOException {
+    var players = play(istilesquare, 5, 20);
+    for(var binary : new boolean[] {false, true}) {
+      var file = directory.resolve(binary ? "partie.bin" : "partie.txt");
+      new Save(20, cards(istilesquare), players, istilesquare, 5).saveInFile(file.toString(), binary);
+      var loaded = new ManagementPlayers();
+      new Save(0, new ManagementCard(), loaded, istilesquare).load(file.toString());
+      for(int i = 0; i < players.getNbPlayer(); i++) {
+        var board = players.getPlayerI(i).getEnv();
+        var copy = loaded.getPlayerI(i).getEnv();
+        assertEquals(board.getNbTiles(), copy.getNbTiles());
+        assertEquals(board.zobristHash(), copy.zobristHash());
+        for(var entry : board.getEnv().entrySet()) {
+          var tile = entry.getValue();
+          if(tile == null) {
+            continue;
+          }
+          var other = copy.tileAt(entry.getKey().x(), entry.getKey().y());
+          assertEquals(tile.getType(), other.getType());
+          assertEquals(tile.getAngle1(), other.getAngle1());
+          assertEquals(tile.getfaunatoken(), other.getfaunatoken());
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import card.ManagementCard;
+import player.ManagementPlayers;
+import player.Player;
+import simulation.FlatMonteCarloStrategy;
+
+public class GameLogTest {
+
+  /**
+   * Plays a whole terminal game with computer players, driven by scripted answers.
+   */
+  private static Game play(Path journal, boolean istilesquare, long seed, ManagementPlayers players) throws IOException {
+    var cards = new ManagementCard();
+    var game = new Game(istilesquare, seed);
+    game.setComputerStrategy(computerseed -> new FlatMonteCarloStrategy(cards.getCards(), computerseed));
+    var log = GameLog.create(journal, game, players);
+    game.initializeGame(players.getNbPlayer());
+    var answers = new ArrayList<String>();
+    answers.add("1");                                   // family variant
+    answers.add(String.valueOf(players.getNbPlayer())); // every player is a computer
+    for(int i = 0; i < 20; i++) {
+      answers.add("n");                                 // do not save and quit
+    }
+    var interaction = new Interaction(new ScriptedInput(answers), new PrintStream(OutputStream.nullOutputStream()));
+    game.startGame(players, cards, game, interaction, 1);
+    log.flush();
+    return game;
+  }
+
+  private static ManagementPlayers players(int nbplayers) throws IOException {
+    var players = new ManagementPlayers();
+    for(int i = 0; i < nbplayers; i++) {
+      players.add(new Player("J" + i, 5));
+    }
+    return players;
+  }
+
+  @Test
+  public void replayGameWithComputerPlayers(@TempDir Path directory) throws IOException {
+    var journal = directory.resolve("partie.log");
+    var players = players(2);
+    play(journal, false, 42, players);
+    var replay = GameLog.replay(journal, Integer.MAX_VALUE);
+    assertEquals(40, replay.turns());
+    for(int i = 0; i < players.getNbPlayer(); i++) {
+      var board = players.getPlayerI(i).getEnv();
+      var replayed = replay.players().getPlayerI(i).getEnv();
+      assertEquals(board.getNbTiles(), replayed.getNbTiles());
+      assertEquals(board.zobristHash(), replayed.zobristHash());
+      assertEquals(board.toString(), replayed.toString());
+    }
+  }
+
+  @Test
+  public void replayStopsAfterTheRequestedTurns(@TempDir Path directory) throws IOException {
+    var journal = directory.resolve("partie.log");
+    play(journal, true, 7, players(2));
+    var replay = GameLog.replay(journal, 5);
+    assertEquals(5, replay.turns());
+    assertEquals(3 + 3, replay.players().getPlayerI(0).getEnv().getNbTiles());
+    assertEquals(3 + 2, replay.players().getPlayerI(1).getEnv().getNbTiles());
+    assertEquals(true, Files.size(journal) > 0);
+  }
+}
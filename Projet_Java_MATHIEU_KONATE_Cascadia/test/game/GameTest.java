@@ -0,0 +1,47 @@
+package game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import metrics.MetricsRegistry;
+import player.Player;
+import simulation.RandomStrategy;
+
+public class GameTest {
+  private final PrintStream out = System.out;
+
+  @BeforeEach
+  public void silence() {
+    System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+  }
+
+  @AfterEach
+  public void restore() {
+    System.setOut(out);
+  }
+
+  @Test
+  public void turnsRecordTheirAllocatedBytes() throws IOException {
+    var allocations = MetricsRegistry.global().sizes("tour.allocation");
+    var game = new Game(true, 21);
+    game.initializeGame(1);
+    var player = new Player("J0", 5);
+    var before = allocations.count();
+    for(int round = 0; round < 5; round++) {
+      var strategy = new RandomStrategy(round);
+      game.changeChoiceFaunaToken(animal -> strategy.redraw(game, player, animal));
+      var move = strategy.chooseMove(game, player);
+      assertTrue(game.playTurn(player, move.choice(), move.tilex(), move.tiley(), move.rotation(), move.token()));
+    }
+    assertEquals(5, allocations.count() - before);
+    assertTrue(allocations.max() > 0);
+  }
+}
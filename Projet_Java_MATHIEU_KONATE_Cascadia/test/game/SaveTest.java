@@ -0,0 +1,37 @@
+package game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SaveTest {
+
+  @Test
+  public void latestSaveIsLoaded(@TempDir Path directory) throws IOException {
+    var save = directory.resolve(Save.SAVE_FILE);
+    var autosave = directory.resolve(Save.AUTOSAVE_FILE);
+    assertEquals(save, Save.latestSave(save, autosave));
+
+    Files.writeString(autosave, "");
+    assertEquals(autosave, Save.latestSave(save, autosave));
+
+    Files.writeString(save, "");
+    var now = Instant.now();
+    Files.setLastModifiedTime(save, FileTime.from(now));
+    Files.setLastModifiedTime(autosave, FileTime.from(now.minusSeconds(60)));
+    assertEquals(save, Save.latestSave(save, autosave));
+
+    Files.setLastModifiedTime(autosave, FileTime.from(now.plusSeconds(60)));
+    assertEquals(autosave, Save.latestSave(save, autosave));
+
+    Files.setLastModifiedTime(autosave, FileTime.from(now));
+    assertEquals(save, Save.latestSave(save, autosave));
+  }
+}
@@ -0,0 +1,82 @@
+package server;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+public class GameServerTest {
+
+  private static void assertWinner(List<String> lines) {
+    assertTrue(lines.stream().anyMatch(line -> line.contains("le gagnant est")), String.join("\n", lines));
+  }
+
+  @Test
+  public void twoClientsPlayAGame() throws Exception {
+    try(var server = new GameServer(0, 2, 1); var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      server.start();
+      var address = new InetSocketAddress("localhost", server.port());
+      var first = executor.submit(new ScriptedClient(address, ScriptedClient.randomPlayer("joueur1", 1)));
+      var second = executor.submit(new ScriptedClient(address, ScriptedClient.randomPlayer("joueur2", 2)));
+      assertWinner(first.get(60, TimeUnit.SECONDS));
+      assertWinner(second.get(60, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  public void playerLeavingTheLobbyIsNotSeated() throws Exception {
+    try(var server = new GameServer(0, 3, 2); var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      server.start();
+      var address = new InetSocketAddress("localhost", server.port());
+      var welcomed = new CountDownLatch(1);
+      var notified = new CountDownLatch(1);
+      var player = ScriptedClient.randomPlayer("joueur1", 1);
+      Function<String, String> script = line -> {
+        if(line.startsWith("Bienvenue")) {
+          welcomed.countDown();
+        }
+        if(line.contains("a quitte la table")) {
+          notified.countDown();
+        }
+        return player.apply(line);
+      };
+      var first = executor.submit(new ScriptedClient(address, script));
+      assertTrue(welcomed.await(10, TimeUnit.SECONDS));
+      leaveAfterWelcome(address, "parti");
+      assertTrue(notified.await(10, TimeUnit.SECONDS));
+      var second = executor.submit(new ScriptedClient(address, ScriptedClient.randomPlayer("joueur2", 2)));
+      var third = executor.submit(new ScriptedClient(address, ScriptedClient.randomPlayer("joueur3", 3)));
+      assertWinner(first.get(60, TimeUnit.SECONDS));
+      assertWinner(second.get(60, TimeUnit.SECONDS));
+      assertWinner(third.get(60, TimeUnit.SECONDS));
+    }
+  }
+
+  /**
+   * Connects a player who gives their name, then disconnects once seated.
+   */
+  private static void leaveAfterWelcome(InetSocketAddress address, String name) throws IOException {
+    try(var socket = new Socket(address.getAddress(), address.getPort())) {
+      var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+      var out = new PrintStream(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+      String line;
+      while((line = reader.readLine()) != null && !line.startsWith("Bienvenue")) {
+        if(line.startsWith("Nom du joueur")) {
+          out.println(name);
+        }
+      }
+    }
+  }
+}
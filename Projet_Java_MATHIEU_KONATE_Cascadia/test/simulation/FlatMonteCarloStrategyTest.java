@@ -0,0 +1,77 @@
+package simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import board.PlacementResult;
+import card.Card;
+import card.CardAigle;
+import card.CardOurs;
+import card.CardRenard;
+import card.CardSaumon;
+import card.CardWapiti;
+import game.Game;
+import game.Move;
+import game.PlayerStrategy;
+import model.Animal;
+import player.Player;
+
+public class FlatMonteCarloStrategyTest {
+  private static final long BUDGET_MILLIS = 100;
+
+  /**
+   * Checks every move of the strategy against the options of the game and the board of the player
+   * before the game plays it.
+   */
+  private record CheckedStrategy(PlayerStrategy strategy) implements PlayerStrategy {
+    @Override
+    public Move chooseMove(Game game, Player player) {
+      var start = System.nanoTime();
+      var move = strategy.chooseMove(game, player);
+      var millis = (System.nanoTime() - start) / 1_000_000;
+      assertTrue(millis <= BUDGET_MILLIS, "coup choisi en " + millis + " ms");
+      assertNotNull(move);
+      var istilesquare = game.getTypeTile();
+      var tile = game.getChoiceTile()[move.choice()];
+      assertNotNull(tile, move.toString());
+      var copy = player.getEnv().copy();
+      var placed = tile.copy();
+      if(!istilesquare) {
+        assertTrue(move.rotation() >= 0 && move.rotation() < 6, move.toString());
+        for(int i = 0; i < move.rotation(); i++) {
+          placed.hexagonalRotation();
+        }
+      }
+      assertEquals(PlacementResult.PLACED, copy.tilePlacement(placed, move.tilex(), move.tiley(), istilesquare), move.toString());
+      var token = game.getChoiceToken()[move.choice()];
+      if(move.token() != null) {
+        assertNotNull(token, move.toString());
+        assertEquals(PlacementResult.PLACED, copy.faunaTokenPlacement(token, move.token().x(), move.token().y()), move.toString());
+      }
+      return move;
+    }
+
+    @Override
+    public boolean redraw(Game game, Player player, Animal animal) {
+      return strategy.redraw(game, player, animal);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void movesAreLegalAndWithinTheBudget(boolean istilesquare) throws IOException {
+    List<Card> cards = List.of(new CardOurs(1, istilesquare), new CardAigle(1, istilesquare), new CardRenard(1, istilesquare),
+        new CardSaumon(1, istilesquare), new CardWapiti(1, istilesquare));
+    var strategies = List.<PlayerStrategy>of(new CheckedStrategy(new FlatMonteCarloStrategy(cards, 1)),
+        new CheckedStrategy(new FlatMonteCarloStrategy(cards, 2)));
+    var scores = new HeadlessGame(istilesquare, cards, strategies, 3).play();
+    assertEquals(2, scores.length);
+  }
+}